@@ -0,0 +1,104 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FileBackedTaskManagerBenchmark {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int SUBTASKS_PER_EPIC = 10;
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000", "100000"})
+    private int storeSize;
+
+    private Path directory;
+    private Path snapshotPath;
+    private Path mutablePath;
+    private FileBackedTaskManager manager;
+    private int[] taskIds;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("kanban-bench");
+        snapshotPath = directory.resolve("snapshot.csv");
+        mutablePath = directory.resolve("mutable.csv");
+        populate(new FileBackedTaskManager(snapshotPath));
+        manager = new FileBackedTaskManager(mutablePath);
+        taskIds = populate(manager);
+        random = new SplittableRandom(SEED);
+    }
+
+    private int[] populate(FileBackedTaskManager target) {
+        int taskCount = storeSize / 2;
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new Task("Task " + i, "Description " + i, TaskStatus.NEW,
+                    BASE_TIME.plusMinutes(i * 60L), Duration.ofMinutes(30)));
+        }
+        int[] ids = target.addNewTasks(tasks).stream().mapToInt(Integer::intValue).toArray();
+        int epicCount = (storeSize - taskCount) / (SUBTASKS_PER_EPIC + 1);
+        List<Epic> epics = new ArrayList<>(epicCount);
+        for (int i = 0; i < epicCount; i++) {
+            epics.add(new Epic("Epic " + i, "Description " + i));
+        }
+        List<Subtask> subtasks = new ArrayList<>(epicCount * SUBTASKS_PER_EPIC);
+        for (int epicId : target.addNewEpics(epics)) {
+            for (int i = 0; i < SUBTASKS_PER_EPIC; i++) {
+                subtasks.add(new Subtask("Subtask " + i, "Description " + i, TaskStatus.NEW, epicId));
+            }
+        }
+        target.addNewSubtasks(subtasks);
+        return ids;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotPath);
+        Files.deleteIfExists(mutablePath);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public FileBackedTaskManager coldStartLoad() {
+        return new FileBackedTaskManager(snapshotPath);
+    }
+
+    @Benchmark
+    public Task saveAfterUpdate() {
+        int id = taskIds[random.nextInt(taskIds.length)];
+        Task task = new Task(id, "Task", "Updated", random.nextBoolean() ? TaskStatus.DONE : TaskStatus.IN_PROGRESS);
+        manager.updateTask(task);
+        return task;
+    }
+}
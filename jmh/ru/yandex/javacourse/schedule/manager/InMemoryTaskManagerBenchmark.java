@@ -0,0 +1,146 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InMemoryTaskManagerBenchmark {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final long SLOT_MINUTES = 60;
+    private static final Duration TASK_DURATION = Duration.ofMinutes(30);
+    private static final int HISTORY_WARMUP_VIEWS = 10_000;
+    private static final long SEED = 42;
+    private static final int SUGGEST_PREFIXES = 1_000;
+    private static final int SUGGEST_LIMIT = 10;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int storeSize;
+
+    private InMemoryTaskManager manager;
+    private int[] taskIds;
+    private int[] subtaskIds;
+    private int epicId;
+    private long nextSlot;
+    private SplittableRandom random;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        manager = new InMemoryTaskManager();
+        random = new SplittableRandom(SEED);
+        int taskCount = storeSize / 2;
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new Task("Task " + i, "Description", TaskStatus.NEW, slotStart(i), TASK_DURATION));
+        }
+        taskIds = manager.addNewTasks(tasks).stream().mapToInt(Integer::intValue).toArray();
+        nextSlot = taskCount;
+
+        epicId = manager.addNewEpic(new Epic("Epic", "Description"));
+        int subtaskCount = storeSize - taskCount;
+        List<Subtask> subtasks = new ArrayList<>(subtaskCount);
+        for (int i = 0; i < subtaskCount; i++) {
+            subtasks.add(new Subtask("Subtask " + i, "Description", TaskStatus.NEW, epicId));
+        }
+        subtaskIds = manager.addNewSubtasks(subtasks).stream().mapToInt(Integer::intValue).toArray();
+
+        for (int i = 0; i < HISTORY_WARMUP_VIEWS; i++) {
+            manager.getTask(randomTaskId());
+        }
+    }
+
+    private static LocalDateTime slotStart(long slot) {
+        return BASE_TIME.plusMinutes(slot * SLOT_MINUTES);
+    }
+
+    private int randomTaskId() {
+        return taskIds[random.nextInt(taskIds.length)];
+    }
+
+    @Benchmark
+    public int addNewTaskWithoutTime() {
+        return manager.addNewTask(new Task("Task", "Description", TaskStatus.NEW));
+    }
+
+    @Benchmark
+    public int addNewTaskWithTime() {
+        return manager.addNewTask(new Task("Task", "Description", TaskStatus.NEW, slotStart(nextSlot++), TASK_DURATION));
+    }
+
+    @Benchmark
+    public boolean addNewTaskWithOverlap() {
+        long slot = random.nextInt(taskIds.length);
+        try {
+            manager.addNewTask(new Task("Task", "Description", TaskStatus.NEW,
+                    slotStart(slot).plusMinutes(10), TASK_DURATION));
+            return true;
+        } catch (TimeInteractionsException exception) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public Integer addNewSubtaskIntoLargeEpic() {
+        return manager.addNewSubtask(new Subtask("Subtask", "Description", TaskStatus.NEW, epicId));
+    }
+
+    @Benchmark
+    public Subtask updateSubtask() {
+        int id = subtaskIds[random.nextInt(subtaskIds.length)];
+        TaskStatus status = random.nextBoolean() ? TaskStatus.DONE : TaskStatus.IN_PROGRESS;
+        Subtask subtask = new Subtask(id, "Subtask", "Updated", status, epicId);
+        manager.updateSubtask(subtask);
+        return subtask;
+    }
+
+    @Benchmark
+    public List<Task> getPrioritizedTasks() {
+        return manager.getPrioritizedTasks();
+    }
+
+    @Benchmark
+    public List<Subtask> getEpicSubtasks() {
+        return manager.getEpicSubtasks(epicId);
+    }
+
+    @Benchmark
+    public Task getTaskRecordsHistory() {
+        return manager.getTask(randomTaskId());
+    }
+
+    @Benchmark
+    public List<Task> getHistory() {
+        return manager.getHistory();
+    }
+
+    @Benchmark
+    public List<Task> suggestTaskNames() {
+        return manager.suggest("Task " + random.nextInt(SUGGEST_PREFIXES), SUGGEST_LIMIT);
+    }
+}
@@ -0,0 +1,67 @@
+package ru.yandex.javacourse.schedule.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CsvSerializerBenchmark {
+    private static final int POOL_SIZE = 1024;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Task[] tasks;
+    private String[] lines;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        tasks = new Task[POOL_SIZE];
+        lines = new String[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int id = i + 1;
+            tasks[i] = switch (i % 3) {
+                case 0 -> new Task(id, "Task " + id, "Description " + id, TaskStatus.NEW,
+                        BASE_TIME.plusMinutes(i * 60L), Duration.ofMinutes(30));
+                case 1 -> new Epic(id, "Epic " + id, "Description " + id);
+                default -> new Subtask(id, "Subtask " + id, "Description " + id, TaskStatus.IN_PROGRESS,
+                        BASE_TIME.plusMinutes(i * 60L), Duration.ofMinutes(45), id - 1);
+            };
+            lines[i] = CsvSerializer.taskToString(tasks[i]);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (POOL_SIZE - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public String taskToString() {
+        return CsvSerializer.taskToString(tasks[next()]);
+    }
+
+    @Benchmark
+    public Task stringToTask() {
+        return CsvSerializer.stringToTask(lines[next()]);
+    }
+}
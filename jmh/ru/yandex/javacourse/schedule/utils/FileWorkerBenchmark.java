@@ -0,0 +1,75 @@
+package ru.yandex.javacourse.schedule.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FileWorkerBenchmark {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Param({"1000", "10000", "100000"})
+    private int lineCount;
+
+    private Path directory;
+    private Path readPath;
+    private Path writePath;
+    private List<String> lines;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("kanban-bench");
+        readPath = directory.resolve("read.csv");
+        writePath = directory.resolve("write.csv");
+        lines = new ArrayList<>(lineCount + 1);
+        lines.add(CsvSerializer.buildHeader());
+        for (int i = 1; i <= lineCount; i++) {
+            lines.add(CsvSerializer.taskToString(new Task(i, "Task " + i, "Description " + i, TaskStatus.NEW,
+                    BASE_TIME.plusMinutes(i * 60L), Duration.ofMinutes(30))));
+        }
+        FileWorker.writeAllLines(readPath, lines);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readPath);
+        Files.deleteIfExists(writePath);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public List<String> readAllLines() throws IOException {
+        return FileWorker.readAllLines(readPath);
+    }
+
+    @Benchmark
+    public Path writeAllLines() throws IOException {
+        FileWorker.writeAllLines(writePath, lines);
+        return writePath;
+    }
+}
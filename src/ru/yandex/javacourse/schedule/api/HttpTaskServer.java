@@ -1,30 +1,95 @@
 package ru.yandex.javacourse.schedule.api;
 
 import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
+import ru.yandex.javacourse.schedule.api.filters.AdmissionFilter;
+import ru.yandex.javacourse.schedule.api.filters.AdmissionPolicy;
+import ru.yandex.javacourse.schedule.api.filters.DispatchFilter;
+import ru.yandex.javacourse.schedule.api.filters.MetricsFilter;
+import ru.yandex.javacourse.schedule.api.filters.WorkspaceFilter;
 import ru.yandex.javacourse.schedule.api.handlers.*;
 import ru.yandex.javacourse.schedule.api.json.GsonConfig;
+import ru.yandex.javacourse.schedule.manager.AsyncTaskManager;
 import ru.yandex.javacourse.schedule.manager.Managers;
 import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.manager.workspace.WorkspaceTaskManager;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class HttpTaskServer {
     private static final int PORT = 8080;
+    private static final String PIPELINE_PROPERTY = "kanban.pipeline";
+    private static final String ASYNC_PROPERTY = "kanban.async";
+    private static final String WORKSPACES_PROPERTY = "kanban.workspaces";
+    private static final String WORKSPACE_BUDGET_PROPERTY = "kanban.workspaces.budget";
+    private static final long DEFAULT_WORKSPACE_BUDGET = 64L * 1024 * 1024;
+    private static final String ADMISSION_READS_PROPERTY = "kanban.admission.reads";
+    private static final String ADMISSION_WRITES_PROPERTY = "kanban.admission.writes";
+    private static final String READ_THREADS_PROPERTY = "kanban.threads.reads";
+    private static final String WRITE_THREADS_PROPERTY = "kanban.threads.writes";
+    private static final String ENGINE_PROPERTY = "kanban.engine";
     private final TaskManager taskManager;
     private final Gson gson;
     private final HttpServer httpServer;
+    private final MetricsRegistry metricsRegistry;
+    private final MetricsFilter metricsFilter;
+    private final WorkspaceFilter workspaceFilter;
+    private final AdmissionPolicy admissionPolicy;
+    private final ExecutorService executor;
+    private final ServerExecutors serverExecutors;
+    private final DispatchFilter dispatchFilter;
 
     public HttpTaskServer(TaskManager taskManager, int port) throws IOException {
-        this.taskManager = taskManager;
+        this(builder(taskManager).port(port));
+    }
+
+    private HttpTaskServer(Builder builder) throws IOException {
+        AsyncTaskManager asyncTaskManager = builder.asyncTaskManager;
+        this.taskManager = builder.taskManager;
+        this.admissionPolicy = builder.admissionPolicy;
+        this.serverExecutors = builder.serverExecutors != null ? builder.serverExecutors : ServerExecutors.defaults();
+        this.dispatchFilter = new DispatchFilter(serverExecutors);
         this.gson = (GsonConfig.createGson());
-        this.httpServer = HttpServer.create(new InetSocketAddress(port), 0);
-        httpServer.createContext("/tasks", new TaskHandler(this.taskManager, gson));
-        httpServer.createContext("/subtasks", new SubtaskHandler(this.taskManager, gson));
-        httpServer.createContext("/epics", new EpicHandler(this.taskManager, gson));
-        httpServer.createContext("/history", new HistoryHandler(this.taskManager, gson));
-        httpServer.createContext("/prioritized", new PrioritizedHandler(this.taskManager, gson));
+        this.metricsRegistry = new MetricsRegistry();
+        this.metricsFilter = new MetricsFilter(metricsRegistry);
+        this.workspaceFilter = this.taskManager instanceof WorkspaceTaskManager workspaces
+                ? new WorkspaceFilter(workspaces)
+                : null;
+        this.httpServer = builder.engine.create(new InetSocketAddress(builder.port));
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpServer.setExecutor(executor);
+        this.taskManager.bindMetrics(metricsRegistry);
+        registerContext("/tasks", new TaskHandler(this.taskManager, asyncTaskManager, gson));
+        registerContext("/subtasks", new SubtaskHandler(this.taskManager, asyncTaskManager, gson));
+        registerContext("/epics", new EpicHandler(this.taskManager, asyncTaskManager, gson));
+        registerContext("/history", new HistoryHandler(this.taskManager, gson));
+        registerContext("/prioritized", new PrioritizedHandler(this.taskManager, gson));
+        registerContext("/batch", new BatchHandler(this.taskManager, gson));
+        registerContext("/events", new EventsHandler(this.taskManager, gson));
+        registerContext("/changes", new ChangesHandler(this.taskManager, gson));
+        registerContext("/search", new SearchHandler(this.taskManager, gson));
+        registerContext("/suggest", new SuggestHandler(this.taskManager, gson));
+        registerContext("/metrics", new MetricsHandler(this.taskManager, gson, metricsRegistry));
+    }
+
+    private void registerContext(String path, HttpHandler handler) {
+        HttpContext context = httpServer.createContext(path, handler);
+        context.getFilters().add(metricsFilter);
+        if (!admissionPolicy.isUnlimited(path)) {
+            context.getFilters().add(new AdmissionFilter(admissionPolicy, path));
+        }
+        context.getFilters().add(dispatchFilter);
+        if (workspaceFilter != null) {
+            context.getFilters().add(workspaceFilter);
+        }
     }
 
     public void start() {
@@ -36,14 +101,96 @@ public class HttpTaskServer {
 
     public void stop() {
         httpServer.stop(0);
+        executor.shutdown();
+        serverExecutors.shutdown();
+    }
+
+    public static Builder builder(TaskManager taskManager) {
+        return new Builder(taskManager, null);
+    }
+
+    public static Builder builder(AsyncTaskManager asyncTaskManager) {
+        return new Builder(asyncTaskManager.getTaskManager(), asyncTaskManager);
     }
 
     public static void main(String[] args) {
         try {
-            HttpTaskServer httpTaskServer = new HttpTaskServer(Managers.getDefaultFileBacked(), PORT);
-            httpTaskServer.start();
+            builderFromProperties().build().start();
         } catch (IOException e) {
             System.out.println("Failed to start HTTP server: " + e.getMessage());
         }
     }
+
+    private static Builder builderFromProperties() throws IOException {
+        String workspaces = System.getProperty(WORKSPACES_PROPERTY);
+        Builder builder;
+        if (workspaces != null) {
+            long budget = Long.getLong(WORKSPACE_BUDGET_PROPERTY, DEFAULT_WORKSPACE_BUDGET);
+            builder = builder(Managers.getWorkspaces(Path.of(workspaces), budget));
+        } else if (Boolean.getBoolean(ASYNC_PROPERTY)) {
+            builder = builder(Managers.getAsync(Managers.getDefaultFileBacked()));
+        } else if (Boolean.getBoolean(PIPELINE_PROPERTY)) {
+            builder = builder(Managers.getPipelined(Managers.getDefaultFileBacked()));
+        } else {
+            builder = builder(Managers.getDefaultFileBacked());
+        }
+        return builder
+                .admissionPolicy(admissionPolicyFromProperties())
+                .executors(ServerExecutors.of(
+                        Integer.getInteger(READ_THREADS_PROPERTY, ServerExecutors.VIRTUAL_THREADS),
+                        Integer.getInteger(WRITE_THREADS_PROPERTY, ServerExecutors.DEFAULT_WRITE_THREADS)))
+                .engine(ServerEngine.valueOf(
+                        System.getProperty(ENGINE_PROPERTY, ServerEngine.JDK.name()).toUpperCase(Locale.ROOT)));
+    }
+
+    private static AdmissionPolicy admissionPolicyFromProperties() {
+        AdmissionPolicy admissionPolicy = AdmissionPolicy.unlimited();
+        String reads = System.getProperty(ADMISSION_READS_PROPERTY);
+        if (reads != null) {
+            admissionPolicy = admissionPolicy.withReads(AdmissionPolicy.Limit.parse(reads));
+        }
+        String writes = System.getProperty(ADMISSION_WRITES_PROPERTY);
+        if (writes != null) {
+            admissionPolicy = admissionPolicy.withWrites(AdmissionPolicy.Limit.parse(writes));
+        }
+        return admissionPolicy;
+    }
+
+    public static final class Builder {
+        private final TaskManager taskManager;
+        private final AsyncTaskManager asyncTaskManager;
+        private int port = PORT;
+        private AdmissionPolicy admissionPolicy = AdmissionPolicy.unlimited();
+        private ServerExecutors serverExecutors;
+        private ServerEngine engine = ServerEngine.JDK;
+
+        private Builder(TaskManager taskManager, AsyncTaskManager asyncTaskManager) {
+            this.taskManager = taskManager;
+            this.asyncTaskManager = asyncTaskManager;
+        }
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder admissionPolicy(AdmissionPolicy admissionPolicy) {
+            this.admissionPolicy = admissionPolicy;
+            return this;
+        }
+
+        public Builder executors(ServerExecutors serverExecutors) {
+            this.serverExecutors = serverExecutors;
+            return this;
+        }
+
+        public Builder engine(ServerEngine engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        public HttpTaskServer build() throws IOException {
+            return new HttpTaskServer(this);
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package ru.yandex.javacourse.schedule.api;
+
+import com.sun.net.httpserver.HttpServer;
+import ru.yandex.javacourse.schedule.api.nio.NioHttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+public enum ServerEngine {
+    JDK {
+        @Override
+        public HttpServer create(InetSocketAddress address) throws IOException {
+            return HttpServer.create(address, 0);
+        }
+    },
+    NIO {
+        @Override
+        public HttpServer create(InetSocketAddress address) throws IOException {
+            return NioHttpServer.create(address, 0);
+        }
+    };
+
+    public abstract HttpServer create(InetSocketAddress address) throws IOException;
+}
@@ -0,0 +1,45 @@
+package ru.yandex.javacourse.schedule.api;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public record ServerExecutors(ExecutorService reads, ExecutorService writes) {
+    public static final int VIRTUAL_THREADS = 0;
+    public static final int DEFAULT_WRITE_THREADS = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    public static ServerExecutors defaults() {
+        return of(VIRTUAL_THREADS, DEFAULT_WRITE_THREADS);
+    }
+
+    public static ServerExecutors of(int readThreads, int writeThreads) {
+        return of(readThreads, writeThreads, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public static ServerExecutors of(int readThreads, int writeThreads, int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+        }
+        return new ServerExecutors(executor("kanban-read-", readThreads, queueCapacity),
+                executor("kanban-write-", writeThreads, queueCapacity));
+    }
+
+    public void shutdown() {
+        reads.shutdown();
+        writes.shutdown();
+    }
+
+    private static ExecutorService executor(String prefix, int threads, int queueCapacity) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("Thread count must not be negative: " + threads);
+        }
+        if (threads == VIRTUAL_THREADS) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory());
+        }
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name(prefix, 0).daemon(true).factory());
+    }
+}
@@ -0,0 +1,108 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AdmissionFilter extends Filter {
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final byte[] TOO_MANY_REQUESTS = "Too many requests".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INTERRUPTED = "Service unavailable".getBytes(StandardCharsets.UTF_8);
+
+    private final Budget reads;
+    private final Budget writes;
+    private final String retryAfterSeconds;
+
+    private static final class Budget {
+        private final Semaphore permits;
+        private final int queueDepth;
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private Budget(AdmissionPolicy.Limit limit) {
+            this.permits = new Semaphore(limit.concurrency(), true);
+            this.queueDepth = limit.queueDepth();
+        }
+
+        private boolean enter() throws InterruptedException {
+            if (permits.tryAcquire()) {
+                return true;
+            }
+            if (waiting.incrementAndGet() > queueDepth) {
+                waiting.decrementAndGet();
+                return false;
+            }
+            try {
+                permits.acquire();
+                return true;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private void exit() {
+            permits.release();
+        }
+    }
+
+    public AdmissionFilter(AdmissionPolicy policy, String path) {
+        this.reads = budget(policy.readLimit(path));
+        this.writes = budget(policy.writeLimit(path));
+        this.retryAfterSeconds = Long.toString(Math.max(1, (policy.retryAfter().toMillis() + 999) / 1000));
+    }
+
+    public static boolean isRead(HttpExchange exchange) {
+        return READ_METHODS.contains(exchange.getRequestMethod());
+    }
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        Budget budget = isRead(exchange) ? reads : writes;
+        if (budget == null) {
+            chain.doFilter(exchange);
+            return;
+        }
+        boolean admitted;
+        try {
+            admitted = budget.enter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(exchange, 503, INTERRUPTED);
+            return;
+        }
+        if (!admitted) {
+            exchange.getResponseHeaders().set("Retry-After", retryAfterSeconds);
+            reject(exchange, 429, TOO_MANY_REQUESTS);
+            return;
+        }
+        ResponseCompletion.whenComplete(exchange, budget::exit);
+        try {
+            chain.doFilter(exchange);
+        } catch (IOException | RuntimeException e) {
+            ResponseCompletion.complete(exchange);
+            throw e;
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Rejects requests over the route's read or write concurrency budget";
+    }
+
+    private static Budget budget(AdmissionPolicy.Limit limit) {
+        return limit.isUnlimited() ? null : new Budget(limit);
+    }
+
+    private static void reject(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getRequestBody().close();
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
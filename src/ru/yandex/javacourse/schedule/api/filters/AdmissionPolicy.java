@@ -0,0 +1,100 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class AdmissionPolicy {
+    public static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Limit reads;
+    private final Limit writes;
+    private final Map<String, Limit> routeReads;
+    private final Map<String, Limit> routeWrites;
+    private final Duration retryAfter;
+
+    public record Limit(int concurrency, int queueDepth) {
+        public static final Limit UNLIMITED = new Limit(Integer.MAX_VALUE, 0);
+
+        public Limit {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("Concurrency limit must be positive: " + concurrency);
+            }
+            if (queueDepth < 0) {
+                throw new IllegalArgumentException("Queue depth must not be negative: " + queueDepth);
+            }
+        }
+
+        public static Limit parse(String value) {
+            String[] parts = value.split(":", 2);
+            try {
+                return new Limit(Integer.parseInt(parts[0].trim()),
+                        parts.length == 1 ? 0 : Integer.parseInt(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid admission limit: " + value, e);
+            }
+        }
+
+        public boolean isUnlimited() {
+            return concurrency == Integer.MAX_VALUE;
+        }
+    }
+
+    private AdmissionPolicy(Limit reads, Limit writes, Map<String, Limit> routeReads,
+                            Map<String, Limit> routeWrites, Duration retryAfter) {
+        this.reads = reads;
+        this.writes = writes;
+        this.routeReads = Map.copyOf(routeReads);
+        this.routeWrites = Map.copyOf(routeWrites);
+        this.retryAfter = retryAfter;
+    }
+
+    public static AdmissionPolicy unlimited() {
+        return new AdmissionPolicy(Limit.UNLIMITED, Limit.UNLIMITED, Map.of(), Map.of(), DEFAULT_RETRY_AFTER);
+    }
+
+    public AdmissionPolicy withReads(Limit limit) {
+        return new AdmissionPolicy(limit, writes, routeReads, routeWrites, retryAfter);
+    }
+
+    public AdmissionPolicy withWrites(Limit limit) {
+        return new AdmissionPolicy(reads, limit, routeReads, routeWrites, retryAfter);
+    }
+
+    public AdmissionPolicy withRouteReads(String path, Limit limit) {
+        return new AdmissionPolicy(reads, writes, with(routeReads, path, limit), routeWrites, retryAfter);
+    }
+
+    public AdmissionPolicy withRouteWrites(String path, Limit limit) {
+        return new AdmissionPolicy(reads, writes, routeReads, with(routeWrites, path, limit), retryAfter);
+    }
+
+    public AdmissionPolicy withRetryAfter(Duration retryAfter) {
+        if (retryAfter.isNegative()) {
+            throw new IllegalArgumentException("Retry-After must not be negative: " + retryAfter);
+        }
+        return new AdmissionPolicy(reads, writes, routeReads, routeWrites, retryAfter);
+    }
+
+    public Limit readLimit(String path) {
+        return routeReads.getOrDefault(path, reads);
+    }
+
+    public Limit writeLimit(String path) {
+        return routeWrites.getOrDefault(path, writes);
+    }
+
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+
+    public boolean isUnlimited(String path) {
+        return readLimit(path).isUnlimited() && writeLimit(path).isUnlimited();
+    }
+
+    private static Map<String, Limit> with(Map<String, Limit> limits, String path, Limit limit) {
+        Map<String, Limit> copy = new HashMap<>(limits);
+        copy.put(path, limit);
+        return copy;
+    }
+}
@@ -0,0 +1,43 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.ServerExecutors;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+public class DispatchFilter extends Filter {
+    private final ServerExecutors executors;
+
+    public DispatchFilter(ServerExecutors executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        ExecutorService executor = AdmissionFilter.isRead(exchange) ? executors.reads() : executors.writes();
+        try {
+            executor.execute(() -> handle(exchange, chain));
+        } catch (RejectedExecutionException e) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            ResponseCompletion.complete(exchange);
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Runs reads and writes on separate executors";
+    }
+
+    private void handle(HttpExchange exchange, Chain chain) {
+        try {
+            chain.doFilter(exchange);
+        } catch (IOException | RuntimeException e) {
+            exchange.close();
+            ResponseCompletion.complete(exchange);
+        }
+    }
+}
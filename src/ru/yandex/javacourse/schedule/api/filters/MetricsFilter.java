@@ -0,0 +1,44 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.handlers.BaseHttpHandler;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
+
+import java.io.IOException;
+
+public class MetricsFilter extends Filter {
+    private static final String UNRESOLVED_ROUTE = "UNRESOLVED";
+
+    private final MetricsRegistry metricsRegistry;
+
+    public MetricsFilter(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        long startNanos = System.nanoTime();
+        ResponseCompletion.whenComplete(exchange, () -> record(exchange, startNanos));
+        try {
+            chain.doFilter(exchange);
+        } catch (IOException | RuntimeException e) {
+            ResponseCompletion.complete(exchange);
+            throw e;
+        }
+    }
+
+    private void record(HttpExchange exchange, long startNanos) {
+        Object route = exchange.getAttribute(BaseHttpHandler.ROUTE_ATTRIBUTE);
+        metricsRegistry.recordRequest(
+                exchange.getHttpContext().getPath(),
+                route == null ? UNRESOLVED_ROUTE : route.toString(),
+                exchange.getResponseCode(),
+                System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public String description() {
+        return "Records request counts and latency per route";
+    }
+}
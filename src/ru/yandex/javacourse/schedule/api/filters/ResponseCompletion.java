@@ -0,0 +1,76 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+final class ResponseCompletion extends FilterOutputStream {
+    private static final String COMPLETION_ATTRIBUTE = "kanban.completion";
+
+    private final Deque<Runnable> actions = new ArrayDeque<>();
+    private boolean completed;
+
+    private ResponseCompletion(OutputStream responseBody) {
+        super(responseBody);
+    }
+
+    static void whenComplete(HttpExchange exchange, Runnable action) {
+        ResponseCompletion completion;
+        synchronized (exchange) {
+            completion = (ResponseCompletion) exchange.getAttribute(COMPLETION_ATTRIBUTE);
+            if (completion == null) {
+                completion = new ResponseCompletion(exchange.getResponseBody());
+                exchange.setStreams(null, completion);
+                exchange.setAttribute(COMPLETION_ATTRIBUTE, completion);
+            }
+        }
+        completion.add(action);
+    }
+
+    static void complete(HttpExchange exchange) {
+        if (exchange.getAttribute(COMPLETION_ATTRIBUTE) instanceof ResponseCompletion completion) {
+            completion.complete();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        out.write(bytes, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            complete();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void add(Runnable action) {
+        synchronized (this) {
+            if (!completed) {
+                actions.push(action);
+                return;
+            }
+        }
+        action.run();
+    }
+
+    private void complete() {
+        Deque<Runnable> pending;
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            pending = new ArrayDeque<>(actions);
+            actions.clear();
+        }
+        pending.forEach(Runnable::run);
+    }
+}
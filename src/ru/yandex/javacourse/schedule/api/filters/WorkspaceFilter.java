@@ -0,0 +1,52 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.manager.workspace.WorkspaceRegistry;
+import ru.yandex.javacourse.schedule.manager.workspace.WorkspaceTaskManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class WorkspaceFilter extends Filter {
+    public static final String WORKSPACE_HEADER = "X-Workspace";
+    private static final byte[] INVALID_WORKSPACE = "Invalid workspace".getBytes(StandardCharsets.UTF_8);
+
+    private final WorkspaceTaskManager workspaces;
+
+    public WorkspaceFilter(WorkspaceTaskManager workspaces) {
+        this.workspaces = workspaces;
+    }
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        String workspaceId = exchange.getRequestHeaders().getFirst(WORKSPACE_HEADER);
+        if (workspaceId == null) {
+            workspaceId = WorkspaceRegistry.DEFAULT_WORKSPACE;
+        }
+        if (!WorkspaceRegistry.isValidId(workspaceId)) {
+            exchange.sendResponseHeaders(400, INVALID_WORKSPACE.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(INVALID_WORKSPACE);
+            }
+            return;
+        }
+        WorkspaceRegistry.Lease lease = workspaces.getRegistry().acquire(workspaceId);
+        ResponseCompletion.whenComplete(exchange, lease::close);
+        WorkspaceTaskManager.Scope scope = workspaces.bind(lease);
+        try {
+            chain.doFilter(exchange);
+        } catch (IOException | RuntimeException e) {
+            ResponseCompletion.complete(exchange);
+            throw e;
+        } finally {
+            scope.close();
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Binds the workspace selected by the X-Workspace header";
+    }
+}
@@ -3,27 +3,43 @@ package ru.yandex.javacourse.schedule.api.handlers;
 import com.google.gson.Gson;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
+import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.manager.AsyncTaskManager;
 import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 public abstract class BaseHttpHandler implements HttpHandler {
+    public static final String ROUTE_ATTRIBUTE = "kanban.route";
     private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final String JSON_CONTENT_TYPE = "application/json;charset=utf-8";
+    private static final String STATUS_PARAMETER = "status";
+    private static final String LIMIT_PARAMETER = "limit";
+    private static final Executor RESPONSE_EXECUTOR = task -> Thread.ofVirtual().name("write-response").start(task);
     protected final TaskManager taskManager;
+    protected final AsyncTaskManager asyncTaskManager;
     protected final Gson gson;
 
-    protected record Route<E>(String method, Pattern pattern, E endpoint) {
+    protected BaseHttpHandler(TaskManager taskManager, Gson gson) {
+        this(taskManager, null, gson);
     }
 
-    protected BaseHttpHandler(TaskManager taskManager, Gson gson) {
+    protected BaseHttpHandler(TaskManager taskManager, AsyncTaskManager asyncTaskManager, Gson gson) {
         this.taskManager = taskManager;
+        this.asyncTaskManager = asyncTaskManager;
         this.gson = gson;
     }
 
@@ -59,46 +75,105 @@ public abstract class BaseHttpHandler implements HttpHandler {
         sendText(httpExchange, "Internal server error", 500);
     }
 
+    protected void applyWrite(HttpExchange httpExchange, Consumer<TaskManager> write) throws IOException {
+        if (asyncTaskManager == null) {
+            write.accept(taskManager);
+            sendSuccess(httpExchange);
+            return;
+        }
+        asyncTaskManager.run(write).durable()
+                .whenCompleteAsync((ignored, failure) -> respondToWrite(httpExchange, failure), RESPONSE_EXECUTOR);
+    }
+
+    private void respondToWrite(HttpExchange httpExchange, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        try {
+            if (cause == null) {
+                sendSuccess(httpExchange);
+            } else if (cause instanceof NotFoundException) {
+                sendNotFound(httpExchange, cause.getMessage());
+            } else if (cause instanceof TimeInteractionsException) {
+                sendHasInteractions(httpExchange);
+            } else if (cause instanceof IllegalArgumentException) {
+                sendBadRequest(httpExchange, cause.getMessage());
+            } else {
+                sendServerError(httpExchange);
+            }
+        } catch (IOException exception) {
+            httpExchange.close();
+        }
+    }
+
     protected String readRequestBody(HttpExchange httpExchange) throws IOException {
         try (InputStream inputStream = httpExchange.getRequestBody()) {
             return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
         }
     }
 
+    protected void sendText(HttpExchange httpExchange, String text, String contentType) throws IOException {
+        sendText(httpExchange, text, 200, contentType);
+    }
+
     private void sendText(HttpExchange httpExchange, String text, int statusCode) throws IOException {
+        sendText(httpExchange, text, statusCode, JSON_CONTENT_TYPE);
+    }
+
+    private void sendText(HttpExchange httpExchange, String text, int statusCode, String contentType)
+            throws IOException {
         byte[] responseBytes = text.getBytes(CHARSET);
-        httpExchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+        httpExchange.getResponseHeaders().add("Content-Type", contentType);
         httpExchange.sendResponseHeaders(statusCode, responseBytes.length);
         try (OutputStream outputStream = httpExchange.getResponseBody()) {
             outputStream.write(responseBytes);
         }
     }
 
-    protected <E> E resolveEndpoint(HttpExchange httpExchange, List<Route<E>> routes, E defaultEndpoint) {
-        String method = httpExchange.getRequestMethod();
-        String path = httpExchange.getRequestURI().getPath();
-        for (Route<E> route : routes) {
-            if (route.method().equalsIgnoreCase(method)) {
-                Matcher matcher = route.pattern().matcher(path);
-                if (matcher.matches()) {
-                    return route.endpoint();
-                }
+    protected String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            if (URLDecoder.decode(key, CHARSET).equals(name)) {
+                return separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), CHARSET);
             }
         }
-        return defaultEndpoint;
+        return null;
     }
 
-    protected Integer extractPathId(HttpExchange httpExchange, Pattern pathPattern) {
-        String requestPath = httpExchange.getRequestURI().getPath();
-        Matcher matcher = pathPattern.matcher(requestPath);
-        if (!matcher.matches()) {
+    protected TaskStatus statusFilter(HttpExchange httpExchange) {
+        String value = queryParameter(httpExchange.getRequestURI().getRawQuery(), STATUS_PARAMETER);
+        if (value == null) {
             return null;
         }
-        String idText = matcher.group(1);
         try {
-            return Integer.parseInt(idText);
+            return TaskStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Unknown status: " + value);
+        }
+    }
+
+    protected int limitParameter(HttpExchange httpExchange, int defaultLimit, int maxLimit) {
+        String value = queryParameter(httpExchange.getRequestURI().getRawQuery(), LIMIT_PARAMETER);
+        if (value == null || value.isEmpty()) {
+            return defaultLimit;
+        }
+        try {
+            int limit = Integer.parseInt(value);
+            if (limit <= 0 || limit > maxLimit) {
+                throw new IllegalArgumentException("Parameter 'limit' must be between 1 and " + maxLimit);
+            }
+            return limit;
         } catch (NumberFormatException exception) {
-            return null;
+            throw new IllegalArgumentException("Parameter 'limit' must be a number");
         }
     }
+
+    protected <E> RouteMatch<E> resolveEndpoint(HttpExchange httpExchange, PathRouter<E> router) {
+        RouteMatch<E> match = router.match(httpExchange.getRequestMethod(), httpExchange.getRequestURI().getRawPath());
+        httpExchange.setAttribute(ROUTE_ATTRIBUTE, match.endpoint());
+        return match;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
+import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class BatchHandler extends BaseHttpHandler {
+    private static final PathRouter<BatchEndpoint> ROUTER = PathRouter.<BatchEndpoint>builder()
+            .route("POST", "/batch", BatchEndpoint.POST_BATCH)
+            .build(BatchEndpoint.UNKNOWN);
+
+    private enum BatchEndpoint {
+        POST_BATCH,
+        UNKNOWN
+    }
+
+    private enum Action {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    private record OperationResult(int status, Integer id, String error) {
+    }
+
+    public BatchHandler(TaskManager taskManager, Gson gson) {
+        super(taskManager, gson);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        RouteMatch<BatchEndpoint> match = resolveEndpoint(exchange, ROUTER);
+        try {
+            switch (match.endpoint()) {
+                case POST_BATCH -> handlePostBatch(exchange);
+                case UNKNOWN -> sendNotFound(exchange);
+            }
+        } catch (JsonParseException | IllegalStateException exception) {
+            sendBadRequest(exchange, "Invalid JSON");
+        } catch (Exception exception) {
+            sendServerError(exchange);
+        }
+    }
+
+    private void handlePostBatch(HttpExchange exchange) throws IOException {
+        String requestBody = readRequestBody(exchange);
+        JsonElement root = JsonParser.parseString(requestBody);
+        if (!root.isJsonArray()) {
+            throw new JsonSyntaxException("Request body must be an array of operations");
+        }
+        JsonArray operations = root.getAsJsonArray();
+        List<OperationResult> results = taskManager.executeBatch(() -> applyAll(operations));
+        sendText(exchange, gson.toJson(results));
+    }
+
+    private List<OperationResult> applyAll(JsonArray operations) {
+        List<OperationResult> results = new ArrayList<>(operations.size());
+        for (JsonElement operation : operations) {
+            results.add(applySafely(operation, results));
+        }
+        return results;
+    }
+
+    private OperationResult applySafely(JsonElement operation, List<OperationResult> previous) {
+        try {
+            if (!operation.isJsonObject()) {
+                throw new JsonSyntaxException("Operation must be an object");
+            }
+            return apply(operation.getAsJsonObject(), previous);
+        } catch (NotFoundException exception) {
+            return new OperationResult(404, null, exception.getMessage());
+        } catch (TimeInteractionsException exception) {
+            return new OperationResult(406, null, "Task has time intersection");
+        } catch (JsonParseException | IllegalArgumentException | IllegalStateException exception) {
+            return new OperationResult(400, null, exception.getMessage());
+        } catch (RuntimeException exception) {
+            return new OperationResult(500, null, "Internal server error");
+        }
+    }
+
+    private OperationResult apply(JsonObject operation, List<OperationResult> previous) {
+        Action action = Action.valueOf(requiredString(operation, "action").toUpperCase(Locale.ROOT));
+        TaskType type = TaskType.valueOf(requiredString(operation, "type").toUpperCase(Locale.ROOT));
+        if (action == Action.DELETE) {
+            int id = requiredInt(operation, "id");
+            delete(type, id);
+            return new OperationResult(201, id, null);
+        }
+        JsonElement body = operation.get("task");
+        if (body == null || !body.isJsonObject()) {
+            throw new IllegalArgumentException("Operation task is missing");
+        }
+        JsonObject taskJson = body.getAsJsonObject().deepCopy();
+        if (operation.has("epicRef")) {
+            taskJson.addProperty("epicId", resolveReference(requiredInt(operation, "epicRef"), previous));
+        }
+        int id = action == Action.CREATE ? create(type, taskJson) : update(type, taskJson);
+        return new OperationResult(201, id, null);
+    }
+
+    private int create(TaskType type, JsonObject taskJson) {
+        return switch (type) {
+            case TASK -> taskManager.addNewTask(gson.fromJson(taskJson, Task.class));
+            case EPIC -> taskManager.addNewEpic(gson.fromJson(taskJson, Epic.class));
+            case SUBTASK -> {
+                Integer id = taskManager.addNewSubtask(gson.fromJson(taskJson, Subtask.class));
+                if (id == null) {
+                    throw new IllegalArgumentException("Subtask was not created");
+                }
+                yield id;
+            }
+        };
+    }
+
+    private int update(TaskType type, JsonObject taskJson) {
+        switch (type) {
+            case TASK -> {
+                Task task = gson.fromJson(taskJson, Task.class);
+                taskManager.updateTask(task);
+                return task.getId();
+            }
+            case EPIC -> {
+                Epic epic = gson.fromJson(taskJson, Epic.class);
+                taskManager.updateEpic(epic);
+                return epic.getId();
+            }
+            default -> {
+                Subtask subtask = gson.fromJson(taskJson, Subtask.class);
+                taskManager.updateSubtask(subtask);
+                return subtask.getId();
+            }
+        }
+    }
+
+    private void delete(TaskType type, int id) {
+        switch (type) {
+            case TASK -> taskManager.deleteTask(id);
+            case EPIC -> taskManager.deleteEpic(id);
+            case SUBTASK -> taskManager.deleteSubtask(id);
+        }
+    }
+
+    private int resolveReference(int index, List<OperationResult> previous) {
+        if (index < 0 || index >= previous.size()) {
+            throw new IllegalArgumentException("epicRef must point to a previous operation: " + index);
+        }
+        OperationResult referenced = previous.get(index);
+        if (referenced.id() == null) {
+            throw new IllegalArgumentException("epicRef points to a failed operation: " + index);
+        }
+        return referenced.id();
+    }
+
+    private String requiredString(JsonObject operation, String field) {
+        JsonElement value = operation.get(field);
+        if (value == null || value.isJsonNull()) {
+            throw new IllegalArgumentException("Operation field is missing: " + field);
+        }
+        return value.getAsString();
+    }
+
+    private int requiredInt(JsonObject operation, String field) {
+        JsonElement value = operation.get(field);
+        if (value == null || value.isJsonNull()) {
+            throw new IllegalArgumentException("Operation field is missing: " + field);
+        }
+        try {
+            return value.getAsInt();
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Operation field must be a number: " + field);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
+
+import java.io.IOException;
+
+public class ChangesHandler extends BaseHttpHandler {
+    private static final String SINCE_PARAMETER = "since";
+
+    private static final PathRouter<ChangesEndpoint> ROUTER = PathRouter.<ChangesEndpoint>builder()
+            .route("GET", "/changes", ChangesEndpoint.GET_CHANGES)
+            .build(ChangesEndpoint.UNKNOWN);
+
+    private enum ChangesEndpoint {
+        GET_CHANGES,
+        UNKNOWN
+    }
+
+    public ChangesHandler(TaskManager taskManager, Gson gson) {
+        super(taskManager, gson);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        RouteMatch<ChangesEndpoint> match = resolveEndpoint(exchange, ROUTER);
+        try {
+            switch (match.endpoint()) {
+                case GET_CHANGES -> handleGetChanges(exchange);
+                case UNKNOWN -> sendNotFound(exchange);
+            }
+        } catch (IllegalArgumentException exception) {
+            sendBadRequest(exchange, exception.getMessage());
+        } catch (Exception exception) {
+            sendServerError(exchange);
+        }
+    }
+
+    private void handleGetChanges(HttpExchange exchange) throws IOException {
+        ChangeVersion since = parseSince(exchange.getRequestURI().getRawQuery());
+        ChangeSet changes = taskManager.getChangesSince(since);
+        sendText(exchange, gson.toJson(changes));
+    }
+
+    private ChangeVersion parseSince(String query) {
+        String value = queryParameter(query, SINCE_PARAMETER);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return ChangeVersion.parse(value);
+    }
+}
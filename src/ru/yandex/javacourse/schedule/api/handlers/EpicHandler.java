@@ -3,27 +3,26 @@ package ru.yandex.javacourse.schedule.api.handlers;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
 import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.manager.AsyncTaskManager;
 import ru.yandex.javacourse.schedule.manager.TaskManager;
 import ru.yandex.javacourse.schedule.tasks.Epic;
 import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class EpicHandler extends BaseHttpHandler {
-    private static final Pattern EPIC_ROOT_PATTERN = Pattern.compile("^/epics/?$");
-    private static final Pattern EPIC_BY_ID_PATTERN = Pattern.compile("^/epics/(\\d+)$");
-    private static final Pattern EPIC_BY_ID_SUBTASK_PATTERN = Pattern.compile("^/epics/(\\d+)/subtasks/?$");
-
-    private final List<Route<EpicEndpoint>> routes = List.of(
-            new Route<>("GET", EPIC_ROOT_PATTERN, EpicEndpoint.GET_ALL_EPICS),
-            new Route<>("GET", EPIC_BY_ID_PATTERN, EpicEndpoint.GET_EPIC_BY_ID),
-            new Route<>("GET", EPIC_BY_ID_SUBTASK_PATTERN, EpicEndpoint.GET_SUBTASKS_BY_EPIC_ID),
-            new Route<>("POST", EPIC_ROOT_PATTERN, EpicEndpoint.POST_EPIC),
-            new Route<>("DELETE", EPIC_BY_ID_PATTERN, EpicEndpoint.DELETE_EPIC_BY_ID)
-    );
+    private static final PathRouter<EpicEndpoint> ROUTER = PathRouter.<EpicEndpoint>builder()
+            .route("GET", "/epics", EpicEndpoint.GET_ALL_EPICS)
+            .route("GET", "/epics/{id}", EpicEndpoint.GET_EPIC_BY_ID)
+            .route("GET", "/epics/{id}/subtasks", EpicEndpoint.GET_SUBTASKS_BY_EPIC_ID)
+            .route("POST", "/epics", EpicEndpoint.POST_EPIC)
+            .route("DELETE", "/epics/{id}", EpicEndpoint.DELETE_EPIC_BY_ID)
+            .build(EpicEndpoint.UNKNOWN);
 
     private enum EpicEndpoint {
         GET_ALL_EPICS,
@@ -38,16 +37,20 @@ public class EpicHandler extends BaseHttpHandler {
         super(taskManager, gson);
     }
 
+    public EpicHandler(TaskManager taskManager, AsyncTaskManager asyncTaskManager, Gson gson) {
+        super(taskManager, asyncTaskManager, gson);
+    }
+
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        EpicEndpoint endpoint = resolveEndpoint(exchange, routes, EpicEndpoint.UNKNOWN);
+        RouteMatch<EpicEndpoint> match = resolveEndpoint(exchange, ROUTER);
         try {
-            switch (endpoint) {
+            switch (match.endpoint()) {
                 case GET_ALL_EPICS -> handleGetAllEpics(exchange);
-                case GET_EPIC_BY_ID -> handleGetEpicById(exchange);
-                case GET_SUBTASKS_BY_EPIC_ID -> handleGetSubtasksByEpicId(exchange);
+                case GET_EPIC_BY_ID -> handleGetEpicById(exchange, match.id());
+                case GET_SUBTASKS_BY_EPIC_ID -> handleGetSubtasksByEpicId(exchange, match.id());
                 case POST_EPIC -> handlePostEpic(exchange);
-                case DELETE_EPIC_BY_ID -> handleDeleteEpic(exchange);
+                case DELETE_EPIC_BY_ID -> handleDeleteEpic(exchange, match.id());
                 case UNKNOWN -> sendNotFound(exchange);
             }
         } catch (JsonSyntaxException exception) {
@@ -62,22 +65,24 @@ public class EpicHandler extends BaseHttpHandler {
     }
 
     private void handleGetAllEpics(HttpExchange exchange) throws IOException {
-        List<Epic> epics = taskManager.getEpics();
+        TaskStatus status = statusFilter(exchange);
+        List<Epic> epics = status == null ? taskManager.getEpics() : taskManager.getEpicsByStatus(status);
         String response = gson.toJson(epics);
         sendText(exchange, response);
     }
 
-    private void handleGetEpicById(HttpExchange exchange) throws IOException {
-        int id = extractPathId(exchange, EPIC_BY_ID_PATTERN);
+    private void handleGetEpicById(HttpExchange exchange, int id) throws IOException {
         Epic epic = taskManager.getEpic(id);
         String response = gson.toJson(epic);
         sendText(exchange, response);
         sendNotFound(exchange);
     }
 
-    private void handleGetSubtasksByEpicId(HttpExchange exchange) throws IOException {
-        int id = extractPathId(exchange, EPIC_BY_ID_SUBTASK_PATTERN);
-        List<Subtask> subtasks = taskManager.getEpicSubtasks(id);
+    private void handleGetSubtasksByEpicId(HttpExchange exchange, int id) throws IOException {
+        TaskStatus status = statusFilter(exchange);
+        List<Subtask> subtasks = status == null
+                ? taskManager.getEpicSubtasks(id)
+                : taskManager.getEpicSubtasksByStatus(id, status);
         String response = gson.toJson(subtasks);
         sendText(exchange, response);
     }
@@ -91,17 +96,13 @@ public class EpicHandler extends BaseHttpHandler {
         }
         int epicId = epic.getId();
         if (epicId == 0) {
-            taskManager.addNewEpic(epic);
-            sendSuccess(exchange);
+            applyWrite(exchange, manager -> manager.addNewEpic(epic));
         } else {
-            taskManager.updateEpic(epic);
-            sendSuccess(exchange);
+            applyWrite(exchange, manager -> manager.updateEpic(epic));
         }
     }
 
-    private void handleDeleteEpic(HttpExchange exchange) throws IOException {
-        int epicId = extractPathId(exchange, EPIC_BY_ID_PATTERN);
-        taskManager.deleteEpic(epicId);
-        sendSuccess(exchange);
+    private void handleDeleteEpic(HttpExchange exchange, int epicId) throws IOException {
+        applyWrite(exchange, manager -> manager.deleteEpic(epicId));
     }
 }
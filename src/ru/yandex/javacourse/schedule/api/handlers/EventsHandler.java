@@ -0,0 +1,93 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.manager.events.EventSubscription;
+import ru.yandex.javacourse.schedule.manager.events.TaskEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public class EventsHandler extends BaseHttpHandler {
+    private static final int SUBSCRIBER_BUFFER_CAPACITY = 1024;
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 15;
+    private static final byte[] CONNECTED_FRAME = ": connected\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEARTBEAT_FRAME = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final PathRouter<EventsEndpoint> ROUTER = PathRouter.<EventsEndpoint>builder()
+            .route("GET", "/events", EventsEndpoint.GET_EVENTS)
+            .build(EventsEndpoint.UNKNOWN);
+
+    private enum EventsEndpoint {
+        GET_EVENTS,
+        UNKNOWN
+    }
+
+    public EventsHandler(TaskManager taskManager, Gson gson) {
+        super(taskManager, gson);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        RouteMatch<EventsEndpoint> match = resolveEndpoint(exchange, ROUTER);
+        try {
+            switch (match.endpoint()) {
+                case GET_EVENTS -> handleGetEvents(exchange);
+                case UNKNOWN -> sendNotFound(exchange);
+            }
+        } catch (Exception exception) {
+            sendServerError(exchange);
+        }
+    }
+
+    private void handleGetEvents(HttpExchange exchange) throws IOException {
+        EventSubscription subscription = taskManager.getEventBus().subscribe(SUBSCRIBER_BUFFER_CAPACITY);
+        try {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream;charset=utf-8");
+            exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+        } catch (IOException exception) {
+            taskManager.getEventBus().unsubscribe(subscription);
+            throw exception;
+        }
+        Thread.ofVirtual()
+                .name("events-stream")
+                .start(() -> stream(exchange, subscription));
+    }
+
+    private void stream(HttpExchange exchange, EventSubscription subscription) {
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(CONNECTED_FRAME);
+            outputStream.flush();
+            while (!subscription.isClosed()) {
+                TaskEvent event = subscription.poll(HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+                outputStream.write(event == null ? HEARTBEAT_FRAME : toFrame(event));
+                outputStream.flush();
+            }
+        } catch (IOException exception) {
+            // client disconnected
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            taskManager.getEventBus().unsubscribe(subscription);
+            exchange.close();
+        }
+    }
+
+    private byte[] toFrame(TaskEvent event) {
+        StringBuilder frame = new StringBuilder();
+        frame.append("id: ").append(event.sequence()).append('\n');
+        frame.append("event: ").append(event.eventType().name().toLowerCase(Locale.ROOT)).append('\n');
+        for (String line : gson.toJson(event).split("\n")) {
+            frame.append("data: ").append(line).append('\n');
+        }
+        frame.append('\n');
+        return frame.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -2,19 +2,18 @@ package ru.yandex.javacourse.schedule.api.handlers;
 
 import com.google.gson.Gson;
 import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
 import ru.yandex.javacourse.schedule.manager.TaskManager;
 import ru.yandex.javacourse.schedule.tasks.Task;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class HistoryHandler extends BaseHttpHandler {
-    private static final Pattern HISTORY_ROOT_PATTERN = Pattern.compile("^/history/?$");
-
-    private final List<Route<HistoryEndpoint>> routes = List.of(
-            new Route<>("GET", HISTORY_ROOT_PATTERN, HistoryEndpoint.GET_HISTORY)
-    );
+    private static final PathRouter<HistoryEndpoint> ROUTER = PathRouter.<HistoryEndpoint>builder()
+            .route("GET", "/history", HistoryEndpoint.GET_HISTORY)
+            .build(HistoryEndpoint.UNKNOWN);
 
     private enum HistoryEndpoint {
         GET_HISTORY,
@@ -27,9 +26,9 @@ public class HistoryHandler extends BaseHttpHandler {
 
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        HistoryEndpoint endpoint = resolveEndpoint(exchange, routes, HistoryEndpoint.UNKNOWN);
+        RouteMatch<HistoryEndpoint> match = resolveEndpoint(exchange, ROUTER);
         try {
-            switch (endpoint) {
+            switch (match.endpoint()) {
                 case GET_HISTORY -> handleGetHistory(exchange);
                 case UNKNOWN -> sendNotFound(exchange);
             }
@@ -0,0 +1,43 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
+
+import java.io.IOException;
+
+public class MetricsHandler extends BaseHttpHandler {
+    private static final String EXPOSITION_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final PathRouter<MetricsEndpoint> ROUTER = PathRouter.<MetricsEndpoint>builder()
+            .route("GET", "/metrics", MetricsEndpoint.GET_METRICS)
+            .build(MetricsEndpoint.UNKNOWN);
+
+    private final MetricsRegistry metricsRegistry;
+
+    private enum MetricsEndpoint {
+        GET_METRICS,
+        UNKNOWN
+    }
+
+    public MetricsHandler(TaskManager taskManager, Gson gson, MetricsRegistry metricsRegistry) {
+        super(taskManager, gson);
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        RouteMatch<MetricsEndpoint> match = resolveEndpoint(exchange, ROUTER);
+        try {
+            switch (match.endpoint()) {
+                case GET_METRICS -> sendText(exchange, metricsRegistry.scrape(), EXPOSITION_CONTENT_TYPE);
+                case UNKNOWN -> sendNotFound(exchange);
+            }
+        } catch (Exception exception) {
+            sendServerError(exchange);
+        }
+    }
+}
@@ -2,19 +2,18 @@ package ru.yandex.javacourse.schedule.api.handlers;
 
 import com.google.gson.Gson;
 import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
 import ru.yandex.javacourse.schedule.manager.TaskManager;
 import ru.yandex.javacourse.schedule.tasks.Task;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class PrioritizedHandler extends BaseHttpHandler {
-    private static final Pattern PRIORITIZED_ROOT_PATTERN = Pattern.compile("^/prioritized/?$");
-
-    private final List<Route<PrioritizedEndpoint>> routes = List.of(
-            new Route<>("GET", PRIORITIZED_ROOT_PATTERN, PrioritizedEndpoint.GET_PRIORITIZED)
-    );
+    private static final PathRouter<PrioritizedEndpoint> ROUTER = PathRouter.<PrioritizedEndpoint>builder()
+            .route("GET", "/prioritized", PrioritizedEndpoint.GET_PRIORITIZED)
+            .build(PrioritizedEndpoint.UNKNOWN);
 
     private enum PrioritizedEndpoint {
         GET_PRIORITIZED,
@@ -27,9 +26,9 @@ public class PrioritizedHandler extends BaseHttpHandler {
 
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        PrioritizedEndpoint endpoint = resolveEndpoint(exchange, routes, PrioritizedEndpoint.UNKNOWN);
+        RouteMatch<PrioritizedEndpoint> match = resolveEndpoint(exchange, ROUTER);
         try {
-            switch (endpoint) {
+            switch (match.endpoint()) {
                 case GET_PRIORITIZED -> handleGetPrioritized(exchange);
                 case UNKNOWN -> sendNotFound(exchange);
             }
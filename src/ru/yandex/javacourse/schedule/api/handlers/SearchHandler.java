@@ -0,0 +1,61 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.io.IOException;
+import java.util.List;
+
+public class SearchHandler extends BaseHttpHandler {
+    private static final String QUERY_PARAMETER = "q";
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private static final PathRouter<SearchEndpoint> ROUTER = PathRouter.<SearchEndpoint>builder()
+            .route("GET", "/search", SearchEndpoint.GET_SEARCH)
+            .build(SearchEndpoint.UNKNOWN);
+
+    private enum SearchEndpoint {
+        GET_SEARCH,
+        UNKNOWN
+    }
+
+    private record SearchHit(TaskType type, Task task) {
+    }
+
+    public SearchHandler(TaskManager taskManager, Gson gson) {
+        super(taskManager, gson);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        RouteMatch<SearchEndpoint> match = resolveEndpoint(exchange, ROUTER);
+        try {
+            switch (match.endpoint()) {
+                case GET_SEARCH -> handleGetSearch(exchange);
+                case UNKNOWN -> sendNotFound(exchange);
+            }
+        } catch (IllegalArgumentException exception) {
+            sendBadRequest(exchange, exception.getMessage());
+        } catch (Exception exception) {
+            sendServerError(exchange);
+        }
+    }
+
+    private void handleGetSearch(HttpExchange exchange) throws IOException {
+        String query = queryParameter(exchange.getRequestURI().getRawQuery(), QUERY_PARAMETER);
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Parameter 'q' is required");
+        }
+        List<SearchHit> hits = taskManager.search(query, limitParameter(exchange, DEFAULT_LIMIT, MAX_LIMIT))
+                .stream()
+                .map(task -> new SearchHit(task.getType(), task))
+                .toList();
+        sendText(exchange, gson.toJson(hits));
+    }
+}
@@ -3,25 +3,25 @@ package ru.yandex.javacourse.schedule.api.handlers;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
 import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
 import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.manager.AsyncTaskManager;
 import ru.yandex.javacourse.schedule.manager.TaskManager;
 import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class SubtaskHandler extends BaseHttpHandler {
-    private static final Pattern SUBTASK_ROOT_PATTERN = Pattern.compile("^/subtasks/?$");
-    private static final Pattern SUBTASK_BY_ID_PATTERN = Pattern.compile("^/subtasks/(\\d+)$");
-
-    private final List<Route<SubtaskEndpoint>> routes = List.of(
-            new Route<>("GET", SUBTASK_ROOT_PATTERN, SubtaskEndpoint.GET_ALL_SUBTASKS),
-            new Route<>("GET", SUBTASK_BY_ID_PATTERN, SubtaskEndpoint.GET_SUBTASK_BY_ID),
-            new Route<>("POST", SUBTASK_ROOT_PATTERN, SubtaskEndpoint.POST_SUBTASK),
-            new Route<>("DELETE", SUBTASK_BY_ID_PATTERN, SubtaskEndpoint.DELETE_SUBTASK_BY_ID)
-    );
+    private static final PathRouter<SubtaskEndpoint> ROUTER = PathRouter.<SubtaskEndpoint>builder()
+            .route("GET", "/subtasks", SubtaskEndpoint.GET_ALL_SUBTASKS)
+            .route("GET", "/subtasks/{id}", SubtaskEndpoint.GET_SUBTASK_BY_ID)
+            .route("POST", "/subtasks", SubtaskEndpoint.POST_SUBTASK)
+            .route("DELETE", "/subtasks/{id}", SubtaskEndpoint.DELETE_SUBTASK_BY_ID)
+            .build(SubtaskEndpoint.UNKNOWN);
 
     private enum SubtaskEndpoint {
         GET_ALL_SUBTASKS,
@@ -35,15 +35,19 @@ public class SubtaskHandler extends BaseHttpHandler {
         super(taskManager, gson);
     }
 
+    public SubtaskHandler(TaskManager taskManager, AsyncTaskManager asyncTaskManager, Gson gson) {
+        super(taskManager, asyncTaskManager, gson);
+    }
+
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        SubtaskEndpoint endpoint = resolveEndpoint(exchange, routes, SubtaskEndpoint.UNKNOWN);
+        RouteMatch<SubtaskEndpoint> match = resolveEndpoint(exchange, ROUTER);
         try {
-            switch (endpoint) {
+            switch (match.endpoint()) {
                 case GET_ALL_SUBTASKS -> handleGetAllSubtasks(exchange);
-                case GET_SUBTASK_BY_ID -> handleGetSubtaskById(exchange);
+                case GET_SUBTASK_BY_ID -> handleGetSubtaskById(exchange, match.id());
                 case POST_SUBTASK -> handlePostSubtask(exchange);
-                case DELETE_SUBTASK_BY_ID -> handleDeleteSubtask(exchange);
+                case DELETE_SUBTASK_BY_ID -> handleDeleteSubtask(exchange, match.id());
                 case UNKNOWN -> sendNotFound(exchange);
             }
         } catch (JsonSyntaxException exception) {
@@ -52,19 +56,21 @@ public class SubtaskHandler extends BaseHttpHandler {
             sendNotFound(exchange, exception.getMessage());
         } catch (TimeInteractionsException exception) {
             sendHasInteractions(exchange);
+        } catch (IllegalArgumentException exception) {
+            sendBadRequest(exchange, exception.getMessage());
         } catch (Exception exception) {
             sendServerError(exchange);
         }
     }
 
     private void handleGetAllSubtasks(HttpExchange exchange) throws IOException {
-        List<Subtask> subtasks = taskManager.getSubtasks();
+        TaskStatus status = statusFilter(exchange);
+        List<Subtask> subtasks = status == null ? taskManager.getSubtasks() : taskManager.getSubtasksByStatus(status);
         String response = gson.toJson(subtasks);
         sendText(exchange, response);
     }
 
-    private void handleGetSubtaskById(HttpExchange exchange) throws IOException {
-        int id = extractPathId(exchange, SUBTASK_BY_ID_PATTERN);
+    private void handleGetSubtaskById(HttpExchange exchange, int id) throws IOException {
         Subtask subtask = taskManager.getSubtask(id);
         String response = gson.toJson(subtask);
         sendText(exchange, response);
@@ -76,21 +82,17 @@ public class SubtaskHandler extends BaseHttpHandler {
         subtask = gson.fromJson(requestBody, Subtask.class);
         int subtaskId = subtask.getId();
         if (subtaskId == 0) {
-            Integer createdSubtaskId = taskManager.addNewSubtask(subtask);
-            if (createdSubtaskId == null) {
-                sendBadRequest(exchange);
-            } else {
-                sendSuccess(exchange);
-            }
+            applyWrite(exchange, manager -> {
+                if (manager.addNewSubtask(subtask) == null) {
+                    throw new IllegalArgumentException("Bad Request");
+                }
+            });
         } else {
-            taskManager.updateSubtask(subtask);
-            sendSuccess(exchange);
+            applyWrite(exchange, manager -> manager.updateSubtask(subtask));
         }
     }
 
-    private void handleDeleteSubtask(HttpExchange exchange) throws IOException {
-        int subtaskId = extractPathId(exchange, SUBTASK_BY_ID_PATTERN);
-        taskManager.deleteSubtask(subtaskId);
-        sendSuccess(exchange);
+    private void handleDeleteSubtask(HttpExchange exchange, int subtaskId) throws IOException {
+        applyWrite(exchange, manager -> manager.deleteSubtask(subtaskId));
     }
 }
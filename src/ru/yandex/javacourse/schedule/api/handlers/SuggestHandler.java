@@ -0,0 +1,60 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.io.IOException;
+import java.util.List;
+
+public class SuggestHandler extends BaseHttpHandler {
+    private static final String QUERY_PARAMETER = "q";
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private static final PathRouter<SuggestEndpoint> ROUTER = PathRouter.<SuggestEndpoint>builder()
+            .route("GET", "/suggest", SuggestEndpoint.GET_SUGGEST)
+            .build(SuggestEndpoint.UNKNOWN);
+
+    private enum SuggestEndpoint {
+        GET_SUGGEST,
+        UNKNOWN
+    }
+
+    private record Suggestion(int id, TaskType type, String name) {
+    }
+
+    public SuggestHandler(TaskManager taskManager, Gson gson) {
+        super(taskManager, gson);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        RouteMatch<SuggestEndpoint> match = resolveEndpoint(exchange, ROUTER);
+        try {
+            switch (match.endpoint()) {
+                case GET_SUGGEST -> handleGetSuggest(exchange);
+                case UNKNOWN -> sendNotFound(exchange);
+            }
+        } catch (IllegalArgumentException exception) {
+            sendBadRequest(exchange, exception.getMessage());
+        } catch (Exception exception) {
+            sendServerError(exchange);
+        }
+    }
+
+    private void handleGetSuggest(HttpExchange exchange) throws IOException {
+        String prefix = queryParameter(exchange.getRequestURI().getRawQuery(), QUERY_PARAMETER);
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Parameter 'q' is required");
+        }
+        List<Suggestion> suggestions = taskManager.suggest(prefix, limitParameter(exchange, DEFAULT_LIMIT, MAX_LIMIT))
+                .stream()
+                .map(task -> new Suggestion(task.getId(), task.getType(), task.getName()))
+                .toList();
+        sendText(exchange, gson.toJson(suggestions));
+    }
+}
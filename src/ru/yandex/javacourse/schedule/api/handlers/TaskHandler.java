@@ -3,25 +3,25 @@ package ru.yandex.javacourse.schedule.api.handlers;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.sun.net.httpserver.HttpExchange;
+import ru.yandex.javacourse.schedule.api.routing.PathRouter;
+import ru.yandex.javacourse.schedule.api.routing.RouteMatch;
 import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
 import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.manager.AsyncTaskManager;
 import ru.yandex.javacourse.schedule.manager.TaskManager;
 import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class TaskHandler extends BaseHttpHandler {
-    private static final Pattern TASK_ROOT_PATTERN = Pattern.compile("^/tasks/?$");
-    private static final Pattern TASK_BY_ID_PATTERN = Pattern.compile("^/tasks/(\\d+)$");
-
-    private final List<Route<TaskEndpoint>> routes = List.of(
-            new Route<>("GET", TASK_ROOT_PATTERN, TaskEndpoint.GET_ALL_TASKS),
-            new Route<>("GET", TASK_BY_ID_PATTERN, TaskEndpoint.GET_TASK_BY_ID),
-            new Route<>("POST", TASK_ROOT_PATTERN, TaskEndpoint.POST_TASK),
-            new Route<>("DELETE", TASK_BY_ID_PATTERN, TaskEndpoint.DELETE_TASK_BY_ID)
-    );
+    private static final PathRouter<TaskEndpoint> ROUTER = PathRouter.<TaskEndpoint>builder()
+            .route("GET", "/tasks", TaskEndpoint.GET_ALL_TASKS)
+            .route("GET", "/tasks/{id}", TaskEndpoint.GET_TASK_BY_ID)
+            .route("POST", "/tasks", TaskEndpoint.POST_TASK)
+            .route("DELETE", "/tasks/{id}", TaskEndpoint.DELETE_TASK_BY_ID)
+            .build(TaskEndpoint.UNKNOWN);
 
     private enum TaskEndpoint {
         GET_ALL_TASKS,
@@ -35,15 +35,19 @@ public class TaskHandler extends BaseHttpHandler {
         super(taskManager, gson);
     }
 
+    public TaskHandler(TaskManager taskManager, AsyncTaskManager asyncTaskManager, Gson gson) {
+        super(taskManager, asyncTaskManager, gson);
+    }
+
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        TaskEndpoint endpoint = resolveEndpoint(exchange, routes, TaskEndpoint.UNKNOWN);
+        RouteMatch<TaskEndpoint> match = resolveEndpoint(exchange, ROUTER);
         try {
-            switch (endpoint) {
+            switch (match.endpoint()) {
                 case GET_ALL_TASKS -> handleGetAllTasks(exchange);
-                case GET_TASK_BY_ID -> handleGetTaskById(exchange);
+                case GET_TASK_BY_ID -> handleGetTaskById(exchange, match.id());
                 case POST_TASK -> handlePostTask(exchange);
-                case DELETE_TASK_BY_ID -> handleDeleteTask(exchange);
+                case DELETE_TASK_BY_ID -> handleDeleteTask(exchange, match.id());
                 case UNKNOWN -> sendNotFound(exchange);
             }
         } catch (JsonSyntaxException exception) {
@@ -52,19 +56,21 @@ public class TaskHandler extends BaseHttpHandler {
             sendNotFound(exchange, exception.getMessage());
         } catch (TimeInteractionsException exception) {
             sendHasInteractions(exchange);
+        } catch (IllegalArgumentException exception) {
+            sendBadRequest(exchange, exception.getMessage());
         } catch (Exception exception) {
             sendServerError(exchange);
         }
     }
 
     private void handleGetAllTasks(HttpExchange exchange) throws IOException {
-        List<Task> tasks = taskManager.getTasks();
+        TaskStatus status = statusFilter(exchange);
+        List<Task> tasks = status == null ? taskManager.getTasks() : taskManager.getTasksByStatus(status);
         String response = gson.toJson(tasks);
         sendText(exchange, response);
     }
 
-    private void handleGetTaskById(HttpExchange exchange) throws IOException {
-        int id = extractPathId(exchange, TASK_BY_ID_PATTERN);
+    private void handleGetTaskById(HttpExchange exchange, int id) throws IOException {
         Task task = taskManager.getTask(id);
         String response = gson.toJson(task);
         sendText(exchange, response);
@@ -79,17 +85,13 @@ public class TaskHandler extends BaseHttpHandler {
         }
         int taskId = task.getId();
         if (taskId == 0) {
-            taskManager.addNewTask(task);
-            sendSuccess(exchange);
+            applyWrite(exchange, manager -> manager.addNewTask(task));
         } else {
-            taskManager.updateTask(task);
-            sendSuccess(exchange);
+            applyWrite(exchange, manager -> manager.updateTask(task));
         }
     }
 
-    private void handleDeleteTask(HttpExchange exchange) throws IOException {
-        int taskId = extractPathId(exchange, TASK_BY_ID_PATTERN);
-        taskManager.deleteTask(taskId);
-        sendSuccess(exchange);
+    private void handleDeleteTask(HttpExchange exchange, int taskId) throws IOException {
+        applyWrite(exchange, manager -> manager.deleteTask(taskId));
     }
 }
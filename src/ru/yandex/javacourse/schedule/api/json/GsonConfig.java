@@ -2,6 +2,7 @@ package ru.yandex.javacourse.schedule.api.json;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import ru.yandex.javacourse.schedule.tasks.Task;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ public class GsonConfig {
         return new GsonBuilder()
                 .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
                 .registerTypeAdapter(Duration.class, new DurationAdapter())
+                .registerTypeHierarchyAdapter(Task.class, new TaskAdapter())
                 .setPrettyPrinting()
                 .create();
     }
@@ -0,0 +1,124 @@
+package ru.yandex.javacourse.schedule.api.json;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.google.gson.JsonSyntaxException;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public class TaskAdapter implements JsonSerializer<Task>, JsonDeserializer<Task> {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    @Override
+    public JsonElement serialize(Task task, Type type, JsonSerializationContext context) {
+        JsonObject json = new JsonObject();
+        if (task instanceof Subtask subtask) {
+            json.addProperty("epicId", subtask.getEpicId());
+        }
+        if (task instanceof Epic epic) {
+            JsonArray subtaskIds = new JsonArray();
+            epic.getSubtaskIds().forEach(subtaskIds::add);
+            json.add("subtaskIds", subtaskIds);
+            addTime(json, "endTime", epic.getEndTime());
+        }
+        json.addProperty("id", task.getId());
+        json.addProperty("name", task.getName());
+        if (task.getStatus() != null) {
+            json.addProperty("status", task.getStatus().name());
+        }
+        json.addProperty("description", task.getDescription());
+        addTime(json, "startTime", task.getStartTime());
+        json.addProperty("duration", task.getDurationMinutes());
+        return json;
+    }
+
+    @Override
+    public Task deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+        if (!element.isJsonObject()) {
+            throw new JsonSyntaxException("Task must be a JSON object");
+        }
+        JsonObject json = element.getAsJsonObject();
+        String name = optionalString(json, "name");
+        String description = optionalString(json, "description");
+        TaskStatus status = parseStatus(optionalString(json, "status"));
+        LocalDateTime startTime = parseTime(optionalString(json, "startTime"));
+        Duration duration = Duration.ofMinutes(optionalLong(json, "duration"));
+        Task task;
+        if (type == Epic.class) {
+            Epic epic = new Epic(name, description);
+            epic.setStatus(status);
+            epic.setStartTime(startTime);
+            epic.setDuration(duration);
+            epic.setEndTime(parseTime(optionalString(json, "endTime")));
+            JsonElement subtaskIds = json.get("subtaskIds");
+            if (subtaskIds != null && subtaskIds.isJsonArray()) {
+                subtaskIds.getAsJsonArray().forEach(id -> epic.addSubtaskId(id.getAsInt()));
+            }
+            task = epic;
+        } else if (type == Subtask.class) {
+            task = new Subtask(name, description, status, startTime, duration, (int) optionalLong(json, "epicId"));
+        } else {
+            task = new Task(name, description, status, startTime, duration);
+        }
+        task.setId((int) optionalLong(json, "id"));
+        return task;
+    }
+
+    private static void addTime(JsonObject json, String field, LocalDateTime value) {
+        if (value != null) {
+            json.addProperty(field, value.format(FORMATTER));
+        }
+    }
+
+    private static String optionalString(JsonObject json, String field) {
+        JsonElement value = json.get(field);
+        return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+
+    private static long optionalLong(JsonObject json, String field) {
+        JsonElement value = json.get(field);
+        if (value == null || value.isJsonNull()) {
+            return 0;
+        }
+        try {
+            return value.getAsLong();
+        } catch (NumberFormatException | UnsupportedOperationException | IllegalStateException exception) {
+            throw new JsonSyntaxException("Field must be a number: " + field, exception);
+        }
+    }
+
+    private static TaskStatus parseStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return TaskStatus.valueOf(value);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value, FORMATTER);
+        } catch (DateTimeParseException exception) {
+            throw new JsonSyntaxException("Invalid date-time: " + value, exception);
+        }
+    }
+}
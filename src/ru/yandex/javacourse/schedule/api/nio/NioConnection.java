@@ -0,0 +1,215 @@
+package ru.yandex.javacourse.schedule.api.nio;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+final class NioConnection {
+    static final int MAX_HEAD_BYTES = 16 * 1024;
+    static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+    private static final byte[] EMPTY = new byte[0];
+    private static final ByteBuffer CONTINUE = ByteBuffer.wrap(
+            "HTTP/1.1 100 Continue\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1)).asReadOnlyBuffer();
+
+    private final NioHttpServer server;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final InetSocketAddress remoteAddress;
+    private final InetSocketAddress localAddress;
+    private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+    private byte[] input = EMPTY;
+    private int inputLength;
+    private boolean responding;
+    private boolean continueSent;
+    private boolean responseComplete;
+    private boolean closeAfterResponse;
+    private long pendingBytes;
+    private volatile long lastActivityNanos = System.nanoTime();
+    private volatile boolean closed;
+
+    NioConnection(NioHttpServer server, SocketChannel channel, SelectionKey key) throws IOException {
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+        this.remoteAddress = (InetSocketAddress) channel.getRemoteAddress();
+        this.localAddress = (InetSocketAddress) channel.getLocalAddress();
+    }
+
+    InetSocketAddress remoteAddress() {
+        return remoteAddress;
+    }
+
+    InetSocketAddress localAddress() {
+        return localAddress;
+    }
+
+    void onReadable(ByteBuffer readBuffer) throws IOException {
+        readBuffer.clear();
+        int read = channel.read(readBuffer);
+        if (read < 0) {
+            close();
+            return;
+        }
+        lastActivityNanos = System.nanoTime();
+        readBuffer.flip();
+        if (inputLength + read > input.length) {
+            input = Arrays.copyOf(input, Math.max(inputLength + read, input.length * 2));
+        }
+        readBuffer.get(input, inputLength, read);
+        inputLength += read;
+        if (!responding) {
+            processInput();
+        }
+    }
+
+    void onWritable() throws IOException {
+        boolean finished;
+        synchronized (this) {
+            if (!output.isEmpty()) {
+                long written = channel.write(output.toArray(ByteBuffer[]::new));
+                if (written > 0) {
+                    pendingBytes -= written;
+                    lastActivityNanos = System.nanoTime();
+                }
+                while (!output.isEmpty() && !output.peekFirst().hasRemaining()) {
+                    output.pollFirst();
+                }
+                if (!output.isEmpty()) {
+                    key.interestOps(SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+            finished = responseComplete;
+            responseComplete = false;
+        }
+        if (!finished) {
+            key.interestOps(responding ? 0 : SelectionKey.OP_READ);
+            return;
+        }
+        responding = false;
+        if (closeAfterResponse) {
+            close();
+            return;
+        }
+        key.interestOps(SelectionKey.OP_READ);
+        processInput();
+    }
+
+    void send(ByteBuffer... buffers) throws IOException {
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Connection closed");
+            }
+            if (pendingBytes > server.getMaxPendingOutputBytes()) {
+                server.closeLater(this);
+                throw new IOException("Peer is not reading: " + pendingBytes + " response bytes pending");
+            }
+            for (ByteBuffer buffer : buffers) {
+                output.add(buffer);
+                pendingBytes += buffer.remaining();
+            }
+        }
+        server.flushLater(this);
+    }
+
+    boolean isIdleSince(long deadlineNanos) {
+        if (lastActivityNanos - deadlineNanos > 0) {
+            return false;
+        }
+        synchronized (this) {
+            return !output.isEmpty() || !responding;
+        }
+    }
+
+    void complete(boolean close) {
+        synchronized (this) {
+            responseComplete = true;
+            closeAfterResponse |= close;
+        }
+        server.flushLater(this);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // already closed by the peer
+        }
+        input = EMPTY;
+        server.closed(this);
+    }
+
+    private void processInput() throws IOException {
+        int headLength = RequestHead.find(input, inputLength);
+        if (headLength < 0) {
+            if (inputLength > MAX_HEAD_BYTES) {
+                reject(431, "Request Header Fields Too Large");
+            }
+            return;
+        }
+        RequestHead head;
+        long contentLength;
+        try {
+            head = RequestHead.parse(input, headLength);
+            contentLength = head.contentLength();
+        } catch (RequestHead.MalformedRequestException e) {
+            reject(400, "Bad Request");
+            return;
+        }
+        if (head.isChunked()) {
+            reject(411, "Length Required");
+            return;
+        }
+        if (contentLength > MAX_BODY_BYTES) {
+            reject(413, "Content Too Large");
+            return;
+        }
+        int requestLength = headLength + (int) contentLength;
+        if (inputLength < requestLength) {
+            if (head.expectsContinue() && !continueSent) {
+                continueSent = true;
+                send(CONTINUE.duplicate());
+            }
+            return;
+        }
+        byte[] body = Arrays.copyOfRange(input, headLength, requestLength);
+        consume(requestLength);
+        continueSent = false;
+        responding = true;
+        key.interestOps(0);
+        server.dispatch(this, head, body);
+    }
+
+    private void consume(int length) {
+        int remaining = inputLength - length;
+        input = remaining == 0 ? EMPTY : Arrays.copyOfRange(input, length, inputLength);
+        inputLength = remaining;
+    }
+
+    private void reject(int status, String reason) throws IOException {
+        byte[] body = reason.getBytes(StandardCharsets.ISO_8859_1);
+        String head = "HTTP/1.1 " + status + " " + reason + "\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Connection: close\r\n\r\n";
+        input = EMPTY;
+        inputLength = 0;
+        responding = true;
+        key.interestOps(0);
+        send(ByteBuffer.wrap(head.getBytes(StandardCharsets.ISO_8859_1)), ByteBuffer.wrap(body));
+        complete(true);
+    }
+}
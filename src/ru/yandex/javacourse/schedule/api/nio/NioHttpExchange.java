@@ -0,0 +1,330 @@
+package ru.yandex.javacourse.schedule.api.nio;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class NioHttpExchange extends HttpExchange {
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final Map<Integer, String> REASONS = Map.ofEntries(
+            Map.entry(200, "OK"), Map.entry(201, "Created"), Map.entry(204, "No Content"),
+            Map.entry(304, "Not Modified"), Map.entry(400, "Bad Request"), Map.entry(404, "Not Found"),
+            Map.entry(405, "Method Not Allowed"), Map.entry(406, "Not Acceptable"),
+            Map.entry(429, "Too Many Requests"), Map.entry(500, "Internal Server Error"),
+            Map.entry(503, "Service Unavailable"));
+
+    private final NioConnection connection;
+    private final NioHttpContext context;
+    private final RequestHead head;
+    private final boolean keepAlive;
+    private final Headers responseHeaders = new Headers();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final ResponseBody responseBody = new ResponseBody();
+    private InputStream requestStream;
+    private OutputStream responseStream;
+    private volatile int responseCode = -1;
+    private boolean completed;
+
+    NioHttpExchange(NioConnection connection, NioHttpContext context, RequestHead head, byte[] body) {
+        this.connection = connection;
+        this.context = context;
+        this.head = head;
+        this.keepAlive = head.keepAlive();
+        this.requestStream = new ByteArrayInputStream(body);
+        this.responseStream = responseBody;
+    }
+
+    @Override
+    public Headers getRequestHeaders() {
+        return head.headers();
+    }
+
+    @Override
+    public Headers getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    public URI getRequestURI() {
+        return head.uri();
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return head.method();
+    }
+
+    @Override
+    public HttpContext getHttpContext() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        try {
+            requestStream.close();
+        } catch (IOException ignored) {
+            // in-memory body
+        }
+        if (responseCode < 0) {
+            finish(true);
+            return;
+        }
+        try {
+            responseStream.close();
+        } catch (IOException e) {
+            finish(true);
+        }
+    }
+
+    @Override
+    public InputStream getRequestBody() {
+        return requestStream;
+    }
+
+    @Override
+    public OutputStream getResponseBody() {
+        return responseStream;
+    }
+
+    @Override
+    public void sendResponseHeaders(int code, long length) throws IOException {
+        synchronized (responseBody) {
+            if (responseCode >= 0) {
+                throw new IOException("Headers already sent");
+            }
+            responseCode = code;
+            boolean noBody = length < 0 || code < 200 || code == 204 || code == 304
+                    || head.method().equals("HEAD");
+            if (code != 204 && code != 304) {
+                if (length > 0) {
+                    responseHeaders.set("Content-Length", Long.toString(length));
+                } else if (length == 0 && !noBody) {
+                    responseHeaders.set("Transfer-Encoding", "chunked");
+                } else if (length < 0) {
+                    responseHeaders.set("Content-Length", "0");
+                }
+            }
+            if (!keepAlive) {
+                responseHeaders.set("Connection", "close");
+            } else if (head.protocol().equals("HTTP/1.0")) {
+                responseHeaders.set("Connection", "keep-alive");
+            }
+            ByteBuffer encodedHead = encodeHead(code);
+            if (noBody) {
+                connection.send(encodedHead);
+                responseBody.startEmpty();
+                finish(!keepAlive);
+            } else if (length == 0) {
+                responseBody.startChunked(encodedHead);
+            } else {
+                responseBody.startFixed(encodedHead, length);
+            }
+        }
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return connection.remoteAddress();
+    }
+
+    @Override
+    public int getResponseCode() {
+        return responseCode;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return connection.localAddress();
+    }
+
+    @Override
+    public String getProtocol() {
+        return head.protocol();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void setStreams(InputStream requestStream, OutputStream responseStream) {
+        if (requestStream != null) {
+            this.requestStream = requestStream;
+        }
+        if (responseStream != null) {
+            this.responseStream = responseStream;
+        }
+    }
+
+    @Override
+    public HttpPrincipal getPrincipal() {
+        return null;
+    }
+
+    private synchronized void finish(boolean close) {
+        if (!completed) {
+            completed = true;
+            connection.complete(close);
+        }
+    }
+
+    private ByteBuffer encodeHead(int code) {
+        StringBuilder builder = new StringBuilder(128)
+                .append("HTTP/1.1 ").append(code).append(' ')
+                .append(REASONS.getOrDefault(code, "Status")).append("\r\n");
+        for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+            for (String value : header.getValue()) {
+                builder.append(header.getKey()).append(": ").append(value).append("\r\n");
+            }
+        }
+        builder.append("\r\n");
+        return ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+        private Buffer(int size) {
+            super(size);
+        }
+
+        private ByteBuffer drain() {
+            ByteBuffer drained = ByteBuffer.wrap(buf, 0, count);
+            buf = new byte[buf.length];
+            count = 0;
+            return drained;
+        }
+
+        private ByteBuffer wrap() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    private final class ResponseBody extends OutputStream {
+        private Buffer buffer;
+        private ByteBuffer pendingHead;
+        private long fixedLength = -1;
+        private boolean chunked;
+        private boolean empty;
+        private boolean closed;
+
+        private void startEmpty() {
+            empty = true;
+        }
+
+        private void startFixed(ByteBuffer head, long length) throws IOException {
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Response too large: " + length);
+            }
+            pendingHead = head;
+            fixedLength = length;
+            buffer = new Buffer((int) length);
+        }
+
+        private void startChunked(ByteBuffer head) {
+            pendingHead = head;
+            chunked = true;
+            buffer = new Buffer(1024);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+            if (closed) {
+                throw new IOException("Response body closed");
+            }
+            if (responseCode < 0) {
+                throw new IOException("Response headers not sent");
+            }
+            if (empty) {
+                throw new IOException("Response has no body");
+            }
+            if (connection.isClosed()) {
+                throw new IOException("Connection closed");
+            }
+            if (fixedLength >= 0 && buffer.size() + length > fixedLength) {
+                throw new IOException("Too many bytes to write to response body");
+            }
+            buffer.write(bytes, offset, length);
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            if (!chunked || closed) {
+                return;
+            }
+            sendChunk();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (empty) {
+                return;
+            }
+            try {
+                if (chunked) {
+                    sendChunk();
+                    connection.send(ByteBuffer.wrap(LAST_CHUNK));
+                } else if (buffer.size() < fixedLength) {
+                    throw new IOException("Insufficient bytes written to response body");
+                } else {
+                    connection.send(pendingHead, buffer.wrap());
+                }
+            } catch (IOException e) {
+                finish(true);
+                throw e;
+            }
+            finish(!keepAlive);
+        }
+
+        private void sendChunk() throws IOException {
+            ByteBuffer head = pendingHead;
+            pendingHead = null;
+            if (buffer.size() == 0) {
+                if (head != null) {
+                    connection.send(head);
+                }
+                return;
+            }
+            ByteBuffer size = ByteBuffer.wrap((Integer.toHexString(buffer.size()) + "\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            if (head == null) {
+                connection.send(size, buffer.drain(), ByteBuffer.wrap(CRLF));
+            } else {
+                connection.send(head, size, buffer.drain(), ByteBuffer.wrap(CRLF));
+            }
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package ru.yandex.javacourse.schedule.api.nio;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class NioHttpServer extends HttpServer {
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(60);
+    public static final int DEFAULT_MAX_PENDING_OUTPUT_BYTES = 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final long MAX_SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final Selector selector;
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private final List<NioHttpContext> contexts = new CopyOnWriteArrayList<>();
+    private final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+    private final Set<NioConnection> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService defaultExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Executor executor;
+    private volatile Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+    private volatile int maxPendingOutputBytes = DEFAULT_MAX_PENDING_OUTPUT_BYTES;
+    private volatile boolean running;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+
+    public NioHttpServer() throws IOException {
+        this.selector = Selector.open();
+    }
+
+    public static NioHttpServer create(InetSocketAddress address, int backlog) throws IOException {
+        NioHttpServer server = new NioHttpServer();
+        server.bind(address, backlog);
+        return server;
+    }
+
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be positive: " + idleTimeout);
+        }
+        this.idleTimeout = idleTimeout;
+        selector.wakeup();
+    }
+
+    public int getMaxPendingOutputBytes() {
+        return maxPendingOutputBytes;
+    }
+
+    public void setMaxPendingOutputBytes(int maxPendingOutputBytes) {
+        if (maxPendingOutputBytes <= 0) {
+            throw new IllegalArgumentException("Pending output limit must be positive: " + maxPendingOutputBytes);
+        }
+        this.maxPendingOutputBytes = maxPendingOutputBytes;
+    }
+
+    @Override
+    public synchronized void bind(InetSocketAddress address, int backlog) throws IOException {
+        if (serverChannel != null) {
+            throw new BindException("Server already bound");
+        }
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        try {
+            channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            channel.bind(address, backlog);
+            channel.configureBlocking(false);
+            channel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        serverChannel = channel;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (serverChannel == null) {
+            throw new IllegalStateException("Server not bound");
+        }
+        if (selectorThread != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        running = true;
+        selectorThread = Thread.ofPlatform().name("kanban-nio-selector").daemon(true).start(this::runSelector);
+    }
+
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void stop(int delay) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Negative delay parameter");
+        }
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = selectorThread;
+        }
+        selector.wakeup();
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (thread == null) {
+            shutdown();
+        }
+    }
+
+    @Override
+    public HttpContext createContext(String path, HttpHandler handler) {
+        if (path == null || !path.startsWith("/")) {
+            throw new IllegalArgumentException("Invalid context path: " + path);
+        }
+        for (NioHttpContext context : contexts) {
+            if (context.getPath().equals(path)) {
+                throw new IllegalArgumentException("Cannot add context to list: " + path);
+            }
+        }
+        NioHttpContext context = new NioHttpContext(this, path, handler);
+        contexts.add(context);
+        return context;
+    }
+
+    @Override
+    public HttpContext createContext(String path) {
+        return createContext(path, null);
+    }
+
+    @Override
+    public void removeContext(String path) {
+        if (!contexts.removeIf(context -> context.getPath().equals(path))) {
+            throw new IllegalArgumentException("Cannot remove element from list: " + path);
+        }
+    }
+
+    @Override
+    public void removeContext(HttpContext context) {
+        if (!contexts.remove(context)) {
+            throw new IllegalArgumentException("Cannot remove element from list: " + context.getPath());
+        }
+    }
+
+    @Override
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    void dispatch(NioConnection connection, RequestHead head, byte[] body) throws IOException {
+        NioHttpContext context = findContext(head.uri().getPath());
+        if (context == null || context.getHandler() == null) {
+            NioHttpExchange exchange = new NioHttpExchange(connection, null, head, body);
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        NioHttpExchange exchange = new NioHttpExchange(connection, context, head, body);
+        Executor handlerExecutor = executor == null ? defaultExecutor : executor;
+        handlerExecutor.execute(() -> handle(context, exchange));
+    }
+
+    void flushLater(NioConnection connection) {
+        selectorTasks.add(() -> {
+            if (!connection.isClosed()) {
+                try {
+                    connection.onWritable();
+                } catch (IOException | RuntimeException e) {
+                    connection.close();
+                }
+            }
+        });
+        selector.wakeup();
+    }
+
+    void closeLater(NioConnection connection) {
+        selectorTasks.add(connection::close);
+        selector.wakeup();
+    }
+
+    void closed(NioConnection connection) {
+        connections.remove(connection);
+    }
+
+    private void handle(NioHttpContext context, NioHttpExchange exchange) {
+        try {
+            new Filter.Chain(context.getFilters(), context.getHandler()).doFilter(exchange);
+        } catch (IOException | RuntimeException e) {
+            exchange.close();
+        }
+    }
+
+    private NioHttpContext findContext(String path) {
+        NioHttpContext best = null;
+        for (NioHttpContext context : contexts) {
+            if (context.matches(path) && (best == null || context.getPath().length() > best.getPath().length())) {
+                best = context;
+            }
+        }
+        return best;
+    }
+
+    private void runSelector() {
+        try {
+            long nextSweep = System.nanoTime();
+            while (running) {
+                long sweepInterval = Math.clamp(idleTimeout.toMillis() / 4, 1, MAX_SWEEP_INTERVAL_MILLIS);
+                selector.select(sweepInterval);
+                long now = System.nanoTime();
+                if (now - nextSweep >= 0) {
+                    closeIdleConnections(now - idleTimeout.toNanos());
+                    nextSweep = now + TimeUnit.MILLISECONDS.toNanos(sweepInterval);
+                }
+                Runnable task;
+                while ((task = selectorTasks.poll()) != null) {
+                    task.run();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handleKey(key);
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            running = false;
+        } finally {
+            shutdown();
+        }
+    }
+
+    private void closeIdleConnections(long deadlineNanos) {
+        for (NioConnection connection : connections) {
+            if (connection.isIdleSince(deadlineNanos)) {
+                connection.close();
+            }
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        if (key.isValid() && key.isAcceptable()) {
+            accept();
+            return;
+        }
+        NioConnection connection = (NioConnection) key.attachment();
+        try {
+            if (key.isValid() && key.isWritable()) {
+                connection.onWritable();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.onReadable(readBuffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            connection.close();
+        }
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                try {
+                    channel.configureBlocking(false);
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    NioConnection connection = new NioConnection(this, channel, key);
+                    key.attach(connection);
+                    connections.add(connection);
+                } catch (IOException e) {
+                    channel.close();
+                }
+            }
+        } catch (IOException e) {
+            // the pending connection went away before it was accepted
+        }
+    }
+
+    private void shutdown() {
+        for (NioConnection connection : connections) {
+            connection.close();
+        }
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+            selector.close();
+        } catch (IOException ignored) {
+            // closing anyway
+        }
+        defaultExecutor.shutdown();
+    }
+}
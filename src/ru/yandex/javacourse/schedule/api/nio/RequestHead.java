@@ -0,0 +1,90 @@
+package ru.yandex.javacourse.schedule.api.nio;
+
+import com.sun.net.httpserver.Headers;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+record RequestHead(String method, URI uri, String protocol, Headers headers, int length) {
+    private static final String HTTP_1_0 = "HTTP/1.0";
+    private static final String HTTP_1_1 = "HTTP/1.1";
+
+    static int find(byte[] input, int length) {
+        for (int i = 3; i < length; i++) {
+            if (input[i] == '\n' && input[i - 1] == '\r' && input[i - 2] == '\n' && input[i - 3] == '\r') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    static RequestHead parse(byte[] input, int headLength) throws MalformedRequestException {
+        String[] lines = new String(input, 0, headLength - 4, StandardCharsets.ISO_8859_1).split("\r\n");
+        String[] requestLine = lines[0].split(" ");
+        if (requestLine.length != 3 || requestLine[0].isEmpty()) {
+            throw new MalformedRequestException("Bad request line");
+        }
+        String protocol = requestLine[2];
+        if (!protocol.equals(HTTP_1_1) && !protocol.equals(HTTP_1_0)) {
+            throw new MalformedRequestException("Unsupported protocol: " + protocol);
+        }
+        if (!requestLine[1].startsWith("/")) {
+            throw new MalformedRequestException("Request target must be in origin form");
+        }
+        URI uri;
+        try {
+            uri = new URI(requestLine[1]);
+        } catch (URISyntaxException e) {
+            throw new MalformedRequestException("Bad request target");
+        }
+        Headers headers = new Headers();
+        for (int i = 1; i < lines.length; i++) {
+            int separator = lines[i].indexOf(':');
+            if (separator <= 0) {
+                throw new MalformedRequestException("Bad header line");
+            }
+            headers.add(lines[i].substring(0, separator).trim(), lines[i].substring(separator + 1).trim());
+        }
+        return new RequestHead(requestLine[0], uri, protocol, headers, headLength);
+    }
+
+    long contentLength() throws MalformedRequestException {
+        String value = headers.getFirst("Content-Length");
+        if (value == null) {
+            return 0;
+        }
+        try {
+            long contentLength = Long.parseLong(value);
+            if (contentLength < 0) {
+                throw new MalformedRequestException("Negative Content-Length");
+            }
+            return contentLength;
+        } catch (NumberFormatException e) {
+            throw new MalformedRequestException("Bad Content-Length");
+        }
+    }
+
+    boolean isChunked() {
+        return headers.containsKey("Transfer-Encoding");
+    }
+
+    boolean expectsContinue() {
+        return "100-continue".equalsIgnoreCase(headers.getFirst("Expect"));
+    }
+
+    boolean keepAlive() {
+        String connection = headers.getFirst("Connection");
+        String option = connection == null ? "" : connection.toLowerCase(Locale.ROOT);
+        return protocol.equals(HTTP_1_1) ? !option.contains("close") : option.contains("keep-alive");
+    }
+
+    static final class MalformedRequestException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        MalformedRequestException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package ru.yandex.javacourse.schedule.api.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PathRouter<E> {
+    private static final String ID_SEGMENT = "{id}";
+    private static final char SEPARATOR = '/';
+
+    private final Node<E> root;
+    private final RouteMatch<E> notFound;
+
+    private PathRouter(Node<E> root, E defaultEndpoint) {
+        this.root = root;
+        this.notFound = new RouteMatch<>(defaultEndpoint, RouteMatch.NO_ID);
+    }
+
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    public RouteMatch<E> match(String method, String path) {
+        Node<E> node = root;
+        int id = RouteMatch.NO_ID;
+        int length = path.length();
+        int position = 0;
+        while (position < length) {
+            if (path.charAt(position) != SEPARATOR) {
+                return notFound;
+            }
+            int start = position + 1;
+            int end = path.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = length;
+            }
+            if (start == end) {
+                if (end == length) {
+                    break;
+                }
+                return notFound;
+            }
+            Node<E> next = node.findLiteral(path, start, end);
+            if (next == null && node.idChild != null) {
+                int parsedId = parseId(path, start, end);
+                if (parsedId == RouteMatch.NO_ID) {
+                    return notFound;
+                }
+                id = parsedId;
+                next = node.idChild;
+            }
+            if (next == null) {
+                return notFound;
+            }
+            node = next;
+            position = end;
+        }
+        return node.resolve(method, id, notFound);
+    }
+
+    private static int parseId(String path, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char symbol = path.charAt(i);
+            if (symbol < '0' || symbol > '9') {
+                return RouteMatch.NO_ID;
+            }
+            value = value * 10 + (symbol - '0');
+            if (value > Integer.MAX_VALUE) {
+                return RouteMatch.NO_ID;
+            }
+        }
+        return (int) value;
+    }
+
+    private static final class Node<E> {
+        private final String segment;
+        private final List<Node<E>> literalChildren = new ArrayList<>();
+        private final List<String> methods = new ArrayList<>();
+        private final List<RouteMatch<E>> matches = new ArrayList<>();
+        private Node<E> idChild;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node<E> findLiteral(String path, int start, int end) {
+            int segmentLength = end - start;
+            for (Node<E> child : literalChildren) {
+                if (child.segment.length() == segmentLength
+                        && path.regionMatches(start, child.segment, 0, segmentLength)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private Node<E> childFor(String templateSegment) {
+            if (ID_SEGMENT.equals(templateSegment)) {
+                if (idChild == null) {
+                    idChild = new Node<>(templateSegment);
+                }
+                return idChild;
+            }
+            for (Node<E> child : literalChildren) {
+                if (child.segment.equals(templateSegment)) {
+                    return child;
+                }
+            }
+            Node<E> child = new Node<>(templateSegment);
+            literalChildren.add(child);
+            return child;
+        }
+
+        private void addEndpoint(String method, E endpoint) {
+            for (String known : methods) {
+                if (known.equalsIgnoreCase(method)) {
+                    throw new IllegalArgumentException("Duplicate route: " + method + " " + segment);
+                }
+            }
+            methods.add(method);
+            matches.add(new RouteMatch<>(endpoint, RouteMatch.NO_ID));
+        }
+
+        private RouteMatch<E> resolve(String method, int id, RouteMatch<E> notFound) {
+            for (int i = 0; i < methods.size(); i++) {
+                if (methods.get(i).equalsIgnoreCase(method)) {
+                    RouteMatch<E> match = matches.get(i);
+                    return id == RouteMatch.NO_ID ? match : new RouteMatch<>(match.endpoint(), id);
+                }
+            }
+            return notFound;
+        }
+    }
+
+    public static final class Builder<E> {
+        private final Node<E> root = new Node<>("");
+
+        private Builder() {
+        }
+
+        public Builder<E> route(String method, String template, E endpoint) {
+            Node<E> node = root;
+            int idSegments = 0;
+            for (String segment : template.split(String.valueOf(SEPARATOR))) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (ID_SEGMENT.equals(segment)) {
+                    idSegments++;
+                }
+                node = node.childFor(segment);
+            }
+            if (idSegments > 1) {
+                throw new IllegalArgumentException("Only one id segment is supported: " + template);
+            }
+            node.addEndpoint(method, endpoint);
+            return this;
+        }
+
+        public PathRouter<E> build(E defaultEndpoint) {
+            return new PathRouter<>(root, defaultEndpoint);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ru.yandex.javacourse.schedule.api.routing;
+
+public record RouteMatch<E>(E endpoint, int id) {
+    public static final int NO_ID = -1;
+
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+}
@@ -0,0 +1,61 @@
+package ru.yandex.javacourse.schedule.load;
+
+public record LoadConfig(int port, int ratePerSecond, int warmupSeconds, int durationSeconds,
+                         double writeRatio,
+                         int seedTasks, int seedEpics, int subtasksPerEpic) {
+    public static final int DEFAULT_PORT = 8081;
+
+    public LoadConfig {
+        if (port < 0 || port > 65_535) {
+            throw new IllegalArgumentException("Port is out of range: " + port);
+        }
+        if (ratePerSecond <= 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("Rate and duration must be positive");
+        }
+        if (warmupSeconds < 0) {
+            throw new IllegalArgumentException("Warmup must not be negative: " + warmupSeconds);
+        }
+        if (writeRatio < 0 || writeRatio > 1) {
+            throw new IllegalArgumentException("Write ratio must be between 0 and 1: " + writeRatio);
+        }
+        if (seedTasks <= 0 || seedEpics <= 0 || subtasksPerEpic <= 0) {
+            throw new IllegalArgumentException("Seed sizes must be positive");
+        }
+    }
+
+    public static LoadConfig defaults() {
+        return new LoadConfig(DEFAULT_PORT, 1_000, 5, 30, 0.1, 1_000, 100, 10);
+    }
+
+    public static LoadConfig parse(String[] args) {
+        LoadConfig config = defaults();
+        int port = config.port();
+        int rate = config.ratePerSecond();
+        int warmup = config.warmupSeconds();
+        int duration = config.durationSeconds();
+        double writeRatio = config.writeRatio();
+        int seedTasks = config.seedTasks();
+        int seedEpics = config.seedEpics();
+        int subtasksPerEpic = config.subtasksPerEpic();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value argument: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "port" -> port = Integer.parseInt(value);
+                case "rate" -> rate = Integer.parseInt(value);
+                case "warmup" -> warmup = Integer.parseInt(value);
+                case "duration" -> duration = Integer.parseInt(value);
+                case "write-ratio" -> writeRatio = Double.parseDouble(value);
+                case "seed-tasks" -> seedTasks = Integer.parseInt(value);
+                case "seed-epics" -> seedEpics = Integer.parseInt(value);
+                case "subtasks-per-epic" -> subtasksPerEpic = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown argument: " + name);
+            }
+        }
+        return new LoadConfig(port, rate, warmup, duration, writeRatio, seedTasks, seedEpics, subtasksPerEpic);
+    }
+}
@@ -0,0 +1,187 @@
+package ru.yandex.javacourse.schedule.load;
+
+import com.google.gson.Gson;
+import ru.yandex.javacourse.schedule.api.HttpTaskServer;
+import ru.yandex.javacourse.schedule.api.json.GsonConfig;
+import ru.yandex.javacourse.schedule.manager.Managers;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.metrics.LatencyHistogram;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadGenerator {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SEED = 42;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final LoadOperation[] READ_OPERATIONS = operations(false);
+    private static final LoadOperation[] WRITE_OPERATIONS = operations(true);
+
+    private final LoadConfig config;
+    private final Gson gson = GsonConfig.createGson();
+    private final SplittableRandom random = new SplittableRandom(SEED);
+    private final String baseUrl;
+    private int[] taskIds;
+    private int[] epicIds;
+
+    public LoadGenerator(LoadConfig config) {
+        this.config = config;
+        this.baseUrl = "http://127.0.0.1:" + config.port();
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadConfig config = LoadConfig.parse(args);
+        System.out.print(new LoadGenerator(config).run().render());
+    }
+
+    public LoadReport run() throws IOException {
+        TaskManager taskManager = Managers.getDefaultInMemory();
+        seed(taskManager);
+        HttpTaskServer server = new HttpTaskServer(taskManager, config.port());
+        server.start();
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            return drive(client);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private LoadReport drive(HttpClient client) {
+        LatencyHistogram overall = new LatencyHistogram();
+        Map<LoadOperation, LatencyHistogram> byOperation = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            byOperation.put(operation, new LatencyHistogram());
+        }
+        LongAdder errors = new LongAdder();
+        long warmupRequests = (long) config.ratePerSecond() * config.warmupSeconds();
+        long totalRequests = warmupRequests + (long) config.ratePerSecond() * config.durationSeconds();
+        long startNanos = System.nanoTime();
+        long measurementStartNanos = startNanos + warmupRequests * NANOS_PER_SECOND / config.ratePerSecond();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < totalRequests; i++) {
+                long intendedNanos = startNanos + i * NANOS_PER_SECOND / config.ratePerSecond();
+                long waitNanos;
+                while ((waitNanos = intendedNanos - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                boolean measured = i >= warmupRequests;
+                LoadOperation operation = nextOperation();
+                HttpRequest request = buildRequest(operation);
+                executor.execute(() -> {
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400 && measured) {
+                            errors.increment();
+                        }
+                    } catch (IOException exception) {
+                        if (measured) {
+                            errors.increment();
+                        }
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        if (measured) {
+                            long latencyNanos = System.nanoTime() - intendedNanos;
+                            overall.record(latencyNanos);
+                            byOperation.get(operation).record(latencyNanos);
+                        }
+                    }
+                });
+            }
+        }
+        return new LoadReport(System.nanoTime() - measurementStartNanos, errors.sum(), overall, byOperation);
+    }
+
+    private void seed(TaskManager taskManager) {
+        List<Task> tasks = new ArrayList<>(config.seedTasks());
+        for (int i = 0; i < config.seedTasks(); i++) {
+            tasks.add(new Task("Task " + i, "Seeded task", TaskStatus.NEW));
+        }
+        taskIds = toArray(taskManager.addNewTasks(tasks));
+        List<Epic> epics = new ArrayList<>(config.seedEpics());
+        for (int i = 0; i < config.seedEpics(); i++) {
+            epics.add(new Epic("Epic " + i, "Seeded epic"));
+        }
+        epicIds = toArray(taskManager.addNewEpics(epics));
+        List<Subtask> subtasks = new ArrayList<>(epicIds.length * config.subtasksPerEpic());
+        for (int epicId : epicIds) {
+            for (int i = 0; i < config.subtasksPerEpic(); i++) {
+                subtasks.add(new Subtask("Subtask " + i, "Seeded subtask", TaskStatus.NEW, epicId));
+            }
+        }
+        taskManager.addNewSubtasks(subtasks);
+    }
+
+    private LoadOperation nextOperation() {
+        LoadOperation[] candidates = random.nextDouble() < config.writeRatio() ? WRITE_OPERATIONS : READ_OPERATIONS;
+        return candidates[random.nextInt(candidates.length)];
+    }
+
+    private HttpRequest buildRequest(LoadOperation operation) {
+        return switch (operation) {
+            case GET_TASKS -> get("/tasks");
+            case GET_TASK_BY_ID -> get("/tasks/" + pick(taskIds));
+            case GET_SUBTASKS -> get("/subtasks");
+            case GET_EPICS -> get("/epics");
+            case GET_EPIC_SUBTASKS -> get("/epics/" + pick(epicIds) + "/subtasks");
+            case GET_HISTORY -> get("/history");
+            case GET_PRIORITIZED -> get("/prioritized");
+            case CREATE_TASK -> post("/tasks", new Task("Load task", "Created by load generator", TaskStatus.NEW));
+            case UPDATE_TASK -> post("/tasks", new Task(pick(taskIds), "Load task", "Updated by load generator",
+                    random.nextBoolean() ? TaskStatus.IN_PROGRESS : TaskStatus.DONE));
+            case CREATE_SUBTASK -> post("/subtasks", new Subtask("Load subtask", "Created by load generator",
+                    TaskStatus.NEW, pick(epicIds)));
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Task body) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(body)))
+                .build();
+    }
+
+    private int pick(int[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static LoadOperation[] operations(boolean write) {
+        return Arrays.stream(LoadOperation.values())
+                .filter(operation -> operation.isWrite() == write)
+                .toArray(LoadOperation[]::new);
+    }
+}
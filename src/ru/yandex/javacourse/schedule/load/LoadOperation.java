@@ -0,0 +1,24 @@
+package ru.yandex.javacourse.schedule.load;
+
+public enum LoadOperation {
+    GET_TASKS(false),
+    GET_TASK_BY_ID(false),
+    GET_SUBTASKS(false),
+    GET_EPICS(false),
+    GET_EPIC_SUBTASKS(false),
+    GET_HISTORY(false),
+    GET_PRIORITIZED(false),
+    CREATE_TASK(true),
+    UPDATE_TASK(true),
+    CREATE_SUBTASK(true);
+
+    private final boolean write;
+
+    LoadOperation(boolean write) {
+        this.write = write;
+    }
+
+    public boolean isWrite() {
+        return write;
+    }
+}
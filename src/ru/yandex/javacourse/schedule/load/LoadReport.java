@@ -0,0 +1,42 @@
+package ru.yandex.javacourse.schedule.load;
+
+import ru.yandex.javacourse.schedule.metrics.LatencyHistogram;
+
+import java.util.Locale;
+import java.util.Map;
+
+public record LoadReport(long elapsedNanos, long errors, LatencyHistogram overall,
+                         Map<LoadOperation, LatencyHistogram> byOperation) {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public long getTotalRequests() {
+        return overall.getCount();
+    }
+
+    public double getThroughput() {
+        return getTotalRequests() / (elapsedNanos / NANOS_PER_SECOND);
+    }
+
+    public String render() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "requests=%d errors=%d elapsed=%.1fs throughput=%.1f req/s%n",
+                getTotalRequests(), errors, elapsedNanos / NANOS_PER_SECOND, getThroughput()));
+        report.append(String.format(Locale.ROOT, "%-18s %10s %10s %10s %10s%n",
+                "operation", "count", "p50 ms", "p99 ms", "p999 ms"));
+        appendRow(report, "ALL", overall);
+        byOperation.forEach((operation, histogram) -> {
+            if (histogram.getCount() > 0) {
+                appendRow(report, operation.name(), histogram);
+            }
+        });
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String name, LatencyHistogram histogram) {
+        report.append(String.format(Locale.ROOT, "%-18s %10d %10.3f %10.3f %10.3f%n", name, histogram.getCount(),
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI));
+    }
+}
@@ -0,0 +1,104 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class AsyncTaskManager implements AutoCloseable {
+    private final TaskManager delegate;
+    private final PipelinedTaskManager pipeline;
+
+    public AsyncTaskManager(TaskManager delegate) {
+        this(delegate, PipelinedTaskManager.DEFAULT_QUEUE_CAPACITY, PipelinedTaskManager.DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public AsyncTaskManager(TaskManager delegate, int queueCapacity, int maxBatchSize) {
+        this.delegate = delegate;
+        this.pipeline = new PipelinedTaskManager(delegate, queueCapacity, maxBatchSize);
+    }
+
+    public TaskManager getTaskManager() {
+        return pipeline;
+    }
+
+    public <T> AsyncWrite<T> submit(Function<TaskManager, T> mutation) {
+        return pipeline.submitAsync(() -> mutation.apply(delegate));
+    }
+
+    public AsyncWrite<Void> run(Consumer<TaskManager> mutation) {
+        return submit(manager -> {
+            mutation.accept(manager);
+            return null;
+        });
+    }
+
+    public AsyncWrite<Integer> addNewTask(Task task) {
+        return submit(manager -> manager.addNewTask(task));
+    }
+
+    public AsyncWrite<Integer> addNewEpic(Epic epic) {
+        return submit(manager -> manager.addNewEpic(epic));
+    }
+
+    public AsyncWrite<Integer> addNewSubtask(Subtask subtask) {
+        return submit(manager -> manager.addNewSubtask(subtask));
+    }
+
+    public AsyncWrite<List<Integer>> addNewTasks(Collection<Task> tasks) {
+        return submit(manager -> manager.addNewTasks(tasks));
+    }
+
+    public AsyncWrite<List<Integer>> addNewEpics(Collection<Epic> epics) {
+        return submit(manager -> manager.addNewEpics(epics));
+    }
+
+    public AsyncWrite<List<Integer>> addNewSubtasks(Collection<Subtask> subtasks) {
+        return submit(manager -> manager.addNewSubtasks(subtasks));
+    }
+
+    public AsyncWrite<Void> updateTask(Task task) {
+        return run(manager -> manager.updateTask(task));
+    }
+
+    public AsyncWrite<Void> updateEpic(Epic epic) {
+        return run(manager -> manager.updateEpic(epic));
+    }
+
+    public AsyncWrite<Void> updateSubtask(Subtask subtask) {
+        return run(manager -> manager.updateSubtask(subtask));
+    }
+
+    public AsyncWrite<Void> deleteTask(int id) {
+        return run(manager -> manager.deleteTask(id));
+    }
+
+    public AsyncWrite<Void> deleteEpic(int id) {
+        return run(manager -> manager.deleteEpic(id));
+    }
+
+    public AsyncWrite<Void> deleteSubtask(int id) {
+        return run(manager -> manager.deleteSubtask(id));
+    }
+
+    public AsyncWrite<Void> deleteTasks() {
+        return run(TaskManager::deleteTasks);
+    }
+
+    public AsyncWrite<Void> deleteSubtasks() {
+        return run(TaskManager::deleteSubtasks);
+    }
+
+    public AsyncWrite<Void> deleteEpics() {
+        return run(TaskManager::deleteEpics);
+    }
+
+    @Override
+    public void close() {
+        pipeline.close();
+    }
+}
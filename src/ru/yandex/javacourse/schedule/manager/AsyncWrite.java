@@ -0,0 +1,16 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import java.util.concurrent.CompletableFuture;
+
+public record AsyncWrite<T>(CompletableFuture<T> applied, CompletableFuture<T> durable) {
+
+    static <T> AsyncWrite<T> completed(T value) {
+        CompletableFuture<T> done = CompletableFuture.completedFuture(value);
+        return new AsyncWrite<>(done, done);
+    }
+
+    static <T> AsyncWrite<T> failed(RuntimeException exception) {
+        CompletableFuture<T> failure = CompletableFuture.failedFuture(exception);
+        return new AsyncWrite<>(failure, failure);
+    }
+}
@@ -0,0 +1,768 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.manager.events.ChangeLog;
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
+import ru.yandex.javacourse.schedule.manager.events.TaskEvent;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventBus;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventType;
+import ru.yandex.javacourse.schedule.manager.search.NameIndex;
+import ru.yandex.javacourse.schedule.manager.search.SearchIndex;
+import ru.yandex.javacourse.schedule.manager.search.SearchQuery;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+import ru.yandex.javacourse.schedule.tasks.TaskTime;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static ru.yandex.javacourse.schedule.manager.events.TaskEventType.CREATED;
+import static ru.yandex.javacourse.schedule.manager.events.TaskEventType.DELETED;
+import static ru.yandex.javacourse.schedule.manager.events.TaskEventType.UPDATED;
+import static ru.yandex.javacourse.schedule.tasks.TaskStatus.IN_PROGRESS;
+import static ru.yandex.javacourse.schedule.tasks.TaskStatus.NEW;
+
+public class EpicStripedTaskManager implements TaskManager {
+    public static final int DEFAULT_STRIPE_COUNT = 64;
+    private static final int CHANGE_LOG_CAPACITY = 10_000;
+
+    private final Map<Integer, Task> tasks = new ConcurrentHashMap<>();
+    private final Map<Integer, Epic> epics = new ConcurrentHashMap<>();
+    private final Map<Integer, Subtask> subtasks = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private final ScheduleIndex schedule = new ScheduleIndex();
+    private final AtomicInteger generatorId = new AtomicInteger();
+    private final HistoryManager historyManager = Managers.getDefaultHistory();
+    private final TaskEventBus eventBus = new TaskEventBus();
+    private final ChangeLog changeLog = new ChangeLog(CHANGE_LOG_CAPACITY);
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private final ReentrantLock textIndexLock = new ReentrantLock();
+    private final VersionedSnapshot<Task> taskSnapshot = new VersionedSnapshot<>(tasks::values);
+    private final VersionedSnapshot<Subtask> subtaskSnapshot = new VersionedSnapshot<>(subtasks::values);
+    private final VersionedSnapshot<Epic> epicSnapshot = new VersionedSnapshot<>(epics::values);
+
+    private record IdBlock(int previousSequence, int lastSequence, int[] ids) {
+    }
+
+    public EpicStripedTaskManager() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    public EpicStripedTaskManager(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripeCount);
+        }
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public List<Task> getTasks() {
+        return taskSnapshot.get();
+    }
+
+    @Override
+    public List<Task> getPrioritizedTasks() {
+        return schedule.snapshot();
+    }
+
+    @Override
+    public List<Subtask> getSubtasks() {
+        return subtaskSnapshot.get();
+    }
+
+    @Override
+    public List<Epic> getEpics() {
+        return epicSnapshot.get();
+    }
+
+    @Override
+    public List<Subtask> getEpicSubtasks(int epicId) {
+        Epic epic = epics.get(epicId);
+        ensureFoundOrThrow(epic, "epic");
+        List<Subtask> result = new ArrayList<>(epic.getSubtaskIds().size());
+        for (int subtaskId : epic.getSubtaskIds()) {
+            Subtask subtask = subtasks.get(subtaskId);
+            if (subtask != null) {
+                result.add(subtask);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Task> getTasksByStatus(TaskStatus status) {
+        return filterByStatus(tasks.values(), status);
+    }
+
+    @Override
+    public List<Subtask> getSubtasksByStatus(TaskStatus status) {
+        return filterByStatus(subtasks.values(), status);
+    }
+
+    @Override
+    public List<Epic> getEpicsByStatus(TaskStatus status) {
+        return filterByStatus(epics.values(), status);
+    }
+
+    @Override
+    public List<Subtask> getEpicSubtasksByStatus(int epicId, TaskStatus status) {
+        return filterByStatus(getEpicSubtasks(epicId), status);
+    }
+
+    @Override
+    public List<Task> search(String query, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
+        SearchQuery parsed = SearchQuery.parse(query);
+        int[] ids;
+        textIndexLock.lock();
+        try {
+            ids = searchIndex.search(parsed, limit);
+        } finally {
+            textIndexLock.unlock();
+        }
+        return resolve(ids);
+    }
+
+    @Override
+    public List<Task> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Suggestion prefix must not be empty");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive");
+        }
+        int[] ids;
+        textIndexLock.lock();
+        try {
+            ids = nameIndex.suggest(prefix, limit);
+        } finally {
+            textIndexLock.unlock();
+        }
+        return resolve(ids);
+    }
+
+    @Override
+    public Task getTask(int id) {
+        return recordView(tasks.get(id), "task");
+    }
+
+    @Override
+    public Subtask getSubtask(int id) {
+        return recordView(subtasks.get(id), "subtask");
+    }
+
+    @Override
+    public Epic getEpic(int id) {
+        return recordView(epics.get(id), "epic");
+    }
+
+    @Override
+    public int addNewTask(Task task) {
+        final int id = assignOrValidateId(task.getId());
+        task.setId(id);
+        return withStripe(id, () -> {
+            schedule.replace(null, task);
+            storeTask(null, task, CREATED);
+            return id;
+        });
+    }
+
+    @Override
+    public int addNewEpic(Epic epic) {
+        final int id = assignOrValidateId(epic.getId());
+        epic.setId(id);
+        return withStripe(id, () -> {
+            storeEpic(null, epic, CREATED);
+            return id;
+        });
+    }
+
+    @Override
+    public Integer addNewSubtask(Subtask subtask) {
+        final int epicId = subtask.getEpicId();
+        return withStripe(epicId, () -> {
+            final Epic epic = epics.get(epicId);
+            ensureFoundOrThrow(epic, "epic");
+            final int id = assignOrValidateId(subtask.getId());
+            subtask.setId(id);
+            schedule.replace(null, subtask);
+            storeSubtask(null, subtask, CREATED);
+            List<Integer> subtaskIds = new ArrayList<>(epic.getSubtaskIds());
+            subtaskIds.add(id);
+            storeEpic(epic, rebuildEpic(epic, subtaskIds), UPDATED);
+            return id;
+        });
+    }
+
+    @Override
+    public List<Integer> addNewTasks(Collection<Task> newTasks) {
+        return withAllStripes(() -> {
+            final IdBlock block = reserveIds(newTasks);
+            final int[] ids = block.ids();
+            int index = 0;
+            for (Task task : newTasks) {
+                task.setId(ids[index++]);
+            }
+            reserveSchedule(newTasks, block);
+            List<Integer> result = new ArrayList<>(ids.length);
+            for (Task task : newTasks) {
+                storeTask(null, task, CREATED);
+                result.add(task.getId());
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public List<Integer> addNewEpics(Collection<Epic> newEpics) {
+        return withAllStripes(() -> {
+            final int[] ids = reserveIds(newEpics).ids();
+            List<Integer> result = new ArrayList<>(ids.length);
+            int index = 0;
+            for (Epic epic : newEpics) {
+                epic.setId(ids[index++]);
+                storeEpic(null, epic, CREATED);
+                result.add(epic.getId());
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public List<Integer> addNewSubtasks(Collection<Subtask> newSubtasks) {
+        return withAllStripes(() -> {
+            for (Subtask subtask : newSubtasks) {
+                ensureFoundOrThrow(epics.get(subtask.getEpicId()), "epic");
+            }
+            final IdBlock block = reserveIds(newSubtasks);
+            final int[] ids = block.ids();
+            int index = 0;
+            for (Subtask subtask : newSubtasks) {
+                subtask.setId(ids[index++]);
+            }
+            reserveSchedule(newSubtasks, block);
+            Map<Integer, List<Integer>> addedByEpic = new LinkedHashMap<>();
+            List<Integer> result = new ArrayList<>(ids.length);
+            for (Subtask subtask : newSubtasks) {
+                storeSubtask(null, subtask, CREATED);
+                addedByEpic.computeIfAbsent(subtask.getEpicId(), epicId -> new ArrayList<>()).add(subtask.getId());
+                result.add(subtask.getId());
+            }
+            addedByEpic.forEach((epicId, added) -> {
+                Epic epic = epics.get(epicId);
+                List<Integer> subtaskIds = new ArrayList<>(epic.getSubtaskIds());
+                subtaskIds.addAll(added);
+                storeEpic(epic, rebuildEpic(epic, subtaskIds), UPDATED);
+            });
+            return result;
+        });
+    }
+
+    @Override
+    public void updateTask(Task task) {
+        final int id = task.getId();
+        withStripe(id, () -> {
+            final Task old = tasks.get(id);
+            ensureFoundOrThrow(old, "task");
+            schedule.replace(old, task);
+            storeTask(old, task, UPDATED);
+            return null;
+        });
+    }
+
+    @Override
+    public void updateEpic(Epic epic) {
+        final int id = epic.getId();
+        withStripe(id, () -> {
+            final Epic old = epics.get(id);
+            ensureFoundOrThrow(old, "epic");
+            Epic renamed = new Epic(id, epic.getName(), epic.getDescription());
+            storeEpic(old, rebuildEpic(renamed, old.getSubtaskIds()), UPDATED);
+            return null;
+        });
+    }
+
+    @Override
+    public void updateSubtask(Subtask subtask) {
+        final int id = subtask.getId();
+        final int newEpicId = subtask.getEpicId();
+        boolean applied = false;
+        while (!applied) {
+            final Subtask saved = subtasks.get(id);
+            ensureFoundOrThrow(saved, "subtask");
+            final int oldEpicId = saved.getEpicId();
+            applied = withStripes(oldEpicId, newEpicId, () -> {
+                if (subtasks.get(id) != saved) {
+                    return false;
+                }
+                final Epic newEpic = epics.get(newEpicId);
+                ensureFoundOrThrow(newEpic, "epic");
+                schedule.replace(saved, subtask);
+                storeSubtask(saved, subtask, UPDATED);
+                if (oldEpicId != newEpicId) {
+                    unlinkSubtask(oldEpicId, id);
+                    List<Integer> subtaskIds = new ArrayList<>(newEpic.getSubtaskIds());
+                    subtaskIds.add(id);
+                    storeEpic(newEpic, rebuildEpic(newEpic, subtaskIds), UPDATED);
+                } else {
+                    storeEpic(newEpic, rebuildEpic(newEpic, newEpic.getSubtaskIds()), UPDATED);
+                }
+                return true;
+            });
+        }
+    }
+
+    @Override
+    public void deleteTask(int id) {
+        withStripe(id, () -> {
+            final Task task = tasks.remove(id);
+            ensureFoundOrThrow(task, "task");
+            forget(task);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteEpic(int id) {
+        withStripe(id, () -> {
+            final Epic epic = epics.remove(id);
+            ensureFoundOrThrow(epic, "epic");
+            for (int subtaskId : epic.getSubtaskIds()) {
+                Subtask removed = subtasks.remove(subtaskId);
+                if (removed != null) {
+                    forget(removed);
+                }
+            }
+            forget(epic);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteSubtask(int id) {
+        boolean applied = false;
+        while (!applied) {
+            final Subtask saved = subtasks.get(id);
+            ensureFoundOrThrow(saved, "subtask");
+            applied = withStripe(saved.getEpicId(), () -> {
+                if (!subtasks.remove(id, saved)) {
+                    return false;
+                }
+                forget(saved);
+                unlinkSubtask(saved.getEpicId(), id);
+                return true;
+            });
+        }
+    }
+
+    @Override
+    public void deleteTasks() {
+        withAllStripes(() -> {
+            for (Task task : List.copyOf(tasks.values())) {
+                tasks.remove(task.getId());
+                forget(task);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteSubtasks() {
+        withAllStripes(() -> {
+            for (Subtask subtask : List.copyOf(subtasks.values())) {
+                subtasks.remove(subtask.getId());
+                forget(subtask);
+            }
+            for (Epic epic : List.copyOf(epics.values())) {
+                storeEpic(epic, rebuildEpic(epic, List.of()), UPDATED);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteEpics() {
+        withAllStripes(() -> {
+            for (Subtask subtask : List.copyOf(subtasks.values())) {
+                subtasks.remove(subtask.getId());
+                forget(subtask);
+            }
+            for (Epic epic : List.copyOf(epics.values())) {
+                epics.remove(epic.getId());
+                forget(epic);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<Task> getHistory() {
+        synchronized (historyManager) {
+            return historyManager.getHistory();
+        }
+    }
+
+    @Override
+    public <T> T executeBatch(Supplier<T> batch) {
+        return withAllStripes(batch);
+    }
+
+    @Override
+    public TaskEventBus getEventBus() {
+        return eventBus;
+    }
+
+    @Override
+    public ChangeSet getChangesSince(ChangeVersion version) {
+        Map<Integer, TaskEventType> lastEventTypes = new LinkedHashMap<>();
+        Map<Integer, TaskType> taskTypes = new HashMap<>();
+        ChangeVersion current;
+        synchronized (changeLog) {
+            current = changeLog.getVersion();
+            if (!changeLog.isAvailableSince(version)) {
+                return ChangeSet.resync(current);
+            }
+            changeLog.forEachSince(version, (sequence, eventType, taskType, id) -> {
+                lastEventTypes.put(id, eventType);
+                taskTypes.put(id, taskType);
+            });
+        }
+        List<Task> changedTasks = new ArrayList<>();
+        List<Epic> changedEpics = new ArrayList<>();
+        List<Subtask> changedSubtasks = new ArrayList<>();
+        List<Integer> deletedIds = new ArrayList<>();
+        lastEventTypes.forEach((id, eventType) -> {
+            if (eventType == DELETED) {
+                deletedIds.add(id);
+                return;
+            }
+            switch (taskTypes.get(id)) {
+                case TASK -> addIfPresent(changedTasks, tasks.get(id));
+                case EPIC -> addIfPresent(changedEpics, epics.get(id));
+                case SUBTASK -> addIfPresent(changedSubtasks, subtasks.get(id));
+            }
+        });
+        return new ChangeSet(current.toString(), false, changedTasks, changedEpics, changedSubtasks, deletedIds);
+    }
+
+    @Override
+    public void bindMetrics(MetricsRegistry metricsRegistry) {
+        metricsRegistry.registerGauge("kanban_tasks", "Number of stored tasks.", tasks::size);
+        metricsRegistry.registerGauge("kanban_epics", "Number of stored epics.", epics::size);
+        metricsRegistry.registerGauge("kanban_subtasks", "Number of stored subtasks.", subtasks::size);
+        metricsRegistry.registerGauge("kanban_history_size", "Number of entries in view history.", () -> {
+            synchronized (historyManager) {
+                return historyManager.size();
+            }
+        });
+        metricsRegistry.registerGauge("kanban_prioritized_tasks", "Number of tasks in prioritized index.",
+                schedule::size);
+    }
+
+    private <T> T withStripe(int key, Supplier<T> action) {
+        ReentrantLock stripe = stripeFor(key);
+        stripe.lock();
+        try {
+            return action.get();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private <T> T withStripes(int firstKey, int secondKey, Supplier<T> action) {
+        int first = Math.floorMod(firstKey, stripes.length);
+        int second = Math.floorMod(secondKey, stripes.length);
+        if (first == second) {
+            return withStripe(firstKey, action);
+        }
+        ReentrantLock lower = stripes[Math.min(first, second)];
+        ReentrantLock upper = stripes[Math.max(first, second)];
+        lower.lock();
+        try {
+            upper.lock();
+            try {
+                return action.get();
+            } finally {
+                upper.unlock();
+            }
+        } finally {
+            lower.unlock();
+        }
+    }
+
+    private <T> T withAllStripes(Supplier<T> action) {
+        int locked = 0;
+        try {
+            for (; locked < stripes.length; locked++) {
+                stripes[locked].lock();
+            }
+            return action.get();
+        } finally {
+            while (locked > 0) {
+                stripes[--locked].unlock();
+            }
+        }
+    }
+
+    private ReentrantLock stripeFor(int key) {
+        return stripes[Math.floorMod(key, stripes.length)];
+    }
+
+    private int assignOrValidateId(int requestedId) {
+        if (requestedId == 0) {
+            return generatorId.incrementAndGet();
+        }
+        int current;
+        do {
+            current = generatorId.get();
+            if (requestedId <= current) {
+                throw new IllegalArgumentException(
+                        "Predefined id must be greater than current sequence (generatorId=" + current + "): " + requestedId);
+            }
+        } while (!generatorId.compareAndSet(current, requestedId));
+        return requestedId;
+    }
+
+    private IdBlock reserveIds(Collection<? extends Task> batch) {
+        while (true) {
+            final int current = generatorId.get();
+            int[] ids = new int[batch.size()];
+            int sequence = current;
+            int index = 0;
+            for (Task task : batch) {
+                int requestedId = task.getId();
+                if (requestedId == 0) {
+                    ids[index++] = ++sequence;
+                    continue;
+                }
+                if (requestedId <= sequence) {
+                    throw new IllegalArgumentException(
+                            "Predefined id must be greater than current sequence (generatorId=" + sequence + "): " + requestedId);
+                }
+                sequence = requestedId;
+                ids[index++] = requestedId;
+            }
+            if (generatorId.compareAndSet(current, sequence)) {
+                return new IdBlock(current, sequence, ids);
+            }
+        }
+    }
+
+    private void reserveSchedule(Collection<? extends Task> batch, IdBlock block) {
+        try {
+            schedule.replaceAll(List.of(), batch);
+        } catch (RuntimeException exception) {
+            generatorId.compareAndSet(block.lastSequence(), block.previousSequence());
+            throw exception;
+        }
+    }
+
+    private void storeTask(Task previous, Task task, TaskEventType eventType) {
+        tasks.put(task.getId(), task);
+        taskSnapshot.invalidate();
+        task.markAsManaged();
+        indexText(previous, task);
+        publish(eventType, task);
+    }
+
+    private void storeSubtask(Subtask previous, Subtask subtask, TaskEventType eventType) {
+        subtasks.put(subtask.getId(), subtask);
+        subtaskSnapshot.invalidate();
+        subtask.markAsManaged();
+        indexText(previous, subtask);
+        publish(eventType, subtask);
+    }
+
+    private void storeEpic(Epic previous, Epic epic, TaskEventType eventType) {
+        epics.put(epic.getId(), epic);
+        epicSnapshot.invalidate();
+        epic.markAsManaged();
+        indexText(previous, epic);
+        publish(eventType, epic);
+    }
+
+    private void unlinkSubtask(int epicId, int subtaskId) {
+        Epic epic = epics.get(epicId);
+        if (epic == null) {
+            return;
+        }
+        List<Integer> subtaskIds = new ArrayList<>(epic.getSubtaskIds());
+        subtaskIds.remove(Integer.valueOf(subtaskId));
+        storeEpic(epic, rebuildEpic(epic, subtaskIds), UPDATED);
+    }
+
+    private Epic rebuildEpic(Epic template, List<Integer> subtaskIds) {
+        Epic rebuilt = new Epic(template.getId(), template.getName(), template.getDescription());
+        Set<Integer> uniqueIds = new LinkedHashSet<>(subtaskIds);
+        uniqueIds.forEach(rebuilt::addSubtaskId);
+        rebuilt.setStatus(computeEpicStatus(uniqueIds));
+        computeEpicTime(uniqueIds, rebuilt);
+        rebuilt.markAsManaged();
+        return rebuilt;
+    }
+
+    private TaskStatus computeEpicStatus(Collection<Integer> subtaskIds) {
+        TaskStatus status = null;
+        for (int subtaskId : subtaskIds) {
+            final Subtask subtask = subtasks.get(subtaskId);
+            if (subtask == null) {
+                continue;
+            }
+            if (status == null) {
+                status = subtask.getStatus();
+                continue;
+            }
+            if (status != subtask.getStatus() || status == IN_PROGRESS) {
+                return IN_PROGRESS;
+            }
+        }
+        return status == null ? NEW : status;
+    }
+
+    private void computeEpicTime(Collection<Integer> subtaskIds, Epic target) {
+        long startMinute = TaskTime.NO_TIME;
+        long endMinute = Long.MIN_VALUE;
+        long durationMinutes = 0;
+        for (int subtaskId : subtaskIds) {
+            final Subtask subtask = subtasks.get(subtaskId);
+            if (subtask == null) {
+                continue;
+            }
+            durationMinutes += subtask.getDurationMinutes();
+            if (subtask.hasStartTime()) {
+                startMinute = Math.min(startMinute, subtask.getStartMinute());
+                endMinute = Math.max(endMinute, subtask.getEndMinute());
+            }
+        }
+        target.setDurationMinutes(durationMinutes);
+        target.setStartMinute(startMinute);
+        target.setEndMinute(startMinute == TaskTime.NO_TIME ? TaskTime.NO_TIME : endMinute);
+    }
+
+    private void forget(Task task) {
+        switch (task.getType()) {
+            case TASK -> taskSnapshot.invalidate();
+            case EPIC -> epicSnapshot.invalidate();
+            case SUBTASK -> subtaskSnapshot.invalidate();
+        }
+        schedule.remove(task);
+        synchronized (historyManager) {
+            historyManager.remove(task.getId());
+        }
+        textIndexLock.lock();
+        try {
+            searchIndex.remove(task.getId());
+            if (task.getType() != TaskType.SUBTASK) {
+                nameIndex.remove(task.getId(), task.getName());
+            }
+        } finally {
+            textIndexLock.unlock();
+        }
+        publish(DELETED, task);
+    }
+
+    private void indexText(Task previous, Task current) {
+        boolean nameChanged = previous == null || !Objects.equals(previous.getName(), current.getName());
+        if (!nameChanged && Objects.equals(previous.getDescription(), current.getDescription())) {
+            return;
+        }
+        textIndexLock.lock();
+        try {
+            searchIndex.index(current.getId(), current.getName(), current.getDescription());
+            if (nameChanged && current.getType() != TaskType.SUBTASK) {
+                if (previous != null) {
+                    nameIndex.remove(previous.getId(), previous.getName());
+                }
+                nameIndex.add(current.getId(), current.getName());
+            }
+        } finally {
+            textIndexLock.unlock();
+        }
+    }
+
+    private <T extends Task> T recordView(T task, String kind) {
+        ensureFoundOrThrow(task, kind);
+        synchronized (historyManager) {
+            historyManager.addTask(task);
+        }
+        return task;
+    }
+
+    private List<Task> resolve(int[] ids) {
+        List<Task> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Task task = tasks.get(id);
+            if (task == null) {
+                task = epics.get(id);
+            }
+            if (task == null) {
+                task = subtasks.get(id);
+            }
+            addIfPresent(result, task);
+        }
+        return result;
+    }
+
+    private void publish(TaskEventType eventType, Task task) {
+        synchronized (changeLog) {
+            long sequence = changeLog.append(eventType, task.getType(), task.getId());
+            if (!eventBus.hasSubscribers()) {
+                return;
+            }
+            Task snapshot = eventType == DELETED ? null : copyOf(task);
+            eventBus.publish(new TaskEvent(sequence, eventType, task.getType(), task.getId(), snapshot));
+        }
+    }
+
+    private static Task copyOf(Task task) {
+        return switch (task.getType()) {
+            case TASK -> new Task(task);
+            case EPIC -> new Epic((Epic) task);
+            case SUBTASK -> new Subtask((Subtask) task);
+        };
+    }
+
+    private static <T extends Task> List<T> filterByStatus(Collection<T> source, TaskStatus status) {
+        List<T> result = new ArrayList<>();
+        for (T task : source) {
+            if (task.getStatus() == status) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    private static <T> void addIfPresent(List<? super T> target, T value) {
+        if (value != null) {
+            target.add(value);
+        }
+    }
+
+    private static void ensureFoundOrThrow(Task task, String kind) {
+        if (task == null) {
+            throw new NotFoundException(kind + " not found");
+        }
+    }
+}
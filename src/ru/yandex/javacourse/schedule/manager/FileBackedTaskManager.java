@@ -1,29 +1,55 @@
 package ru.yandex.javacourse.schedule.manager;
 
 import ru.yandex.javacourse.schedule.exceptions.ManagerSaveException;
+import ru.yandex.javacourse.schedule.manager.events.ChangeLog;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventBus;
+import ru.yandex.javacourse.schedule.manager.jfr.PersistenceFlushEvent;
+import ru.yandex.javacourse.schedule.metrics.LatencyHistogram;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
 import ru.yandex.javacourse.schedule.tasks.Epic;
 import ru.yandex.javacourse.schedule.tasks.Subtask;
 import ru.yandex.javacourse.schedule.tasks.Task;
 import ru.yandex.javacourse.schedule.utils.CsvSerializer;
 import ru.yandex.javacourse.schedule.utils.FileWorker;
+import ru.yandex.javacourse.schedule.utils.WriteResult;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Supplier;
 
 public class FileBackedTaskManager extends InMemoryTaskManager {
     private final Path path;
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+    private final Object saveLock = new Object();
+    private int batchDepth = 0;
+    private boolean savePending = false;
+    private long saveVersion = 0;
+    private long writtenVersion = 0;
 
     public FileBackedTaskManager(Path filePath) {
+        this(filePath, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                new ConcurrentSkipListSet<>(PRIORITY_ORDER), new TaskEventBus(), new ChangeLog(CHANGE_LOG_CAPACITY));
+    }
+
+    protected FileBackedTaskManager(Path filePath, Map<Integer, Task> taskStore, Map<Integer, Subtask> subtaskStore,
+                                    Map<Integer, Epic> epicStore, NavigableSet<Task> prioritizedStore,
+                                    TaskEventBus eventBus, ChangeLog changeLog) {
+        super(taskStore, subtaskStore, epicStore, prioritizedStore, eventBus, changeLog);
         this.path = filePath;
         try {
             if (Files.notExists(path)) {
                 Files.createFile(this.path);
             } else {
-                loadFromFile();
+                restore(this::loadFromFile);
             }
         } catch (IOException e) {
             throw new ManagerSaveException("Error due initialization file: " +
@@ -54,6 +80,27 @@ public class FileBackedTaskManager extends InMemoryTaskManager {
         return result;
     }
 
+    @Override
+    public List<Integer> addNewTasks(Collection<Task> tasks) {
+        List<Integer> result = super.addNewTasks(tasks);
+        save();
+        return result;
+    }
+
+    @Override
+    public List<Integer> addNewEpics(Collection<Epic> epics) {
+        List<Integer> result = super.addNewEpics(epics);
+        save();
+        return result;
+    }
+
+    @Override
+    public List<Integer> addNewSubtasks(Collection<Subtask> subtasks) {
+        List<Integer> result = super.addNewSubtasks(subtasks);
+        save();
+        return result;
+    }
+
     @Override
     public void updateTask(Task task) {
         super.updateTask(task);
@@ -108,20 +155,80 @@ public class FileBackedTaskManager extends InMemoryTaskManager {
         save();
     }
 
+    @Override
+    public <T> T executeBatch(Supplier<T> batch) {
+        try {
+            synchronized (this) {
+                batchDepth++;
+                try {
+                    return super.executeBatch(batch);
+                } finally {
+                    batchDepth--;
+                }
+            }
+        } finally {
+            flushPendingSave();
+        }
+    }
+
+    @Override
+    public void bindMetrics(MetricsRegistry metricsRegistry) {
+        super.bindMetrics(metricsRegistry);
+        metricsRegistry.registerHistogram("kanban_persistence_flush_seconds",
+                "Time spent rewriting the storage file.", flushLatency);
+    }
+
+    private void flushPendingSave() {
+        boolean pending;
+        synchronized (this) {
+            pending = batchDepth == 0 && savePending;
+        }
+        if (pending) {
+            save();
+        }
+    }
+
     private void save() {
-        List<String> lines = new ArrayList<>();
-        lines.add(CsvSerializer.buildHeader());
+        long startNanos = System.nanoTime();
+        long version;
+        List<String> lines;
+        synchronized (this) {
+            if (batchDepth > 0) {
+                savePending = true;
+                return;
+            }
+            savePending = false;
+            version = ++saveVersion;
+            lines = serialize();
+        }
+        synchronized (saveLock) {
+            if (version < writtenVersion) {
+                return;
+            }
+            PersistenceFlushEvent event = new PersistenceFlushEvent();
+            event.begin();
+            try {
+                WriteResult result = FileWorker.writeAllLines(path, lines);
+                writtenVersion = version;
+                event.complete(lines.size() - 1, result.bytesWritten(), result.writeNanos());
+            } catch (IOException e) {
+                throw new ManagerSaveException("Error due writing to file: " + path.getFileName(), e);
+            } finally {
+                flushLatency.record(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private List<String> serialize() {
         List<Task> allTasks = new ArrayList<>();
         allTasks.addAll(getTasks());
         allTasks.addAll(getEpics());
         allTasks.addAll(getSubtasks());
         allTasks.sort(Comparator.comparingInt(Task::getId));
+        List<String> lines = new ArrayList<>(allTasks.size() + 1);
+        lines.add(CsvSerializer.buildHeader());
         allTasks.forEach(task -> lines.add(CsvSerializer.taskToString(task)));
-        try {
-            FileWorker.writeAllLines(path, lines);
-        } catch (IOException e) {
-            throw new ManagerSaveException("Error due writing to file: " + path.getFileName(), e);
-        }
+        return lines;
     }
 
     private void loadFromFile() {
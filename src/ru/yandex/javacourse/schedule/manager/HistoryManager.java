@@ -10,4 +10,6 @@ public interface HistoryManager {
     void addTask(Task task);
 
     void remove(int id);
+
+    int size();
 }
@@ -0,0 +1,76 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedSet;
+
+public class IdHistoryManager implements HistoryManager {
+    private final SequencedSet<Integer> history = new LinkedHashSet<>();
+    private final Map<Integer, Task> viewedTasks;
+    private final Map<Integer, Subtask> viewedSubtasks;
+    private final Map<Integer, Epic> viewedEpics;
+
+    public IdHistoryManager(Map<Integer, Task> viewedTasks, Map<Integer, Subtask> viewedSubtasks,
+                            Map<Integer, Epic> viewedEpics) {
+        this.viewedTasks = viewedTasks;
+        this.viewedSubtasks = viewedSubtasks;
+        this.viewedEpics = viewedEpics;
+    }
+
+    @Override
+    public List<Task> getHistory() {
+        List<Task> result = new ArrayList<>(history.size());
+        for (int id : history) {
+            Task task = viewedTasks.get(id);
+            if (task == null) {
+                task = viewedSubtasks.get(id);
+            }
+            if (task == null) {
+                task = viewedEpics.get(id);
+            }
+            if (task != null) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void addTask(Task task) {
+        if (task == null) {
+            return;
+        }
+        forget(task.getId());
+        switch (task.getType()) {
+            case TASK -> viewedTasks.put(task.getId(), task);
+            case EPIC -> viewedEpics.put(task.getId(), (Epic) task);
+            case SUBTASK -> viewedSubtasks.put(task.getId(), (Subtask) task);
+        }
+        history.addLast(task.getId());
+    }
+
+    @Override
+    public void remove(int id) {
+        if (history.remove(id)) {
+            forget(id);
+        }
+    }
+
+    @Override
+    public int size() {
+        return history.size();
+    }
+
+    private void forget(int id) {
+        viewedTasks.remove(id);
+        viewedSubtasks.remove(id);
+        viewedEpics.remove(id);
+        history.remove(id);
+    }
+}
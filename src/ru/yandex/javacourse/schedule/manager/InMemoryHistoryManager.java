@@ -88,4 +88,9 @@ public class InMemoryHistoryManager implements HistoryManager {
             removeNode(node);
         }
     }
+
+    @Override
+    public int size() {
+        return history.size();
+    }
 }
@@ -2,31 +2,116 @@ package ru.yandex.javacourse.schedule.manager;
 
 import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
 import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.manager.events.ChangeLog;
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
+import ru.yandex.javacourse.schedule.manager.events.TaskEvent;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventBus;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventType;
+import ru.yandex.javacourse.schedule.manager.jfr.EpicRecomputeEvent;
+import ru.yandex.javacourse.schedule.manager.jfr.MutationEvent;
+import ru.yandex.javacourse.schedule.manager.jfr.OverlapCheckEvent;
+import ru.yandex.javacourse.schedule.manager.persistent.PersistentMapStore;
+import ru.yandex.javacourse.schedule.manager.persistent.PersistentSortedSetStore;
+import ru.yandex.javacourse.schedule.manager.search.NameIndex;
+import ru.yandex.javacourse.schedule.manager.search.SearchIndex;
+import ru.yandex.javacourse.schedule.manager.search.SearchQuery;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
 import ru.yandex.javacourse.schedule.tasks.Epic;
 import ru.yandex.javacourse.schedule.tasks.Subtask;
 import ru.yandex.javacourse.schedule.tasks.Task;
 import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+import ru.yandex.javacourse.schedule.tasks.TaskTime;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static ru.yandex.javacourse.schedule.manager.events.TaskEventType.CREATED;
+import static ru.yandex.javacourse.schedule.manager.events.TaskEventType.DELETED;
+import static ru.yandex.javacourse.schedule.manager.events.TaskEventType.UPDATED;
 import static ru.yandex.javacourse.schedule.tasks.TaskStatus.IN_PROGRESS;
 import static ru.yandex.javacourse.schedule.tasks.TaskStatus.NEW;
 
 public class InMemoryTaskManager implements TaskManager {
-
-    private final Map<Integer, Task> tasks = new HashMap<>();
-    private final Map<Integer, Epic> epics = new HashMap<>();
-    private final Map<Integer, Subtask> subtasks = new HashMap<>();
-    private final Set<Task> prioritizedTasks = new TreeSet<>(
-            Comparator
-                    .comparing(Task::getStartTime,
-                            Comparator.nullsLast(LocalDateTime::compareTo))
-                    .thenComparingInt(Task::getId));
+    static final int CHANGE_LOG_CAPACITY = 10_000;
+    static final Comparator<Task> PRIORITY_ORDER = Comparator
+            .comparingLong(Task::getStartMinute)
+            .thenComparingInt(Task::getId);
+
+    private final Map<Integer, Task> tasks;
+    private final Map<Integer, Epic> epics;
+    private final Map<Integer, Subtask> subtasks;
+    private final NavigableSet<Task> prioritizedTasks;
     private int generatorId = 0;
-    private final HistoryManager historyManager = Managers.getDefaultHistory();
+    private final HistoryManager historyManager;
+    private final TaskEventBus eventBus;
+    private final ChangeLog changeLog;
+    private final StatusIndex taskStatuses = new StatusIndex();
+    private final StatusIndex subtaskStatuses = new StatusIndex();
+    private final StatusIndex epicStatuses = new StatusIndex();
+    private final Map<Integer, StatusIndex> epicSubtaskStatuses = new HashMap<>();
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private final Snapshot<Task> taskSnapshot;
+    private final Snapshot<Subtask> subtaskSnapshot;
+    private final Snapshot<Epic> epicSnapshot;
+    private final Snapshot<Task> prioritizedSnapshot;
+    private final boolean lockFreeReads;
+    private boolean restoring = false;
+
+    public InMemoryTaskManager() {
+        this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                new ConcurrentSkipListSet<>(PRIORITY_ORDER));
+    }
+
+    protected InMemoryTaskManager(Map<Integer, Task> taskStore, Map<Integer, Subtask> subtaskStore,
+                                  Map<Integer, Epic> epicStore, NavigableSet<Task> prioritizedStore,
+                                  HistoryManager historyManager) {
+        this(taskStore, subtaskStore, epicStore, prioritizedStore, new TaskEventBus(),
+                new ChangeLog(CHANGE_LOG_CAPACITY), historyManager, false);
+    }
+
+    protected InMemoryTaskManager(Map<Integer, Task> taskStore, Map<Integer, Subtask> subtaskStore,
+                                  Map<Integer, Epic> epicStore, NavigableSet<Task> prioritizedStore) {
+        this(taskStore, subtaskStore, epicStore, prioritizedStore, new TaskEventBus(), new ChangeLog(CHANGE_LOG_CAPACITY));
+    }
+
+    protected InMemoryTaskManager(Map<Integer, Task> taskStore, Map<Integer, Subtask> subtaskStore,
+                                  Map<Integer, Epic> epicStore, NavigableSet<Task> prioritizedStore,
+                                  TaskEventBus eventBus, ChangeLog changeLog) {
+        this(taskStore, subtaskStore, epicStore, prioritizedStore, eventBus, changeLog,
+                Managers.getDefaultHistory(), true);
+    }
+
+    private InMemoryTaskManager(Map<Integer, Task> taskStore, Map<Integer, Subtask> subtaskStore,
+                                Map<Integer, Epic> epicStore, NavigableSet<Task> prioritizedStore,
+                                TaskEventBus eventBus, ChangeLog changeLog, HistoryManager historyManager,
+                                boolean cacheStoredTasks) {
+        this.tasks = taskStore;
+        this.subtasks = subtaskStore;
+        this.epics = epicStore;
+        this.prioritizedTasks = prioritizedStore;
+        this.eventBus = eventBus;
+        this.changeLog = changeLog;
+        this.historyManager = historyManager;
+        this.lockFreeReads = isConcurrent(taskStore) && isConcurrent(subtaskStore) && isConcurrent(epicStore)
+                && (prioritizedStore instanceof ConcurrentSkipListSet || prioritizedStore instanceof PersistentSortedSetStore);
+        this.taskSnapshot = new Snapshot<>(taskStore::values, cacheStoredTasks, lockFreeReads);
+        this.subtaskSnapshot = new Snapshot<>(subtaskStore::values, cacheStoredTasks, lockFreeReads);
+        this.epicSnapshot = new Snapshot<>(epicStore::values, true, lockFreeReads);
+        this.prioritizedSnapshot = new Snapshot<>(() -> prioritizedStore, cacheStoredTasks, lockFreeReads);
+    }
+
+    private static boolean isConcurrent(Map<Integer, ? extends Task> store) {
+        return store instanceof ConcurrentMap || store instanceof PersistentMapStore;
+    }
 
     private int assignOrValidateId(int requestedId) {
         if (requestedId == 0) {
@@ -43,27 +128,57 @@ public class InMemoryTaskManager implements TaskManager {
         return requestedId;
     }
 
+    private int[] reserveIds(Collection<? extends Task> batch) {
+        int[] ids = new int[batch.size()];
+        int sequence = generatorId;
+        int index = 0;
+        for (Task task : batch) {
+            int requestedId = task.getId();
+            if (requestedId == 0) {
+                ids[index++] = ++sequence;
+                continue;
+            }
+            if (requestedId <= sequence) {
+                throw new IllegalArgumentException(
+                        "Predefined id must be greater than current sequence (generatorId=" + sequence + "): " + requestedId);
+            }
+            if (tasks.containsKey(requestedId) || epics.containsKey(requestedId) || subtasks.containsKey(requestedId)) {
+                throw new IllegalArgumentException("Id already exists: " + requestedId);
+            }
+            sequence = requestedId;
+            ids[index++] = requestedId;
+        }
+        return ids;
+    }
+
+    private void commitReservedIds(int[] ids) {
+        if (ids.length > 0) {
+            generatorId = ids[ids.length - 1];
+        }
+    }
+
     @Override
-    public ArrayList<Task> getTasks() {
-        return new ArrayList<>(this.tasks.values());
+    public List<Task> getTasks() {
+        return taskSnapshot.get(this);
     }
 
-    public ArrayList<Task> getPrioritizedTasks() {
-        return new ArrayList<>(this.prioritizedTasks);
+    @Override
+    public List<Task> getPrioritizedTasks() {
+        return prioritizedSnapshot.get(this);
     }
 
     @Override
-    public ArrayList<Subtask> getSubtasks() {
-        return new ArrayList<>(subtasks.values());
+    public List<Subtask> getSubtasks() {
+        return subtaskSnapshot.get(this);
     }
 
     @Override
-    public ArrayList<Epic> getEpics() {
-        return new ArrayList<>(epics.values());
+    public List<Epic> getEpics() {
+        return epicSnapshot.get(this);
     }
 
     @Override
-    public ArrayList<Subtask> getEpicSubtasks(int epicId) {
+    public synchronized ArrayList<Subtask> getEpicSubtasks(int epicId) {
         Epic epic = epics.get(epicId);
         ensureFoundOrThrow(epic);
         return epic.getSubtaskIds().stream()
@@ -72,96 +187,233 @@ public class InMemoryTaskManager implements TaskManager {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    @Override
+    public synchronized ArrayList<Task> getTasksByStatus(TaskStatus status) {
+        return collectByIds(taskStatuses.idsWith(status), tasks);
+    }
+
+    @Override
+    public synchronized ArrayList<Subtask> getSubtasksByStatus(TaskStatus status) {
+        return collectByIds(subtaskStatuses.idsWith(status), subtasks);
+    }
+
+    @Override
+    public synchronized ArrayList<Epic> getEpicsByStatus(TaskStatus status) {
+        return collectByIds(epicStatuses.idsWith(status), epics);
+    }
+
+    @Override
+    public synchronized ArrayList<Subtask> getEpicSubtasksByStatus(int epicId, TaskStatus status) {
+        ensureFoundOrThrow(epics.get(epicId));
+        StatusIndex index = epicSubtaskStatuses.get(epicId);
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        return collectByIds(index.idsWith(status), subtasks);
+    }
+
+    @Override
+    public synchronized List<Task> search(String query, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
+        int[] ids = searchIndex.search(SearchQuery.parse(query), limit);
+        List<Task> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(findAnyTask(id));
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized List<Task> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Suggestion prefix must not be empty");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive");
+        }
+        int[] ids = nameIndex.suggest(prefix, limit);
+        List<Task> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(findAnyTask(id));
+        }
+        return result;
+    }
+
     @Override
     public Task getTask(int id) {
-        final Task task = tasks.get(id);
-        ensureFoundOrThrow(task);
-        historyManager.addTask(task);
-        return task;
+        return read(() -> recordView(tasks, id));
     }
 
     @Override
     public Subtask getSubtask(int id) {
-        final Subtask subtask = subtasks.get(id);
-        ensureFoundOrThrow(subtask);
-        historyManager.addTask(subtask);
-        return subtask;
+        return read(() -> recordView(subtasks, id));
     }
 
     @Override
     public Epic getEpic(int id) {
-        final Epic epic = epics.get(id);
-        ensureFoundOrThrow(epic);
-        historyManager.addTask(epic);
-        return epic;
+        return read(() -> recordView(epics, id));
     }
 
     @Override
-    public int addNewTask(Task task) {
+    public synchronized int addNewTask(Task task) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
         final int id = assignOrValidateId(task.getId());
-        if (isTaskCrossOther(task)) {
+        if (isTaskCrossOther(task, id)) {
             throw new TimeInteractionsException("Task time crosses existing task");
         }
         task.setId(id);
-        tasks.put(id, task);
+        putTask(task);
         addToPrioritizedTasks(task);
         task.markAsManaged();
+        publish(CREATED, task);
+        event.complete("addNewTask", TaskType.TASK, id, 1);
         return id;
     }
 
     @Override
-    public int addNewEpic(Epic epic) {
+    public synchronized int addNewEpic(Epic epic) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
         final int id = assignOrValidateId(epic.getId());
         epic.setId(id);
-        epics.put(id, epic);
+        putEpic(epic);
         epic.markAsManaged();
+        publish(CREATED, epic);
+        event.complete("addNewEpic", TaskType.EPIC, id, 1);
         return id;
     }
 
     @Override
-    public Integer addNewSubtask(Subtask subtask) {
+    public synchronized Integer addNewSubtask(Subtask subtask) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
         final int epicId = subtask.getEpicId();
         final Epic epic = epics.get(epicId);
         ensureFoundOrThrow(epic);
         final int id = assignOrValidateId(subtask.getId());
-        if (isTaskCrossOther(subtask)) {
+        if (isTaskCrossOther(subtask, id)) {
             throw new TimeInteractionsException("Task time crosses existing task");
         }
         subtask.setId(id);
-        subtasks.put(id, subtask);
+        putSubtask(subtask);
         addToPrioritizedTasks(subtask);
         subtask.markAsManaged();
-        epic.addSubtaskId(id);
-        updateEpic(epicId);
+        publish(CREATED, subtask);
+        updateEpic(epicId, linked -> linked.addSubtaskId(id));
+        event.complete("addNewSubtask", TaskType.SUBTASK, id, 1);
         return id;
     }
 
     @Override
-    public void updateTask(Task task) {
+    public synchronized List<Integer> addNewTasks(Collection<Task> newTasks) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        final int[] ids = reserveIds(newTasks);
+        ensureBatchDoesNotCross(newTasks, ids);
+        commitReservedIds(ids);
+        List<Integer> result = new ArrayList<>(ids.length);
+        int index = 0;
+        for (Task task : newTasks) {
+            final int id = ids[index++];
+            task.setId(id);
+            putTask(task);
+            addToPrioritizedTasks(task);
+            task.markAsManaged();
+            publish(CREATED, task);
+            result.add(id);
+        }
+        event.complete("addNewTasks", TaskType.TASK, 0, result.size());
+        return result;
+    }
+
+    @Override
+    public synchronized List<Integer> addNewEpics(Collection<Epic> newEpics) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        final int[] ids = reserveIds(newEpics);
+        commitReservedIds(ids);
+        List<Integer> result = new ArrayList<>(ids.length);
+        int index = 0;
+        for (Epic epic : newEpics) {
+            final int id = ids[index++];
+            epic.setId(id);
+            putEpic(epic);
+            epic.markAsManaged();
+            publish(CREATED, epic);
+            result.add(id);
+        }
+        event.complete("addNewEpics", TaskType.EPIC, 0, result.size());
+        return result;
+    }
+
+    @Override
+    public synchronized List<Integer> addNewSubtasks(Collection<Subtask> newSubtasks) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        for (Subtask subtask : newSubtasks) {
+            ensureFoundOrThrow(epics.get(subtask.getEpicId()));
+        }
+        final int[] ids = reserveIds(newSubtasks);
+        ensureBatchDoesNotCross(newSubtasks, ids);
+        commitReservedIds(ids);
+        List<Integer> result = new ArrayList<>(ids.length);
+        Map<Integer, List<Integer>> linkedIds = new LinkedHashMap<>();
+        int index = 0;
+        for (Subtask subtask : newSubtasks) {
+            final int id = ids[index++];
+            subtask.setId(id);
+            putSubtask(subtask);
+            addToPrioritizedTasks(subtask);
+            subtask.markAsManaged();
+            publish(CREATED, subtask);
+            linkedIds.computeIfAbsent(subtask.getEpicId(), epicId -> new ArrayList<>()).add(id);
+            result.add(id);
+        }
+        linkedIds.forEach((epicId, subtaskIds) ->
+                updateEpic(epicId, linked -> subtaskIds.forEach(linked::addSubtaskId)));
+        event.complete("addNewSubtasks", TaskType.SUBTASK, 0, result.size());
+        return result;
+    }
+
+    @Override
+    public synchronized void updateTask(Task task) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
         final int id = task.getId();
         final Task old = tasks.get(id);
         ensureFoundOrThrow(old);
-        if (isTaskCrossOther(task)) {
+        if (isTaskCrossOther(task, id)) {
             throw new TimeInteractionsException("Task time crosses existing task");
         }
-        prioritizedTasks.remove(old);
-        tasks.put(id, task);
+        removeFromPrioritizedTasks(old);
+        putTask(task);
         addToPrioritizedTasks(task);
         task.markAsManaged();
+        publish(UPDATED, task);
+        event.complete("updateTask", TaskType.TASK, id, 1);
     }
 
     @Override
-    public void updateEpic(Epic epic) {
+    public synchronized void updateEpic(Epic epic) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
         final int id = epic.getId();
         if (!epics.containsKey(id)) {
             throw new NotFoundException("epic not found");
         }
-        epics.put(id, epic);
+        putEpic(epic);
         epic.markAsManaged();
+        publish(UPDATED, epic);
+        event.complete("updateEpic", TaskType.EPIC, id, 1);
     }
 
     @Override
-    public void updateSubtask(Subtask subtask) {
+    public synchronized void updateSubtask(Subtask subtask) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
         final int id = subtask.getId();
         final Subtask saved = subtasks.get(id);
         ensureFoundOrThrow(saved);
@@ -169,108 +421,242 @@ public class InMemoryTaskManager implements TaskManager {
         final int newEpicId = subtask.getEpicId();
         final Epic newEpic = epics.get(newEpicId);
         ensureFoundOrThrow(newEpic);
-        if (isTaskCrossOther(subtask)) {
+        if (isTaskCrossOther(subtask, id)) {
             throw new IllegalArgumentException("Task time crosses existing task");
         }
-        prioritizedTasks.remove(saved);
-        subtasks.put(id, subtask);
+        removeFromPrioritizedTasks(saved);
+        putSubtask(subtask);
         addToPrioritizedTasks(subtask);
         subtask.markAsManaged();
+        publish(UPDATED, subtask);
         if (oldEpicId != newEpicId) {
-            final Epic oldEpic = epics.get(oldEpicId);
-            if (oldEpic != null) {
-                oldEpic.removeSubtask(id);
-                updateEpic(oldEpicId);
-            }
-            newEpic.addSubtaskId(id);
+            updateEpic(oldEpicId, unlinked -> unlinked.removeSubtask(id));
+            updateEpic(newEpicId, linked -> linked.addSubtaskId(id));
+        } else {
+            updateEpic(newEpicId);
         }
-        updateEpic(newEpicId);
+        event.complete("updateSubtask", TaskType.SUBTASK, id, 1);
     }
 
     @Override
-    public void deleteTask(int id) {
-        final Task task = tasks.remove(id);
+    public synchronized void deleteTask(int id) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        final Task task = removeTaskEntry(id);
         ensureFoundOrThrow(task);
-        prioritizedTasks.remove(task);
-        historyManager.remove(id);
+        removeFromPrioritizedTasks(task);
+        forgetView(id);
+        publish(DELETED, task);
+        event.complete("deleteTask", TaskType.TASK, id, 1);
     }
 
     @Override
-    public void deleteEpic(int id) {
-        final Epic epic = epics.remove(id);
+    public synchronized void deleteEpic(int id) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        final Epic epic = removeEpicEntry(id);
         ensureFoundOrThrow(epic);
-        historyManager.remove(id);
+        forgetView(id);
         epic.getSubtaskIds().forEach(subtaskId -> {
-            Subtask removed = subtasks.remove(subtaskId);
-            prioritizedTasks.remove(removed);
-            historyManager.remove(subtaskId);
+            Subtask removed = removeSubtaskEntry(subtaskId);
+            removeFromPrioritizedTasks(removed);
+            forgetView(subtaskId);
+            if (removed != null) {
+                publish(DELETED, removed);
+            }
         });
+        publish(DELETED, epic);
+        event.complete("deleteEpic", TaskType.EPIC, id, epic.getSubtaskIds().size() + 1);
     }
 
     @Override
-    public void deleteSubtask(int id) {
-        Subtask subtask = subtasks.remove(id);
+    public synchronized void deleteSubtask(int id) {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        Subtask subtask = removeSubtaskEntry(id);
         ensureFoundOrThrow(subtask);
-        prioritizedTasks.remove(subtask);
-        historyManager.remove(id);
-        Epic epic = epics.get(subtask.getEpicId());
-        if (epic != null) {
-            epic.removeSubtask(id);
-            updateEpic(epic.getId());
-        }
+        removeFromPrioritizedTasks(subtask);
+        forgetView(id);
+        publish(DELETED, subtask);
+        updateEpic(subtask.getEpicId(), unlinked -> unlinked.removeSubtask(id));
+        event.complete("deleteSubtask", TaskType.SUBTASK, id, 1);
     }
 
     @Override
-    public void deleteTasks() {
+    public synchronized void deleteTasks() {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        List<Integer> removedIds = List.copyOf(tasks.keySet());
+        nameIndex.removeIf(tasks::containsKey);
         tasks.values().forEach(task -> {
-            prioritizedTasks.remove(task);
-            historyManager.remove(task.getId());
+            removeFromPrioritizedTasks(task);
+            searchIndex.remove(task.getId());
+            publish(DELETED, task);
         });
         tasks.clear();
+        taskStatuses.clear();
+        taskSnapshot.invalidate();
+        removedIds.forEach(this::forgetView);
+        int affectedCount = removedIds.size();
+        event.complete("deleteTasks", TaskType.TASK, 0, affectedCount);
     }
 
     @Override
-    public void deleteSubtasks() {
-        epics.values().forEach(epic -> {
-            epic.cleanSubtaskIds();
-            updateEpic(epic.getId());
-        });
+    public synchronized void deleteSubtasks() {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        List<Integer> removedIds = List.copyOf(subtasks.keySet());
         subtasks.values().forEach(subtask -> {
-            historyManager.remove(subtask.getId());
-            prioritizedTasks.remove(subtask);
+            removeFromPrioritizedTasks(subtask);
+            searchIndex.remove(subtask.getId());
+            publish(DELETED, subtask);
         });
         subtasks.clear();
+        subtaskStatuses.clear();
+        epicSubtaskStatuses.clear();
+        subtaskSnapshot.invalidate();
+        removedIds.forEach(this::forgetView);
+        int affectedCount = removedIds.size();
+        List.copyOf(epics.keySet()).forEach(epicId -> updateEpic(epicId, Epic::cleanSubtaskIds));
+        event.complete("deleteSubtasks", TaskType.SUBTASK, 0, affectedCount);
     }
 
     @Override
-    public void deleteEpics() {
-        epics.values().forEach(epic -> historyManager.remove(epic.getId()));
-        epics.clear();
+    public synchronized void deleteEpics() {
+        MutationEvent event = new MutationEvent();
+        event.begin();
+        List<Integer> removedIds = new ArrayList<>(subtasks.keySet());
+        removedIds.addAll(epics.keySet());
         subtasks.values().forEach(subtask -> {
-            historyManager.remove(subtask.getId());
-            prioritizedTasks.remove(subtask);
+            removeFromPrioritizedTasks(subtask);
+            searchIndex.remove(subtask.getId());
+            publish(DELETED, subtask);
         });
         subtasks.clear();
+        subtaskStatuses.clear();
+        epicSubtaskStatuses.clear();
+        subtaskSnapshot.invalidate();
+        nameIndex.removeIf(epics::containsKey);
+        epics.values().forEach(epic -> {
+            searchIndex.remove(epic.getId());
+            publish(DELETED, epic);
+        });
+        epics.clear();
+        epicStatuses.clear();
+        epicSnapshot.invalidate();
+        removedIds.forEach(this::forgetView);
+        event.complete("deleteEpics", TaskType.EPIC, 0, removedIds.size());
     }
 
     @Override
     public List<Task> getHistory() {
-        return historyManager.getHistory();
+        return read(() -> {
+            synchronized (historyManager) {
+                return historyManager.getHistory();
+            }
+        });
+    }
+
+    @Override
+    public synchronized <T> T executeBatch(Supplier<T> batch) {
+        return batch.get();
+    }
+
+    @Override
+    public TaskEventBus getEventBus() {
+        return eventBus;
+    }
+
+    @Override
+    public synchronized ChangeSet getChangesSince(ChangeVersion version) {
+        if (!changeLog.isAvailableSince(version)) {
+            return ChangeSet.resync(changeLog.getVersion());
+        }
+        Map<Integer, TaskEventType> lastEventTypes = new LinkedHashMap<>();
+        Map<Integer, TaskType> taskTypes = new HashMap<>();
+        changeLog.forEachSince(version, (sequence, eventType, taskType, id) -> {
+            lastEventTypes.put(id, eventType);
+            taskTypes.put(id, taskType);
+        });
+        List<Task> changedTasks = new ArrayList<>();
+        List<Epic> changedEpics = new ArrayList<>();
+        List<Subtask> changedSubtasks = new ArrayList<>();
+        List<Integer> deletedIds = new ArrayList<>();
+        lastEventTypes.forEach((id, eventType) -> {
+            if (eventType == DELETED) {
+                deletedIds.add(id);
+                return;
+            }
+            switch (taskTypes.get(id)) {
+                case TASK -> changedTasks.add(tasks.get(id));
+                case EPIC -> changedEpics.add(epics.get(id));
+                case SUBTASK -> changedSubtasks.add(subtasks.get(id));
+            }
+        });
+        return new ChangeSet(changeLog.getVersion().toString(), false,
+                changedTasks, changedEpics, changedSubtasks, deletedIds);
+    }
+
+    @Override
+    public void bindMetrics(MetricsRegistry metricsRegistry) {
+        metricsRegistry.registerGauge("kanban_tasks", "Number of stored tasks.", tasks::size);
+        metricsRegistry.registerGauge("kanban_epics", "Number of stored epics.", epics::size);
+        metricsRegistry.registerGauge("kanban_subtasks", "Number of stored subtasks.", subtasks::size);
+        metricsRegistry.registerGauge("kanban_history_size", "Number of entries in view history.", () -> {
+            synchronized (historyManager) {
+                return historyManager.size();
+            }
+        });
+        metricsRegistry.registerGauge("kanban_prioritized_tasks", "Number of tasks in prioritized index.",
+                prioritizedTasks::size);
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        if (lockFreeReads) {
+            return reader.get();
+        }
+        synchronized (this) {
+            return reader.get();
+        }
+    }
+
+    private <T extends Task> T recordView(Map<Integer, T> store, int id) {
+        final T task = store.get(id);
+        ensureFoundOrThrow(task);
+        synchronized (historyManager) {
+            if (store.containsKey(id)) {
+                historyManager.addTask(task);
+            }
+        }
+        return task;
+    }
+
+    private void forgetView(int id) {
+        synchronized (historyManager) {
+            historyManager.remove(id);
+        }
     }
 
     private void updateEpic(int epicId) {
+        updateEpic(epicId, epic -> { });
+    }
+
+    private void updateEpic(int epicId, Consumer<Epic> relink) {
         final Epic oldEpic = epics.get(epicId);
         if (oldEpic == null) {
             return;
         }
+        EpicRecomputeEvent event = new EpicRecomputeEvent();
+        event.begin();
         final Epic newEpic = new Epic(oldEpic.getId(), oldEpic.getName(), oldEpic.getDescription());
         oldEpic.getSubtaskIds().forEach(newEpic::addSubtaskId);
-        newEpic.setStatus(computeEpicStatus(oldEpic.getSubtaskIds()));
-        newEpic.setDuration(computeEpicDuration(oldEpic));
-        newEpic.setStartTime(computeEpicStartTime(oldEpic));
-        newEpic.setEndTime(computeEpicEndTime(oldEpic));
-        epics.put(epicId, newEpic);
+        relink.accept(newEpic);
+        newEpic.setStatus(computeEpicStatus(newEpic.getSubtaskIds()));
+        computeEpicTime(newEpic);
+        putEpic(newEpic);
         newEpic.markAsManaged();
+        publish(UPDATED, newEpic);
+        event.complete(epicId, newEpic.getSubtaskIds().size());
     }
 
     private TaskStatus computeEpicStatus(List<Integer> subtaskIds) {
@@ -294,54 +680,242 @@ public class InMemoryTaskManager implements TaskManager {
         return status == null ? NEW : status;
     }
 
-    private LocalDateTime computeEpicStartTime(Epic epic) {
-        return epic.getSubtaskIds().stream()
-                .map(subtasks::get)
-                .filter(Objects::nonNull)
-                .map(Subtask::getStartTime)
-                .filter(Objects::nonNull)
-                .min(LocalDateTime::compareTo)
-                .orElse(null);
+    private void computeEpicTime(Epic epic) {
+        long startMinute = TaskTime.NO_TIME;
+        long endMinute = Long.MIN_VALUE;
+        long durationMinutes = 0;
+        for (int subtaskId : epic.getSubtaskIds()) {
+            final Subtask subtask = subtasks.get(subtaskId);
+            if (subtask == null) {
+                continue;
+            }
+            durationMinutes += subtask.getDurationMinutes();
+            if (subtask.hasStartTime()) {
+                startMinute = Math.min(startMinute, subtask.getStartMinute());
+                endMinute = Math.max(endMinute, subtask.getEndMinute());
+            }
+        }
+        epic.setDurationMinutes(durationMinutes);
+        epic.setStartMinute(startMinute);
+        epic.setEndMinute(startMinute == TaskTime.NO_TIME ? TaskTime.NO_TIME : endMinute);
     }
 
-    private Duration computeEpicDuration(Epic epic) {
-        return epic.getSubtaskIds().stream()
-                .map(subtasks::get)
-                .filter(Objects::nonNull)
-                .map(Subtask::getDuration)
-                .reduce(Duration.ZERO, Duration::plus);
+    private void putTask(Task task) {
+        Task previous = tasks.put(task.getId(), task);
+        taskSnapshot.invalidate();
+        taskStatuses.replace(previous, task);
+        indexText(previous, task);
+        indexName(previous, task);
     }
 
-    private LocalDateTime computeEpicEndTime(Epic epic) {
-        return epic.getSubtaskIds().stream()
-                .map(subtasks::get)
-                .filter(Objects::nonNull)
-                .map(Subtask::getEndTime)
-                .filter(Objects::nonNull)
-                .max(LocalDateTime::compareTo)
-                .orElse(null);
+    private Task removeTaskEntry(int id) {
+        Task removed = tasks.remove(id);
+        if (removed != null) {
+            taskSnapshot.invalidate();
+            taskStatuses.remove(removed);
+            searchIndex.remove(id);
+            nameIndex.remove(id, removed.getName());
+        }
+        return removed;
+    }
+
+    private void putEpic(Epic epic) {
+        Epic previous = epics.put(epic.getId(), epic);
+        epicSnapshot.invalidate();
+        epicStatuses.replace(previous, epic);
+        indexText(previous, epic);
+        indexName(previous, epic);
+    }
+
+    private Epic removeEpicEntry(int id) {
+        Epic removed = epics.remove(id);
+        if (removed != null) {
+            epicSnapshot.invalidate();
+            epicStatuses.remove(removed);
+            epicSubtaskStatuses.remove(id);
+            searchIndex.remove(id);
+            nameIndex.remove(id, removed.getName());
+        }
+        return removed;
+    }
+
+    private void putSubtask(Subtask subtask) {
+        Subtask previous = subtasks.put(subtask.getId(), subtask);
+        subtaskSnapshot.invalidate();
+        subtaskStatuses.replace(previous, subtask);
+        indexText(previous, subtask);
+        if (previous != null) {
+            unindexEpicSubtask(previous);
+        }
+        epicSubtaskStatuses.computeIfAbsent(subtask.getEpicId(), epicId -> new StatusIndex()).add(subtask);
+    }
+
+    private Subtask removeSubtaskEntry(int id) {
+        Subtask removed = subtasks.remove(id);
+        if (removed != null) {
+            subtaskSnapshot.invalidate();
+            subtaskStatuses.remove(removed);
+            unindexEpicSubtask(removed);
+            searchIndex.remove(id);
+        }
+        return removed;
+    }
+
+    private void unindexEpicSubtask(Subtask subtask) {
+        StatusIndex index = epicSubtaskStatuses.get(subtask.getEpicId());
+        if (index != null) {
+            index.remove(subtask);
+            if (index.isEmpty()) {
+                epicSubtaskStatuses.remove(subtask.getEpicId());
+            }
+        }
+    }
+
+    private void indexText(Task previous, Task current) {
+        if (previous == null
+                || !Objects.equals(previous.getName(), current.getName())
+                || !Objects.equals(previous.getDescription(), current.getDescription())) {
+            searchIndex.index(current.getId(), current.getName(), current.getDescription());
+        }
+    }
+
+    private void indexName(Task previous, Task current) {
+        if (previous == null) {
+            nameIndex.add(current.getId(), current.getName());
+        } else if (!Objects.equals(previous.getName(), current.getName())) {
+            nameIndex.remove(previous.getId(), previous.getName());
+            nameIndex.add(current.getId(), current.getName());
+        }
+    }
+
+    synchronized Task findAnyTask(int id) {
+        Task task = tasks.get(id);
+        if (task == null) {
+            task = epics.get(id);
+        }
+        if (task == null) {
+            task = subtasks.get(id);
+        }
+        return task;
+    }
+
+    private <T extends Task> ArrayList<T> collectByIds(Set<Integer> ids, Map<Integer, T> store) {
+        ArrayList<T> result = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            result.add(store.get(id));
+        }
+        return result;
     }
 
     private void addToPrioritizedTasks(Task task) {
-        if (task.getStartTime() != null) {
+        if (task.hasStartTime()) {
             prioritizedTasks.add(task);
+            prioritizedSnapshot.invalidate();
+        }
+    }
+
+    private void removeFromPrioritizedTasks(Task task) {
+        if (prioritizedTasks.remove(task)) {
+            prioritizedSnapshot.invalidate();
+        }
+    }
+
+    synchronized int lastAssignedId() {
+        return generatorId;
+    }
+
+    synchronized boolean crossesScheduled(Task task) {
+        return isTaskCrossOther(task, task.getId());
+    }
+
+    private boolean isTaskCrossOther(Task task, int taskId) {
+        if (!isTimed(task)) {
+            return false;
+        }
+        OverlapCheckEvent event = new OverlapCheckEvent();
+        event.begin();
+        boolean crossing = false;
+        int scanned = 0;
+        long end = task.getEndMinute();
+        for (Task next = prioritizedTasks.ceiling(task); next != null; next = prioritizedTasks.higher(next)) {
+            if (next.getStartMinute() >= end) {
+                break;
+            }
+            scanned++;
+            if (areTasksCrossing(next, task)) {
+                crossing = true;
+                break;
+            }
         }
+        if (!crossing) {
+            for (Task previous = prioritizedTasks.lower(task); previous != null;
+                 previous = prioritizedTasks.lower(previous)) {
+                scanned++;
+                if (previous.getDurationMinutes() != 0) {
+                    crossing = areTasksCrossing(previous, task);
+                    break;
+                }
+            }
+        }
+        event.complete(taskId, scanned, crossing);
+        return crossing;
     }
 
-    private boolean isTaskCrossOther(Task task) {
-        return prioritizedTasks.stream().anyMatch(current -> areTasksCrossing(current, task));
+    private void ensureBatchDoesNotCross(Collection<? extends Task> batch, int[] ids) {
+        List<? extends Task> tasks = List.copyOf(batch);
+        List<Integer> timed = IntStream.range(0, tasks.size())
+                .filter(index -> isTimed(tasks.get(index)))
+                .boxed()
+                .sorted(Comparator.comparingLong(index -> tasks.get(index).getStartMinute()))
+                .toList();
+        Task previous = null;
+        for (int index : timed) {
+            Task task = tasks.get(index);
+            if ((previous != null && areTasksCrossing(previous, task)) || isTaskCrossOther(task, ids[index])) {
+                throw new TimeInteractionsException("Task time crosses existing task");
+            }
+            previous = task;
+        }
     }
 
     private boolean areTasksCrossing(Task first, Task second) {
-        if (first.getStartTime() == null || first.getDuration().isZero()
-                || second.getStartTime() == null || second.getDuration().isZero()) {
+        if (!isTimed(first) || !isTimed(second)) {
             return false;
         }
-        LocalDateTime firstStart = first.getStartTime();
-        LocalDateTime firstEnd = first.getEndTime();
-        LocalDateTime secondStart = second.getStartTime();
-        LocalDateTime secondEnd = second.getEndTime();
-        return firstStart.isBefore(secondEnd) && secondStart.isBefore(firstEnd);
+        return first.getStartMinute() < second.getEndMinute() && second.getStartMinute() < first.getEndMinute();
+    }
+
+    private boolean isTimed(Task task) {
+        return task.hasStartTime() && task.getDurationMinutes() != 0;
+    }
+
+    protected void restore(Runnable loader) {
+        restoring = true;
+        try {
+            loader.run();
+        } finally {
+            restoring = false;
+        }
+    }
+
+    private void publish(TaskEventType eventType, Task task) {
+        if (restoring) {
+            return;
+        }
+        long sequence = changeLog.append(eventType, task.getType(), task.getId());
+        if (!eventBus.hasSubscribers()) {
+            return;
+        }
+        Task snapshot = eventType == DELETED ? null : copyOf(task);
+        eventBus.publish(new TaskEvent(sequence, eventType, task.getType(), task.getId(), snapshot));
+    }
+
+    private Task copyOf(Task task) {
+        return switch (task.getType()) {
+            case TASK -> new Task(task);
+            case EPIC -> new Epic((Epic) task);
+            case SUBTASK -> new Subtask((Subtask) task);
+        };
     }
 
     private void ensureFoundOrThrow(Task task) {
@@ -0,0 +1,26 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.manager.persistent.PersistentIntMap;
+import ru.yandex.javacourse.schedule.manager.persistent.PersistentSortedSet;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public record ManagerSnapshot(PersistentIntMap<Task> tasks,
+                              PersistentIntMap<Epic> epics,
+                              PersistentIntMap<Subtask> subtasks,
+                              PersistentSortedSet<Task> prioritizedTasks) {
+
+    public List<Task> allTasksById() {
+        List<Task> allTasks = new ArrayList<>(tasks.size() + epics.size() + subtasks.size());
+        tasks.forEach(entry -> allTasks.add(entry.getValue()));
+        epics.forEach(entry -> allTasks.add(entry.getValue()));
+        subtasks.forEach(entry -> allTasks.add(entry.getValue()));
+        allTasks.sort(Comparator.comparingInt(Task::getId));
+        return allTasks;
+    }
+}
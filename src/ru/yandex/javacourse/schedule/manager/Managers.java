@@ -1,5 +1,8 @@
 package ru.yandex.javacourse.schedule.manager;
 
+import ru.yandex.javacourse.schedule.manager.workspace.WorkspaceRegistry;
+import ru.yandex.javacourse.schedule.manager.workspace.WorkspaceTaskManager;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -8,6 +11,34 @@ public class Managers {
         return new InMemoryTaskManager();
     }
 
+    public static OffHeapTaskManager getOffHeap() {
+        return new OffHeapTaskManager();
+    }
+
+    public static PersistentTaskManager getPersistent() {
+        return new PersistentTaskManager();
+    }
+
+    public static PipelinedTaskManager getPipelined(TaskManager delegate) {
+        return new PipelinedTaskManager(delegate);
+    }
+
+    public static AsyncTaskManager getAsync(TaskManager delegate) {
+        return new AsyncTaskManager(delegate);
+    }
+
+    public static EpicStripedTaskManager getEpicStriped() {
+        return new EpicStripedTaskManager();
+    }
+
+    public static ShardedTaskManager getSharded(Path directory, int shardCount) {
+        return new ShardedTaskManager(directory, shardCount);
+    }
+
+    public static WorkspaceTaskManager getWorkspaces(Path directory, long memoryBudgetBytes) {
+        return new WorkspaceTaskManager(new WorkspaceRegistry(directory, memoryBudgetBytes));
+    }
+
     public static FileBackedTaskManager getDefaultFileBacked() {
         return new FileBackedTaskManager(Paths.get(System.getProperty("user.dir"), "dataNewFormat.csv"));
     }
@@ -0,0 +1,72 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+
+class MergedView<T> {
+    private final List<Supplier<List<T>>> sources;
+    private final Comparator<? super T> order;
+    private volatile Merged<T> merged;
+
+    private record Merged<T>(List<List<T>> sources, List<T> items) {
+    }
+
+    private record Cursor<T>(List<T> source, int index) {
+        T head() {
+            return source.get(index);
+        }
+    }
+
+    MergedView(List<Supplier<List<T>>> sources, Comparator<? super T> order) {
+        this.sources = List.copyOf(sources);
+        this.order = order;
+    }
+
+    List<T> get() {
+        List<List<T>> current = new ArrayList<>(sources.size());
+        for (Supplier<List<T>> source : sources) {
+            current.add(source.get());
+        }
+        Merged<T> last = merged;
+        if (last != null && sameSources(last.sources(), current)) {
+            return last.items();
+        }
+        List<T> items = merge(current, order);
+        merged = new Merged<>(current, items);
+        return items;
+    }
+
+    static <T> List<T> merge(List<? extends List<? extends T>> sorted, Comparator<? super T> order) {
+        int total = 0;
+        PriorityQueue<Cursor<? extends T>> heads = new PriorityQueue<>(Math.max(1, sorted.size()),
+                (first, second) -> order.compare(first.head(), second.head()));
+        for (List<? extends T> source : sorted) {
+            total += source.size();
+            if (!source.isEmpty()) {
+                heads.add(new Cursor<>(source, 0));
+            }
+        }
+        List<T> result = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Cursor<? extends T> cursor = heads.poll();
+            result.add(cursor.head());
+            if (cursor.index() + 1 < cursor.source().size()) {
+                heads.add(new Cursor<>(cursor.source(), cursor.index() + 1));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static <T> boolean sameSources(List<List<T>> previous, List<List<T>> current) {
+        for (int i = 0; i < current.size(); i++) {
+            if (previous.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.manager.offheap.OffHeapSchedule;
+import ru.yandex.javacourse.schedule.manager.offheap.OffHeapTaskStore;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class OffHeapTaskManager extends InMemoryTaskManager {
+    public OffHeapTaskManager() {
+        this(new OffHeapTaskStore<>(TaskType.TASK), new OffHeapTaskStore<>(TaskType.SUBTASK), new HashMap<>());
+    }
+
+    private OffHeapTaskManager(OffHeapTaskStore<Task> taskStore, OffHeapTaskStore<Subtask> subtaskStore,
+                               Map<Integer, Epic> epicStore) {
+        super(taskStore, subtaskStore, epicStore,
+                new OffHeapSchedule(id -> find(id, taskStore, subtaskStore)),
+                new IdHistoryManager(new OffHeapTaskStore<>(TaskType.TASK),
+                        new OffHeapTaskStore<>(TaskType.SUBTASK), new HashMap<>()));
+    }
+
+    private static Task find(int id, Map<Integer, Task> taskStore, Map<Integer, Subtask> subtaskStore) {
+        Task task = taskStore.get(id);
+        return task != null ? task : subtaskStore.get(id);
+    }
+}
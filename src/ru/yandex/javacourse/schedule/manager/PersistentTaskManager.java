@@ -0,0 +1,49 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.manager.persistent.PersistentMapStore;
+import ru.yandex.javacourse.schedule.manager.persistent.PersistentSortedSetStore;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.utils.CsvSerializer;
+import ru.yandex.javacourse.schedule.utils.FileWorker;
+import ru.yandex.javacourse.schedule.utils.WriteResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PersistentTaskManager extends InMemoryTaskManager {
+    private final PersistentMapStore<Task> taskStore;
+    private final PersistentMapStore<Subtask> subtaskStore;
+    private final PersistentMapStore<Epic> epicStore;
+    private final PersistentSortedSetStore<Task> prioritizedStore;
+
+    public PersistentTaskManager() {
+        this(new PersistentMapStore<>(), new PersistentMapStore<>(), new PersistentMapStore<>(),
+                new PersistentSortedSetStore<>(PRIORITY_ORDER));
+    }
+
+    private PersistentTaskManager(PersistentMapStore<Task> taskStore, PersistentMapStore<Subtask> subtaskStore,
+                                  PersistentMapStore<Epic> epicStore, PersistentSortedSetStore<Task> prioritizedStore) {
+        super(taskStore, subtaskStore, epicStore, prioritizedStore);
+        this.taskStore = taskStore;
+        this.subtaskStore = subtaskStore;
+        this.epicStore = epicStore;
+        this.prioritizedStore = prioritizedStore;
+    }
+
+    public synchronized ManagerSnapshot snapshot() {
+        return new ManagerSnapshot(taskStore.snapshot(), epicStore.snapshot(), subtaskStore.snapshot(),
+                prioritizedStore.snapshot());
+    }
+
+    public WriteResult backupTo(Path path) throws IOException {
+        List<Task> allTasks = snapshot().allTasksById();
+        List<String> lines = new ArrayList<>(allTasks.size() + 1);
+        lines.add(CsvSerializer.buildHeader());
+        allTasks.forEach(task -> lines.add(CsvSerializer.taskToString(task)));
+        return FileWorker.writeAllLines(path, lines);
+    }
+}
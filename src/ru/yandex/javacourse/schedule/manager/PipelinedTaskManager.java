@@ -0,0 +1,348 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventBus;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class PipelinedTaskManager implements TaskManager, AutoCloseable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private final TaskManager delegate;
+    private final BlockingQueue<WriteCommand<?>> commands;
+    private final int maxBatchSize;
+    private final Thread writer;
+    private final AtomicLong appliedBatches = new AtomicLong();
+    private final AtomicLong appliedCommands = new AtomicLong();
+    private volatile boolean closed;
+
+    private static final class WriteCommand<T> {
+        private final Supplier<T> action;
+        private final CompletableFuture<T> applied = new CompletableFuture<>();
+        private final CompletableFuture<T> durable = new CompletableFuture<>();
+        private T value;
+        private RuntimeException failure;
+
+        private WriteCommand(Supplier<T> action) {
+            this.action = action;
+        }
+
+        private void apply() {
+            try {
+                value = action.get();
+                applied.complete(value);
+            } catch (RuntimeException exception) {
+                failure = exception;
+                applied.completeExceptionally(exception);
+            }
+        }
+
+        private void complete() {
+            if (failure != null) {
+                durable.completeExceptionally(failure);
+            } else {
+                durable.complete(value);
+            }
+        }
+
+        private void fail(RuntimeException exception) {
+            applied.completeExceptionally(exception);
+            durable.completeExceptionally(exception);
+        }
+    }
+
+    public PipelinedTaskManager(TaskManager delegate) {
+        this(delegate, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public PipelinedTaskManager(TaskManager delegate, int queueCapacity, int maxBatchSize) {
+        this.delegate = delegate;
+        this.commands = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.writer = Thread.ofPlatform()
+                .name("task-writer")
+                .daemon()
+                .start(this::drainLoop);
+    }
+
+    private void drainLoop() {
+        List<WriteCommand<?>> batch = new ArrayList<>(maxBatchSize);
+        while (!closed || !commands.isEmpty()) {
+            try {
+                batch.add(commands.take());
+            } catch (InterruptedException exception) {
+                return;
+            }
+            commands.drainTo(batch, maxBatchSize - 1);
+            applyBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void applyBatch(List<WriteCommand<?>> batch) {
+        try {
+            delegate.executeBatch(() -> {
+                batch.forEach(WriteCommand::apply);
+                return null;
+            });
+        } catch (RuntimeException exception) {
+            batch.forEach(command -> command.fail(exception));
+            return;
+        }
+        batch.forEach(WriteCommand::complete);
+        appliedBatches.incrementAndGet();
+        appliedCommands.addAndGet(batch.size());
+    }
+
+    public <T> AsyncWrite<T> submitAsync(Supplier<T> action) {
+        if (Thread.currentThread() == writer) {
+            try {
+                return AsyncWrite.completed(action.get());
+            } catch (RuntimeException exception) {
+                return AsyncWrite.failed(exception);
+            }
+        }
+        if (closed) {
+            return AsyncWrite.failed(new IllegalStateException("Task manager pipeline is closed"));
+        }
+        WriteCommand<T> command = new WriteCommand<>(action);
+        try {
+            commands.put(command);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return AsyncWrite.failed(new IllegalStateException("Interrupted while submitting command", exception));
+        }
+        if (closed && commands.remove(command)) {
+            command.fail(new IllegalStateException("Task manager pipeline is closed"));
+        }
+        return new AsyncWrite<>(command.applied, command.durable);
+    }
+
+    private <T> T submit(Supplier<T> action) {
+        try {
+            return submitAsync(action).durable().join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private void submitAction(Runnable action) {
+        submit(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public int getQueueDepth() {
+        return commands.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            commands.put(new WriteCommand<Void>(() -> null));
+            writer.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        IllegalStateException rejection = new IllegalStateException("Task manager pipeline is closed");
+        for (WriteCommand<?> command = commands.poll(); command != null; command = commands.poll()) {
+            command.fail(rejection);
+        }
+    }
+
+    @Override
+    public List<Task> getTasks() {
+        return delegate.getTasks();
+    }
+
+    @Override
+    public List<Task> getPrioritizedTasks() {
+        return delegate.getPrioritizedTasks();
+    }
+
+    @Override
+    public List<Subtask> getSubtasks() {
+        return delegate.getSubtasks();
+    }
+
+    @Override
+    public List<Epic> getEpics() {
+        return delegate.getEpics();
+    }
+
+    @Override
+    public List<Subtask> getEpicSubtasks(int epicId) {
+        return delegate.getEpicSubtasks(epicId);
+    }
+
+    @Override
+    public List<Task> getTasksByStatus(TaskStatus status) {
+        return delegate.getTasksByStatus(status);
+    }
+
+    @Override
+    public List<Subtask> getSubtasksByStatus(TaskStatus status) {
+        return delegate.getSubtasksByStatus(status);
+    }
+
+    @Override
+    public List<Epic> getEpicsByStatus(TaskStatus status) {
+        return delegate.getEpicsByStatus(status);
+    }
+
+    @Override
+    public List<Subtask> getEpicSubtasksByStatus(int epicId, TaskStatus status) {
+        return delegate.getEpicSubtasksByStatus(epicId, status);
+    }
+
+    @Override
+    public List<Task> search(String query, int limit) {
+        return delegate.search(query, limit);
+    }
+
+    @Override
+    public List<Task> suggest(String prefix, int limit) {
+        return delegate.suggest(prefix, limit);
+    }
+
+    @Override
+    public Task getTask(int id) {
+        return delegate.getTask(id);
+    }
+
+    @Override
+    public Subtask getSubtask(int id) {
+        return delegate.getSubtask(id);
+    }
+
+    @Override
+    public Epic getEpic(int id) {
+        return delegate.getEpic(id);
+    }
+
+    @Override
+    public int addNewTask(Task task) {
+        return submit(() -> delegate.addNewTask(task));
+    }
+
+    @Override
+    public int addNewEpic(Epic epic) {
+        return submit(() -> delegate.addNewEpic(epic));
+    }
+
+    @Override
+    public Integer addNewSubtask(Subtask subtask) {
+        return submit(() -> delegate.addNewSubtask(subtask));
+    }
+
+    @Override
+    public List<Integer> addNewTasks(Collection<Task> tasks) {
+        return submit(() -> delegate.addNewTasks(tasks));
+    }
+
+    @Override
+    public List<Integer> addNewEpics(Collection<Epic> epics) {
+        return submit(() -> delegate.addNewEpics(epics));
+    }
+
+    @Override
+    public List<Integer> addNewSubtasks(Collection<Subtask> subtasks) {
+        return submit(() -> delegate.addNewSubtasks(subtasks));
+    }
+
+    @Override
+    public void updateTask(Task task) {
+        submitAction(() -> delegate.updateTask(task));
+    }
+
+    @Override
+    public void updateEpic(Epic epic) {
+        submitAction(() -> delegate.updateEpic(epic));
+    }
+
+    @Override
+    public void updateSubtask(Subtask subtask) {
+        submitAction(() -> delegate.updateSubtask(subtask));
+    }
+
+    @Override
+    public void deleteTask(int id) {
+        submitAction(() -> delegate.deleteTask(id));
+    }
+
+    @Override
+    public void deleteEpic(int id) {
+        submitAction(() -> delegate.deleteEpic(id));
+    }
+
+    @Override
+    public void deleteSubtask(int id) {
+        submitAction(() -> delegate.deleteSubtask(id));
+    }
+
+    @Override
+    public void deleteTasks() {
+        submitAction(delegate::deleteTasks);
+    }
+
+    @Override
+    public void deleteSubtasks() {
+        submitAction(delegate::deleteSubtasks);
+    }
+
+    @Override
+    public void deleteEpics() {
+        submitAction(delegate::deleteEpics);
+    }
+
+    @Override
+    public List<Task> getHistory() {
+        return delegate.getHistory();
+    }
+
+    @Override
+    public <T> T executeBatch(Supplier<T> batch) {
+        return submit(batch);
+    }
+
+    @Override
+    public TaskEventBus getEventBus() {
+        return delegate.getEventBus();
+    }
+
+    @Override
+    public ChangeSet getChangesSince(ChangeVersion version) {
+        return delegate.getChangesSince(version);
+    }
+
+    @Override
+    public void bindMetrics(MetricsRegistry metricsRegistry) {
+        delegate.bindMetrics(metricsRegistry);
+        metricsRegistry.registerGauge("kanban_write_queue_depth", "Commands waiting for the writer thread.",
+                commands::size);
+        metricsRegistry.registerGauge("kanban_write_batches_total", "Batches applied by the writer thread.",
+                appliedBatches::get);
+        metricsRegistry.registerGauge("kanban_write_commands_total", "Commands applied by the writer thread.",
+                appliedCommands::get);
+    }
+}
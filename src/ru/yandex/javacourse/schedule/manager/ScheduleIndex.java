@@ -0,0 +1,97 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.tasks.Task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+class ScheduleIndex {
+    private final NavigableSet<Task> schedule = new ConcurrentSkipListSet<>(InMemoryTaskManager.PRIORITY_ORDER);
+    private final ReentrantLock reservationLock = new ReentrantLock();
+    private final VersionedSnapshot<Task> snapshot = new VersionedSnapshot<>(() -> schedule);
+
+    List<Task> snapshot() {
+        return snapshot.get();
+    }
+
+    int size() {
+        return schedule.size();
+    }
+
+    void replace(Task previous, Task current) {
+        replaceAll(previous == null ? List.of() : List.of(previous), current == null ? List.of() : List.of(current));
+    }
+
+    void replaceAll(Collection<? extends Task> previous, Collection<? extends Task> current) {
+        List<Task> timed = new ArrayList<>(current);
+        timed.removeIf(task -> !isTimed(task));
+        timed.sort(Comparator.comparingLong(Task::getStartMinute));
+        Set<Integer> replacedIds = new HashSet<>();
+        previous.forEach(task -> replacedIds.add(task.getId()));
+        reservationLock.lock();
+        try {
+            Task last = null;
+            for (Task task : timed) {
+                if ((last != null && areCrossing(last, task)) || crossesScheduled(task, replacedIds)) {
+                    throw new TimeInteractionsException("Task time crosses existing task");
+                }
+                last = task;
+            }
+            boolean changed = false;
+            for (Task task : previous) {
+                changed |= schedule.remove(task);
+            }
+            for (Task task : current) {
+                if (task.hasStartTime()) {
+                    changed |= schedule.add(task);
+                }
+            }
+            if (changed) {
+                snapshot.invalidate();
+            }
+        } finally {
+            reservationLock.unlock();
+        }
+    }
+
+    void remove(Task task) {
+        if (schedule.remove(task)) {
+            snapshot.invalidate();
+        }
+    }
+
+    private boolean crossesScheduled(Task task, Set<Integer> ignoredIds) {
+        long end = task.getEndMinute();
+        for (Task next : schedule.tailSet(task, true)) {
+            if (next.getStartMinute() >= end) {
+                break;
+            }
+            if (!ignoredIds.contains(next.getId()) && areCrossing(next, task)) {
+                return true;
+            }
+        }
+        for (Task previous : schedule.headSet(task, false).descendingSet()) {
+            if (!ignoredIds.contains(previous.getId()) && previous.getDurationMinutes() != 0) {
+                return areCrossing(previous, task);
+            }
+        }
+        return false;
+    }
+
+    private static boolean areCrossing(Task first, Task second) {
+        return isTimed(first) && isTimed(second)
+                && first.getStartMinute() < second.getEndMinute() && second.getStartMinute() < first.getEndMinute();
+    }
+
+    private static boolean isTimed(Task task) {
+        return task.hasStartTime() && task.getDurationMinutes() != 0;
+    }
+}
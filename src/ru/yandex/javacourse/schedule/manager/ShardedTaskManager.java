@@ -0,0 +1,616 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.exceptions.ManagerSaveException;
+import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.manager.events.ChangeLog;
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventBus;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventType;
+import ru.yandex.javacourse.schedule.manager.search.NameIndex;
+import ru.yandex.javacourse.schedule.manager.search.SearchQuery;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static ru.yandex.javacourse.schedule.manager.events.TaskEventType.DELETED;
+
+public class ShardedTaskManager implements TaskManager {
+    static final int ID_BLOCK_SIZE = 1024;
+    private static final String SHARD_FILE_PREFIX = "shard-";
+    private static final String SHARD_FILE_SUFFIX = ".csv";
+    private static final Comparator<Task> BY_ID = Comparator.comparingInt(Task::getId);
+
+    private final FileBackedTaskManager[] shards;
+    private final TaskEventBus eventBus = new TaskEventBus();
+    private final ChangeLog changeLog = new ChangeLog(InMemoryTaskManager.CHANGE_LOG_CAPACITY);
+    private final ReentrantLock scheduleLock = new ReentrantLock();
+    private final AtomicInteger nextWriterShard = new AtomicInteger();
+    private final ThreadLocal<Integer> writerShard;
+    private final AtomicLong viewSequence = new AtomicLong();
+    private final Map<Integer, Long> viewStamps = new ConcurrentHashMap<>();
+    private final MergedView<Task> tasks;
+    private final MergedView<Subtask> subtasks;
+    private final MergedView<Epic> epics;
+    private final MergedView<Task> prioritizedTasks;
+
+    public ShardedTaskManager(Path directory, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new ManagerSaveException("Error due initialization directory: " + directory.getFileName(), e);
+        }
+        this.shards = openShards(directory, shardCount);
+        this.writerShard = ThreadLocal.withInitial(() -> nextWriterShard.getAndIncrement() % shardCount);
+        this.tasks = new MergedView<>(sources(FileBackedTaskManager::getTasks), BY_ID);
+        this.subtasks = new MergedView<>(sources(FileBackedTaskManager::getSubtasks), BY_ID);
+        this.epics = new MergedView<>(sources(FileBackedTaskManager::getEpics), BY_ID);
+        this.prioritizedTasks = new MergedView<>(sources(FileBackedTaskManager::getPrioritizedTasks),
+                InMemoryTaskManager.PRIORITY_ORDER);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public List<Task> getTasks() {
+        return tasks.get();
+    }
+
+    @Override
+    public List<Task> getPrioritizedTasks() {
+        return prioritizedTasks.get();
+    }
+
+    @Override
+    public List<Subtask> getSubtasks() {
+        return subtasks.get();
+    }
+
+    @Override
+    public List<Epic> getEpics() {
+        return epics.get();
+    }
+
+    @Override
+    public List<Subtask> getEpicSubtasks(int epicId) {
+        return shardFor(epicId).getEpicSubtasks(epicId);
+    }
+
+    @Override
+    public List<Task> getTasksByStatus(TaskStatus status) {
+        return mergeById(shard -> shard.getTasksByStatus(status));
+    }
+
+    @Override
+    public List<Subtask> getSubtasksByStatus(TaskStatus status) {
+        return mergeById(shard -> shard.getSubtasksByStatus(status));
+    }
+
+    @Override
+    public List<Epic> getEpicsByStatus(TaskStatus status) {
+        return mergeById(shard -> shard.getEpicsByStatus(status));
+    }
+
+    @Override
+    public List<Subtask> getEpicSubtasksByStatus(int epicId, TaskStatus status) {
+        return shardFor(epicId).getEpicSubtasksByStatus(epicId, status);
+    }
+
+    @Override
+    public List<Task> search(String query, int limit) {
+        SearchQuery parsed = SearchQuery.parse(query);
+        Map<Task, Integer> scores = new HashMap<>();
+        for (FileBackedTaskManager shard : shards) {
+            for (Task task : shard.search(query, limit)) {
+                scores.put(task, parsed.score(task.getName(), task.getDescription()));
+            }
+        }
+        return scores.keySet().stream()
+                .sorted(Comparator.comparingInt((Task task) -> -scores.get(task)).thenComparing(BY_ID))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Task> suggest(String prefix, int limit) {
+        List<List<Task>> suggestions = new ArrayList<>(shards.length);
+        for (FileBackedTaskManager shard : shards) {
+            suggestions.add(shard.suggest(prefix, limit));
+        }
+        Comparator<Task> byName = Comparator.comparing((Task task) -> NameIndex.normalize(task.getName()))
+                .thenComparing(BY_ID);
+        List<Task> merged = MergedView.merge(suggestions, byName);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    @Override
+    public Task getTask(int id) {
+        return view(id, shard -> shard.getTask(id));
+    }
+
+    @Override
+    public Subtask getSubtask(int id) {
+        return view(id, shard -> shard.getSubtask(id));
+    }
+
+    @Override
+    public Epic getEpic(int id) {
+        return view(id, shard -> shard.getEpic(id));
+    }
+
+    @Override
+    public int addNewTask(Task task) {
+        int shardIndex = task.getId() == 0 ? writerShard.get() : shardOf(task.getId());
+        return addToShard(shardIndex, List.of(task), () -> shards[shardIndex].addNewTask(task));
+    }
+
+    @Override
+    public int addNewEpic(Epic epic) {
+        int shardIndex = epic.getId() == 0 ? writerShard.get() : shardOf(epic.getId());
+        return addToShard(shardIndex, List.of(epic), () -> shards[shardIndex].addNewEpic(epic));
+    }
+
+    @Override
+    public Integer addNewSubtask(Subtask subtask) {
+        int shardIndex = shardOf(subtask.getEpicId());
+        return addToShard(shardIndex, List.of(subtask), () -> shards[shardIndex].addNewSubtask(subtask));
+    }
+
+    @Override
+    public List<Integer> addNewTasks(Collection<Task> newTasks) {
+        int shardIndex = batchShard(newTasks);
+        return addToShard(shardIndex, newTasks, () -> shards[shardIndex].addNewTasks(newTasks));
+    }
+
+    @Override
+    public List<Integer> addNewEpics(Collection<Epic> newEpics) {
+        int shardIndex = batchShard(newEpics);
+        return addToShard(shardIndex, newEpics, () -> shards[shardIndex].addNewEpics(newEpics));
+    }
+
+    @Override
+    public List<Integer> addNewSubtasks(Collection<Subtask> newSubtasks) {
+        Map<Integer, List<Subtask>> byShard = newSubtasks.stream()
+                .collect(Collectors.groupingBy(subtask -> shardOf(subtask.getEpicId()),
+                        LinkedHashMap::new, Collectors.toList()));
+        if (byShard.size() <= 1) {
+            int shardIndex = byShard.isEmpty() ? writerShard.get() : byShard.keySet().iterator().next();
+            return addToShard(shardIndex, newSubtasks, () -> shards[shardIndex].addNewSubtasks(newSubtasks));
+        }
+        return executeBatch(() -> {
+            for (Subtask subtask : newSubtasks) {
+                if (!(shardFor(subtask.getEpicId()).findAnyTask(subtask.getEpicId()) instanceof Epic)) {
+                    throw new NotFoundException("epic not found");
+                }
+            }
+            byShard.forEach(this::planIds);
+            ensureBatchDoesNotCross(newSubtasks);
+            byShard.forEach((shardIndex, group) ->
+                    assignIdsAndRun(shardIndex, group, () -> shards[shardIndex].addNewSubtasks(group)));
+            return newSubtasks.stream().map(Task::getId).toList();
+        });
+    }
+
+    @Override
+    public void updateTask(Task task) {
+        int shardIndex = shardOf(task.getId());
+        runOnShard(shardIndex, task, () -> shards[shardIndex].updateTask(task));
+    }
+
+    @Override
+    public void updateEpic(Epic epic) {
+        FileBackedTaskManager shard = shardFor(epic.getId());
+        synchronized (shard) {
+            shard.updateEpic(epic);
+        }
+    }
+
+    @Override
+    public void updateSubtask(Subtask subtask) {
+        int shardIndex = shardOf(subtask.getId());
+        if (shardOf(subtask.getEpicId()) != shardIndex) {
+            throw new IllegalArgumentException("Subtask cannot move to an epic of another shard: " + subtask.getEpicId());
+        }
+        runOnShard(shardIndex, subtask, () -> shards[shardIndex].updateSubtask(subtask));
+    }
+
+    @Override
+    public void deleteTask(int id) {
+        FileBackedTaskManager shard = shardFor(id);
+        synchronized (shard) {
+            shard.deleteTask(id);
+            viewStamps.remove(id);
+        }
+    }
+
+    @Override
+    public void deleteEpic(int id) {
+        FileBackedTaskManager shard = shardFor(id);
+        synchronized (shard) {
+            List<Integer> subtaskIds = shard.findAnyTask(id) instanceof Epic epic
+                    ? List.copyOf(epic.getSubtaskIds()) : List.of();
+            shard.deleteEpic(id);
+            viewStamps.remove(id);
+            subtaskIds.forEach(viewStamps::remove);
+        }
+    }
+
+    @Override
+    public void deleteSubtask(int id) {
+        FileBackedTaskManager shard = shardFor(id);
+        synchronized (shard) {
+            shard.deleteSubtask(id);
+            viewStamps.remove(id);
+        }
+    }
+
+    @Override
+    public void deleteTasks() {
+        clearOnShards(FileBackedTaskManager::deleteTasks);
+    }
+
+    @Override
+    public void deleteSubtasks() {
+        clearOnShards(FileBackedTaskManager::deleteSubtasks);
+    }
+
+    @Override
+    public void deleteEpics() {
+        clearOnShards(FileBackedTaskManager::deleteEpics);
+    }
+
+    @Override
+    public List<Task> getHistory() {
+        List<List<Task>> slices = new ArrayList<>(shards.length);
+        for (FileBackedTaskManager shard : shards) {
+            slices.add(shard.getHistory());
+        }
+        return MergedView.merge(slices, Comparator.comparingLong(task -> viewStamps.getOrDefault(task.getId(), 0L)));
+    }
+
+    @Override
+    public <T> T executeBatch(Supplier<T> batch) {
+        scheduleLock.lock();
+        try {
+            return executeOnShards(0, batch);
+        } finally {
+            scheduleLock.unlock();
+        }
+    }
+
+    @Override
+    public TaskEventBus getEventBus() {
+        return eventBus;
+    }
+
+    @Override
+    public ChangeSet getChangesSince(ChangeVersion version) {
+        Map<Integer, TaskEventType> lastEventTypes = new LinkedHashMap<>();
+        Map<Integer, TaskType> taskTypes = new HashMap<>();
+        ChangeVersion current;
+        synchronized (changeLog) {
+            if (!changeLog.isAvailableSince(version)) {
+                return ChangeSet.resync(changeLog.getVersion());
+            }
+            changeLog.forEachSince(version, (sequence, eventType, taskType, id) -> {
+                lastEventTypes.put(id, eventType);
+                taskTypes.put(id, taskType);
+            });
+            current = changeLog.getVersion();
+        }
+        List<Task> changedTasks = new ArrayList<>();
+        List<Epic> changedEpics = new ArrayList<>();
+        List<Subtask> changedSubtasks = new ArrayList<>();
+        List<Integer> deletedIds = new ArrayList<>();
+        lastEventTypes.forEach((id, eventType) -> {
+            Task task = eventType == DELETED ? null : shardFor(id).findAnyTask(id);
+            if (task == null || task.getType() != taskTypes.get(id)) {
+                deletedIds.add(id);
+                return;
+            }
+            switch (task.getType()) {
+                case TASK -> changedTasks.add(task);
+                case EPIC -> changedEpics.add((Epic) task);
+                case SUBTASK -> changedSubtasks.add((Subtask) task);
+            }
+        });
+        return new ChangeSet(current.toString(), false, changedTasks, changedEpics, changedSubtasks, deletedIds);
+    }
+
+    @Override
+    public void bindMetrics(MetricsRegistry metricsRegistry) {
+        metricsRegistry.registerGauge("kanban_shards", "Number of storage shards.", () -> shards.length);
+        metricsRegistry.registerGauge("kanban_tasks", "Number of stored tasks.", () -> getTasks().size());
+        metricsRegistry.registerGauge("kanban_epics", "Number of stored epics.", () -> getEpics().size());
+        metricsRegistry.registerGauge("kanban_subtasks", "Number of stored subtasks.", () -> getSubtasks().size());
+        metricsRegistry.registerGauge("kanban_history_size", "Number of entries in view history.",
+                () -> Arrays.stream(shards).mapToLong(shard -> shard.getHistory().size()).sum());
+        metricsRegistry.registerGauge("kanban_prioritized_tasks", "Number of tasks in prioritized index.",
+                () -> getPrioritizedTasks().size());
+    }
+
+    int shardOf(int id) {
+        return shardOf(id, shards.length);
+    }
+
+    private static int shardOf(int id, int shardCount) {
+        return Math.floorMod((id - 1) / ID_BLOCK_SIZE, shardCount);
+    }
+
+    private FileBackedTaskManager[] openShards(Path directory, int shardCount) {
+        List<Path> created = new ArrayList<>();
+        List<Future<FileBackedTaskManager>> opening = new ArrayList<>(shardCount);
+        try (ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int index = 0; index < shardCount; index++) {
+                Path file = shardFile(directory, index);
+                if (Files.notExists(file)) {
+                    created.add(file);
+                }
+                int shardIndex = index;
+                opening.add(loaders.submit(() -> openShard(file, shardIndex, shardCount)));
+            }
+        }
+        FileBackedTaskManager[] opened = new FileBackedTaskManager[shardCount];
+        RuntimeException failure = null;
+        for (int index = 0; index < shardCount; index++) {
+            try {
+                opened[index] = opening.get(index).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new ManagerSaveException("Interrupted while opening shard " + index, e);
+                break;
+            } catch (ExecutionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtime ? runtime
+                        : new ManagerSaveException("Error due opening shard " + index, e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure == null) {
+            return opened;
+        }
+        for (Path file : created) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        throw failure;
+    }
+
+    private static Path shardFile(Path directory, int index) {
+        return directory.resolve(SHARD_FILE_PREFIX + index + SHARD_FILE_SUFFIX);
+    }
+
+    private FileBackedTaskManager openShard(Path file, int index, int shardCount) {
+        FileBackedTaskManager shard = new FileBackedTaskManager(file, new TreeMap<>(), new TreeMap<>(),
+                new TreeMap<>(), new TreeSet<>(InMemoryTaskManager.PRIORITY_ORDER), eventBus, changeLog);
+        List<Task> stored = new ArrayList<>(shard.getTasks());
+        stored.addAll(shard.getEpics());
+        stored.addAll(shard.getSubtasks());
+        for (Task task : stored) {
+            if (shardOf(task.getId(), shardCount) != index) {
+                throw new ManagerSaveException("Task " + task.getId() + " does not belong to " + file.getFileName());
+            }
+        }
+        return shard;
+    }
+
+    private <T> List<Supplier<List<T>>> sources(Function<FileBackedTaskManager, List<T>> reader) {
+        List<Supplier<List<T>>> sources = new ArrayList<>(shards.length);
+        for (FileBackedTaskManager shard : shards) {
+            sources.add(() -> reader.apply(shard));
+        }
+        return sources;
+    }
+
+    private <T extends Task> List<T> mergeById(Function<FileBackedTaskManager, List<T>> reader) {
+        List<List<T>> slices = new ArrayList<>(shards.length);
+        for (FileBackedTaskManager shard : shards) {
+            slices.add(reader.apply(shard));
+        }
+        return MergedView.merge(slices, BY_ID);
+    }
+
+    private FileBackedTaskManager shardFor(int id) {
+        return shards[shardOf(id)];
+    }
+
+    private int batchShard(Collection<? extends Task> batch) {
+        for (Task task : batch) {
+            if (task.getId() != 0) {
+                return shardOf(task.getId());
+            }
+        }
+        return writerShard.get();
+    }
+
+    private <T extends Task> T view(int id, Function<FileBackedTaskManager, T> reader) {
+        FileBackedTaskManager shard = shardFor(id);
+        synchronized (shard) {
+            T task = reader.apply(shard);
+            viewStamps.put(id, viewSequence.incrementAndGet());
+            return task;
+        }
+    }
+
+    private <R> R addToShard(int shardIndex, Collection<? extends Task> batch, Supplier<R> operation) {
+        if (batch.stream().noneMatch(ShardedTaskManager::isTimed)) {
+            return assignIdsAndRun(shardIndex, batch, operation);
+        }
+        scheduleLock.lock();
+        try {
+            ensureOtherShardsFree(shardIndex, batch);
+            return assignIdsAndRun(shardIndex, batch, operation);
+        } finally {
+            scheduleLock.unlock();
+        }
+    }
+
+    private void runOnShard(int shardIndex, Task task, Runnable operation) {
+        if (!isTimed(task)) {
+            operation.run();
+            return;
+        }
+        scheduleLock.lock();
+        try {
+            ensureOtherShardsFree(shardIndex, List.of(task));
+            operation.run();
+        } finally {
+            scheduleLock.unlock();
+        }
+    }
+
+    private <R> R assignIdsAndRun(int shardIndex, Collection<? extends Task> batch, Supplier<R> operation) {
+        FileBackedTaskManager shard = shards[shardIndex];
+        synchronized (shard) {
+            int[] ids = planIds(shardIndex, batch);
+            List<Task> generated = new ArrayList<>();
+            int index = 0;
+            for (Task task : batch) {
+                int id = ids[index++];
+                if (task.getId() == 0) {
+                    task.setId(id);
+                    generated.add(task);
+                }
+            }
+            try {
+                return operation.get();
+            } catch (RuntimeException exception) {
+                generated.stream().filter(task -> !task.isManaged()).forEach(task -> task.setId(0));
+                throw exception;
+            }
+        }
+    }
+
+    private int[] planIds(int shardIndex, Collection<? extends Task> batch) {
+        FileBackedTaskManager shard = shards[shardIndex];
+        synchronized (shard) {
+            int[] ids = new int[batch.size()];
+            int sequence = shard.lastAssignedId();
+            int index = 0;
+            for (Task task : batch) {
+                int requestedId = task.getId();
+                if (requestedId == 0) {
+                    sequence = nextIdAfter(sequence, shardIndex);
+                } else {
+                    if (shardOf(requestedId) != shardIndex) {
+                        throw new IllegalArgumentException("Predefined id belongs to another shard: " + requestedId);
+                    }
+                    if (requestedId <= sequence) {
+                        throw new IllegalArgumentException("Predefined id must be greater than current sequence"
+                                + " (generatorId=" + sequence + "): " + requestedId);
+                    }
+                    sequence = requestedId;
+                }
+                ids[index++] = sequence;
+            }
+            return ids;
+        }
+    }
+
+    private int nextIdAfter(int lastId, int shardIndex) {
+        if (lastId <= 0) {
+            return shardIndex * ID_BLOCK_SIZE + 1;
+        }
+        if (lastId % ID_BLOCK_SIZE != 0) {
+            return lastId + 1;
+        }
+        return (lastId / ID_BLOCK_SIZE + shards.length - 1) * ID_BLOCK_SIZE + 1;
+    }
+
+    private void ensureOtherShardsFree(int shardIndex, Collection<? extends Task> batch) {
+        for (Task task : batch) {
+            if (!isTimed(task)) {
+                continue;
+            }
+            for (int i = 0; i < shards.length; i++) {
+                if (i != shardIndex && shards[i].crossesScheduled(task)) {
+                    throw new TimeInteractionsException("Task time crosses existing task");
+                }
+            }
+        }
+    }
+
+    private void ensureBatchDoesNotCross(Collection<? extends Task> batch) {
+        List<Task> timed = batch.stream()
+                .filter(ShardedTaskManager::isTimed)
+                .sorted(Comparator.comparingLong(Task::getStartMinute))
+                .collect(Collectors.toList());
+        Task previous = null;
+        for (Task task : timed) {
+            if (previous != null && previous.getEndMinute() > task.getStartMinute()) {
+                throw new TimeInteractionsException("Task time crosses existing task");
+            }
+            for (FileBackedTaskManager shard : shards) {
+                if (shard.crossesScheduled(task)) {
+                    throw new TimeInteractionsException("Task time crosses existing task");
+                }
+            }
+            previous = task;
+        }
+    }
+
+    private <T> T executeOnShards(int index, Supplier<T> batch) {
+        if (index == shards.length) {
+            return batch.get();
+        }
+        return shards[index].executeBatch(() -> executeOnShards(index + 1, batch));
+    }
+
+    private void clearOnShards(Consumer<FileBackedTaskManager> clear) {
+        for (int i = 0; i < shards.length; i++) {
+            FileBackedTaskManager shard = shards[i];
+            int shardIndex = i;
+            synchronized (shard) {
+                clear.accept(shard);
+                Set<Integer> viewed = shard.getHistory().stream().map(Task::getId).collect(Collectors.toSet());
+                viewStamps.keySet().removeIf(id -> shardOf(id) == shardIndex && !viewed.contains(id));
+            }
+        }
+    }
+
+    private static boolean isTimed(Task task) {
+        return task.hasStartTime() && task.getDurationMinutes() != 0;
+    }
+}
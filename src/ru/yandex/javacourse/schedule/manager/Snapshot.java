@@ -0,0 +1,44 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+class Snapshot<T> {
+    private final Supplier<Collection<? extends T>> source;
+    private final boolean caching;
+    private final VersionedSnapshot<T> lockFree;
+    private volatile List<T> current;
+
+    Snapshot(Supplier<Collection<? extends T>> source, boolean caching, boolean concurrentSource) {
+        this.source = source;
+        this.caching = caching;
+        this.lockFree = caching && concurrentSource ? new VersionedSnapshot<>(source) : null;
+    }
+
+    List<T> get(Object lock) {
+        if (lockFree != null) {
+            return lockFree.get();
+        }
+        List<T> snapshot = current;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (lock) {
+            if (!caching) {
+                return List.copyOf(source.get());
+            }
+            if (current == null) {
+                current = List.copyOf(source.get());
+            }
+            return current;
+        }
+    }
+
+    void invalidate() {
+        if (lockFree != null) {
+            lockFree.invalidate();
+        }
+        current = null;
+    }
+}
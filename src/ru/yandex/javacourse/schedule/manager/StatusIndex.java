@@ -0,0 +1,53 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+class StatusIndex {
+    private final Map<TaskStatus, NavigableSet<Integer>> idsByStatus = new EnumMap<>(TaskStatus.class);
+
+    StatusIndex() {
+        for (TaskStatus status : TaskStatus.values()) {
+            idsByStatus.put(status, new TreeSet<>());
+        }
+    }
+
+    void add(Task task) {
+        if (task.getStatus() != null) {
+            idsByStatus.get(task.getStatus()).add(task.getId());
+        }
+    }
+
+    void remove(Task task) {
+        if (task.getStatus() != null) {
+            idsByStatus.get(task.getStatus()).remove(task.getId());
+        }
+    }
+
+    void replace(Task previous, Task current) {
+        if (previous != null) {
+            remove(previous);
+        }
+        if (current != null) {
+            add(current);
+        }
+    }
+
+    Set<Integer> idsWith(TaskStatus status) {
+        return idsByStatus.get(status);
+    }
+
+    boolean isEmpty() {
+        return idsByStatus.values().stream().allMatch(Set::isEmpty);
+    }
+
+    void clear() {
+        idsByStatus.values().forEach(Set::clear);
+    }
+}
@@ -1,10 +1,17 @@
 package ru.yandex.javacourse.schedule.manager;
 
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventBus;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
 import ru.yandex.javacourse.schedule.tasks.Epic;
 import ru.yandex.javacourse.schedule.tasks.Subtask;
 import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 public interface TaskManager {
     List<Task> getTasks();
@@ -17,6 +24,18 @@ public interface TaskManager {
 
     List<Subtask> getEpicSubtasks(int epicId);
 
+    List<Task> getTasksByStatus(TaskStatus status);
+
+    List<Subtask> getSubtasksByStatus(TaskStatus status);
+
+    List<Epic> getEpicsByStatus(TaskStatus status);
+
+    List<Subtask> getEpicSubtasksByStatus(int epicId, TaskStatus status);
+
+    List<Task> search(String query, int limit);
+
+    List<Task> suggest(String prefix, int limit);
+
     Task getTask(int id);
 
     Subtask getSubtask(int id);
@@ -29,6 +48,12 @@ public interface TaskManager {
 
     Integer addNewSubtask(Subtask subtask);
 
+    List<Integer> addNewTasks(Collection<Task> tasks);
+
+    List<Integer> addNewEpics(Collection<Epic> epics);
+
+    List<Integer> addNewSubtasks(Collection<Subtask> subtasks);
+
     void updateTask(Task task);
 
     void updateEpic(Epic epic);
@@ -48,4 +73,12 @@ public interface TaskManager {
     void deleteEpics();
 
     List<Task> getHistory();
+
+    <T> T executeBatch(Supplier<T> batch);
+
+    TaskEventBus getEventBus();
+
+    ChangeSet getChangesSince(ChangeVersion version);
+
+    void bindMetrics(MetricsRegistry metricsRegistry);
 }
@@ -0,0 +1,37 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+class VersionedSnapshot<T> {
+    private final Supplier<Collection<? extends T>> source;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Published<T>> published = new AtomicReference<>();
+
+    private record Published<T>(long version, List<T> items) {
+    }
+
+    VersionedSnapshot(Supplier<Collection<? extends T>> source) {
+        this.source = source;
+    }
+
+    List<T> get() {
+        long current = version.get();
+        Published<T> snapshot = published.get();
+        if (snapshot != null && snapshot.version() == current) {
+            return snapshot.items();
+        }
+        List<T> items = List.copyOf(source.get());
+        if (version.get() == current) {
+            published.set(new Published<>(current, items));
+        }
+        return items;
+    }
+
+    void invalidate() {
+        version.incrementAndGet();
+    }
+}
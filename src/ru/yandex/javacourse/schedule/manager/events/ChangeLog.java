@@ -0,0 +1,66 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ChangeLog {
+    private final int[] ids;
+    private final TaskEventType[] eventTypes;
+    private final TaskType[] taskTypes;
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private long lastSequence = 0;
+    private int size = 0;
+
+    public interface ChangeConsumer {
+        void accept(long sequence, TaskEventType eventType, TaskType taskType, int id);
+    }
+
+    public ChangeLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Change log capacity must be positive: " + capacity);
+        }
+        this.ids = new int[capacity];
+        this.eventTypes = new TaskEventType[capacity];
+        this.taskTypes = new TaskType[capacity];
+    }
+
+    public synchronized long append(TaskEventType eventType, TaskType taskType, int id) {
+        lastSequence++;
+        int slot = slotOf(lastSequence);
+        ids[slot] = id;
+        eventTypes[slot] = eventType;
+        taskTypes[slot] = taskType;
+        if (size < ids.length) {
+            size++;
+        }
+        return lastSequence;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    public synchronized ChangeVersion getVersion() {
+        return new ChangeVersion(epoch, lastSequence);
+    }
+
+    public synchronized boolean isAvailableSince(ChangeVersion version) {
+        return version != null && epoch.equals(version.epoch())
+                && version.sequence() >= lastSequence - size && version.sequence() <= lastSequence;
+    }
+
+    public synchronized void forEachSince(ChangeVersion version, ChangeConsumer consumer) {
+        if (!isAvailableSince(version)) {
+            throw new IllegalArgumentException("Changes since " + version + " are no longer available");
+        }
+        for (long current = version.sequence() + 1; current <= lastSequence; current++) {
+            int slot = slotOf(current);
+            consumer.accept(current, eventTypes[slot], taskTypes[slot], ids[slot]);
+        }
+    }
+
+    private int slotOf(long sequence) {
+        return (int) ((sequence - 1) % ids.length);
+    }
+}
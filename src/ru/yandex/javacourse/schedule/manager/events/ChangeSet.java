@@ -0,0 +1,19 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+
+import java.util.List;
+
+public record ChangeSet(String version,
+                        boolean resyncRequired,
+                        List<Task> tasks,
+                        List<Epic> epics,
+                        List<Subtask> subtasks,
+                        List<Integer> deletedIds) {
+
+    public static ChangeSet resync(ChangeVersion version) {
+        return new ChangeSet(version.toString(), true, List.of(), List.of(), List.of(), List.of());
+    }
+}
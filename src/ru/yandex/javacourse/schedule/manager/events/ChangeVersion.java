@@ -0,0 +1,26 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+public record ChangeVersion(String epoch, long sequence) {
+    private static final char SEPARATOR = '-';
+
+    public static ChangeVersion parse(String token) {
+        int separator = token.lastIndexOf(SEPARATOR);
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw new IllegalArgumentException("Version must look like '<epoch>-<sequence>': " + token);
+        }
+        try {
+            long sequence = Long.parseLong(token.substring(separator + 1));
+            if (sequence < 0) {
+                throw new IllegalArgumentException("Version sequence must not be negative: " + token);
+            }
+            return new ChangeVersion(token.substring(0, separator), sequence);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Version sequence must be a number: " + token);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return epoch + SEPARATOR + sequence;
+    }
+}
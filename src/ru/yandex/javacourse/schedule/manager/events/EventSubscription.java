@@ -0,0 +1,42 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class EventSubscription implements AutoCloseable {
+    private final BlockingQueue<TaskEvent> buffer;
+    private volatile boolean closed = false;
+
+    EventSubscription(int capacity) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+    }
+
+    boolean offer(TaskEvent event) {
+        if (closed) {
+            return false;
+        }
+        if (!buffer.offer(event)) {
+            closed = true;
+            return false;
+        }
+        return true;
+    }
+
+    public TaskEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (closed) {
+            return null;
+        }
+        return buffer.poll(timeout, unit);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        buffer.clear();
+    }
+}
@@ -0,0 +1,7 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+public record TaskEvent(long sequence, TaskEventType eventType, TaskType taskType, int id, Task task) {
+}
@@ -0,0 +1,34 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class TaskEventBus {
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public EventSubscription subscribe(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Subscription capacity must be positive: " + capacity);
+        }
+        EventSubscription subscription = new EventSubscription(capacity);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void unsubscribe(EventSubscription subscription) {
+        subscriptions.remove(subscription);
+        subscription.close();
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public void publish(TaskEvent event) {
+        for (EventSubscription subscription : subscriptions) {
+            if (!subscription.offer(event)) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+public enum TaskEventType {
+    CREATED, UPDATED, DELETED
+}
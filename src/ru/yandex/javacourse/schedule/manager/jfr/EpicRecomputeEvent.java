@@ -0,0 +1,29 @@
+package ru.yandex.javacourse.schedule.manager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("ru.yandex.javacourse.schedule.EpicRecompute")
+@Label("Epic Recompute")
+@Category({"Kanban", "Manager"})
+@Description("Recalculation of epic status and time range from its subtasks")
+@StackTrace(false)
+public class EpicRecomputeEvent extends Event {
+    @Label("Epic Id")
+    int epicId;
+
+    @Label("Subtask Count")
+    int subtaskCount;
+
+    public void complete(int epicId, int subtaskCount) {
+        if (shouldCommit()) {
+            this.epicId = epicId;
+            this.subtaskCount = subtaskCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package ru.yandex.javacourse.schedule.manager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+@Name("ru.yandex.javacourse.schedule.Mutation")
+@Label("Task Manager Mutation")
+@Category({"Kanban", "Manager"})
+@Description("Completed TaskManager mutation with its duration")
+@StackTrace(false)
+public class MutationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Task Type")
+    String taskType;
+
+    @Label("Task Id")
+    int taskId;
+
+    @Label("Affected Tasks")
+    int affectedCount;
+
+    public void complete(String operation, TaskType taskType, int taskId, int affectedCount) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.taskType = taskType.name();
+            this.taskId = taskId;
+            this.affectedCount = affectedCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ru.yandex.javacourse.schedule.manager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("ru.yandex.javacourse.schedule.OverlapCheck")
+@Label("Time Overlap Check")
+@Category({"Kanban", "Manager"})
+@Description("Search of the prioritized index for tasks crossing a new time slot")
+@StackTrace(false)
+public class OverlapCheckEvent extends Event {
+    @Label("Task Id")
+    int taskId;
+
+    @Label("Candidates Scanned")
+    int candidatesScanned;
+
+    @Label("Overlap Found")
+    boolean overlapFound;
+
+    public void complete(int taskId, int candidatesScanned, boolean overlapFound) {
+        if (shouldCommit()) {
+            this.taskId = taskId;
+            this.candidatesScanned = candidatesScanned;
+            this.overlapFound = overlapFound;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.yandex.javacourse.schedule.manager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("ru.yandex.javacourse.schedule.PersistenceFlush")
+@Label("Persistence Flush")
+@Category({"Kanban", "Persistence"})
+@Description("Rewrite of the storage file after a mutation")
+@StackTrace(false)
+public class PersistenceFlushEvent extends Event {
+    @Label("Records")
+    int recordCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("Write Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long writeDuration;
+
+    public void complete(int recordCount, long bytesWritten, long writeDuration) {
+        if (shouldCommit()) {
+            this.recordCount = recordCount;
+            this.bytesWritten = bytesWritten;
+            this.writeDuration = writeDuration;
+            commit();
+        }
+    }
+}
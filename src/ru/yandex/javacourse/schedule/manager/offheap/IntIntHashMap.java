@@ -0,0 +1,99 @@
+package ru.yandex.javacourse.schedule.manager.offheap;
+
+import java.util.Arrays;
+
+class IntIntHashMap {
+    private static final int MISSING = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    IntIntHashMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int key) {
+        int mask = keys.length - 1;
+        for (int index = mix(key) & mask; values[index] != MISSING; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+        }
+        return MISSING;
+    }
+
+    void put(int key, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (values[index] != MISSING) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    int remove(int key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (values[index] != MISSING && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        int removed = values[index];
+        if (removed == MISSING) {
+            return MISSING;
+        }
+        size--;
+        int gap = index;
+        for (index = (gap + 1) & mask; values[index] != MISSING; index = (index + 1) & mask) {
+            int home = mix(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        values[gap] = MISSING;
+        return removed;
+    }
+
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != MISSING) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        size = 0;
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
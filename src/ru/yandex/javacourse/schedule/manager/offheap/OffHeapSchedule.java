@@ -0,0 +1,181 @@
+package ru.yandex.javacourse.schedule.manager.offheap;
+
+import ru.yandex.javacourse.schedule.tasks.Task;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+public class OffHeapSchedule extends AbstractSet<Task> implements NavigableSet<Task> {
+    private static final Comparator<Task> KEY_ORDER = Comparator.comparing(OffHeapSchedule::key);
+
+    private final NavigableSet<Key> keys;
+    private final IntFunction<? extends Task> lookup;
+    private final Comparator<? super Task> comparator;
+
+    public OffHeapSchedule(IntFunction<? extends Task> lookup) {
+        this(new TreeSet<>(), lookup, KEY_ORDER);
+    }
+
+    private OffHeapSchedule(NavigableSet<Key> keys, IntFunction<? extends Task> lookup,
+                            Comparator<? super Task> comparator) {
+        this.keys = keys;
+        this.lookup = lookup;
+        this.comparator = comparator;
+    }
+
+    private static Key key(Task task) {
+        return new Key(task.getStartMinute(), task.getId());
+    }
+
+    @Override
+    public int size() {
+        return keys.size();
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof Task task && keys.contains(key(task));
+    }
+
+    @Override
+    public boolean add(Task task) {
+        return keys.add(key(task));
+    }
+
+    @Override
+    public boolean remove(Object value) {
+        return value instanceof Task task && keys.remove(key(task));
+    }
+
+    @Override
+    public void clear() {
+        keys.clear();
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        Iterator<Key> iterator = keys.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Task next() {
+                return task(iterator.next());
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    @Override
+    public Comparator<? super Task> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public Task first() {
+        return task(keys.first());
+    }
+
+    @Override
+    public Task last() {
+        return task(keys.last());
+    }
+
+    @Override
+    public Task lower(Task task) {
+        return task(keys.lower(key(task)));
+    }
+
+    @Override
+    public Task floor(Task task) {
+        return task(keys.floor(key(task)));
+    }
+
+    @Override
+    public Task ceiling(Task task) {
+        return task(keys.ceiling(key(task)));
+    }
+
+    @Override
+    public Task higher(Task task) {
+        return task(keys.higher(key(task)));
+    }
+
+    @Override
+    public Task pollFirst() {
+        return task(keys.pollFirst());
+    }
+
+    @Override
+    public Task pollLast() {
+        return task(keys.pollLast());
+    }
+
+    @Override
+    public NavigableSet<Task> descendingSet() {
+        return new OffHeapSchedule(keys.descendingSet(), lookup, comparator.reversed());
+    }
+
+    @Override
+    public Iterator<Task> descendingIterator() {
+        return descendingSet().iterator();
+    }
+
+    @Override
+    public NavigableSet<Task> subSet(Task fromElement, boolean fromInclusive, Task toElement, boolean toInclusive) {
+        return view(keys.subSet(key(fromElement), fromInclusive, key(toElement), toInclusive));
+    }
+
+    @Override
+    public NavigableSet<Task> headSet(Task toElement, boolean inclusive) {
+        return view(keys.headSet(key(toElement), inclusive));
+    }
+
+    @Override
+    public NavigableSet<Task> tailSet(Task fromElement, boolean inclusive) {
+        return view(keys.tailSet(key(fromElement), inclusive));
+    }
+
+    @Override
+    public SortedSet<Task> subSet(Task fromElement, Task toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public SortedSet<Task> headSet(Task toElement) {
+        return headSet(toElement, false);
+    }
+
+    @Override
+    public SortedSet<Task> tailSet(Task fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    private NavigableSet<Task> view(NavigableSet<Key> range) {
+        return new OffHeapSchedule(range, lookup, comparator);
+    }
+
+    private Task task(Key key) {
+        return key == null ? null : lookup.apply(key.id());
+    }
+
+    private record Key(long startMinute, int id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byStart = Long.compare(startMinute, other.startMinute);
+            return byStart != 0 ? byStart : Integer.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package ru.yandex.javacourse.schedule.manager.offheap;
+
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public class OffHeapTaskStore<T extends Task> extends AbstractMap<Integer, T> {
+    private static final int ID = 0;
+    private static final int EPIC_ID = 4;
+    private static final int START_EPOCH_MINUTE = 8;
+    private static final int DURATION_MINUTES = 16;
+    private static final int NAME_OFFSET = 24;
+    private static final int NAME_LENGTH = 28;
+    private static final int DESCRIPTION_OFFSET = 32;
+    private static final int DESCRIPTION_LENGTH = 36;
+    private static final int TYPE = 40;
+    private static final int STATUS = 41;
+    private static final int RECORD_SIZE = 48;
+
+    private static final byte NULL_STATUS = -1;
+    private static final int MIN_COMPACTION_BYTES = 1 << 20;
+    private static final int INITIAL_RECORDS = 1024;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskType storedType;
+    private final IntIntHashMap slots = new IntIntHashMap();
+    private ByteBuffer records = ByteBuffer.allocateDirect(INITIAL_RECORDS * RECORD_SIZE);
+    private StringArena strings = new StringArena(INITIAL_RECORDS * 32);
+    private int recordCount;
+    private EntrySet entrySet;
+
+    public OffHeapTaskStore(TaskType storedType) {
+        if (storedType == TaskType.EPIC) {
+            throw new IllegalArgumentException("Epics keep mutable subtask lists and cannot be stored off-heap");
+        }
+        this.storedType = storedType;
+    }
+
+    @Override
+    public int size() {
+        return recordCount;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer id && slots.get(id) >= 0;
+    }
+
+    @Override
+    public T get(Object key) {
+        if (!(key instanceof Integer id)) {
+            return null;
+        }
+        int slot = slots.get(id);
+        return slot < 0 ? null : materialize(slot);
+    }
+
+    @Override
+    public T put(Integer id, T task) {
+        if (task.getType() != storedType) {
+            throw new IllegalArgumentException("Store accepts only " + storedType + ": " + task.getType());
+        }
+        int slot = slots.get(id);
+        T previous = null;
+        if (slot >= 0) {
+            previous = materialize(slot);
+            releaseStrings(slot);
+        } else {
+            slot = recordCount++;
+            ensureRecordCapacity();
+            slots.put(id, slot);
+        }
+        write(slot, id, task);
+        compactIfNeeded();
+        return previous;
+    }
+
+    @Override
+    public T remove(Object key) {
+        if (!(key instanceof Integer id)) {
+            return null;
+        }
+        int slot = slots.remove(id);
+        if (slot < 0) {
+            return null;
+        }
+        T removed = materialize(slot);
+        releaseStrings(slot);
+        int last = --recordCount;
+        if (slot != last) {
+            records.put(slot * RECORD_SIZE, records, last * RECORD_SIZE, RECORD_SIZE);
+            slots.put(records.getInt(slot * RECORD_SIZE + ID), slot);
+        }
+        compactIfNeeded();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        slots.clear();
+        recordCount = 0;
+        records = ByteBuffer.allocateDirect(INITIAL_RECORDS * RECORD_SIZE);
+        strings = new StringArena(INITIAL_RECORDS * 32);
+    }
+
+    long stringBytes() {
+        return strings.usedBytes();
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, T>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void write(int slot, int id, Task task) {
+        int base = slot * RECORD_SIZE;
+        records.putInt(base + ID, id);
+        records.putInt(base + EPIC_ID, task instanceof Subtask subtask ? subtask.getEpicId() : 0);
+        records.putLong(base + START_EPOCH_MINUTE, task.getStartMinute());
+        records.putLong(base + DURATION_MINUTES, task.getDurationMinutes());
+        writeString(base + NAME_OFFSET, base + NAME_LENGTH, task.getName());
+        writeString(base + DESCRIPTION_OFFSET, base + DESCRIPTION_LENGTH, task.getDescription());
+        records.put(base + TYPE, (byte) task.getType().ordinal());
+        records.put(base + STATUS, task.getStatus() == null ? NULL_STATUS : (byte) task.getStatus().ordinal());
+    }
+
+    private void writeString(int offsetField, int lengthField, String value) {
+        if (value == null) {
+            records.putInt(offsetField, 0);
+            records.putInt(lengthField, StringArena.NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        records.putInt(offsetField, strings.append(bytes));
+        records.putInt(lengthField, bytes.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T materialize(int slot) {
+        int base = slot * RECORD_SIZE;
+        int id = records.getInt(base + ID);
+        String name = strings.read(records.getInt(base + NAME_OFFSET), records.getInt(base + NAME_LENGTH));
+        String description = strings.read(records.getInt(base + DESCRIPTION_OFFSET),
+                records.getInt(base + DESCRIPTION_LENGTH));
+        byte status = records.get(base + STATUS);
+        TaskStatus taskStatus = status == NULL_STATUS ? null : STATUSES[status];
+        Task task = storedType == TaskType.SUBTASK
+                ? new Subtask(id, name, description, taskStatus, records.getInt(base + EPIC_ID))
+                : new Task(id, name, description, taskStatus);
+        task.setStartMinute(records.getLong(base + START_EPOCH_MINUTE));
+        task.setDurationMinutes(records.getLong(base + DURATION_MINUTES));
+        task.markAsManaged();
+        return (T) task;
+    }
+
+    private void releaseStrings(int slot) {
+        int base = slot * RECORD_SIZE;
+        strings.release(records.getInt(base + NAME_LENGTH));
+        strings.release(records.getInt(base + DESCRIPTION_LENGTH));
+    }
+
+    private void ensureRecordCapacity() {
+        long required = (long) recordCount * RECORD_SIZE;
+        if (required <= records.capacity()) {
+            return;
+        }
+        long capacity = Math.max(required, (long) records.capacity() * 2);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap record area exceeds 2 GiB");
+        }
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity);
+        grown.put(0, records, 0, (recordCount - 1) * RECORD_SIZE);
+        records = grown;
+    }
+
+    private void compactIfNeeded() {
+        if (strings.garbageBytes() < MIN_COMPACTION_BYTES || strings.garbageBytes() * 2 < strings.usedBytes()) {
+            return;
+        }
+        StringArena compacted = new StringArena((int) (strings.usedBytes() - strings.garbageBytes()));
+        for (int slot = 0; slot < recordCount; slot++) {
+            int base = slot * RECORD_SIZE;
+            moveString(compacted, base + NAME_OFFSET, base + NAME_LENGTH);
+            moveString(compacted, base + DESCRIPTION_OFFSET, base + DESCRIPTION_LENGTH);
+        }
+        strings = compacted;
+    }
+
+    private void moveString(StringArena target, int offsetField, int lengthField) {
+        int length = records.getInt(lengthField);
+        records.putInt(offsetField, strings.copyTo(target, records.getInt(offsetField), length));
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<Integer, T>> {
+        @Override
+        public int size() {
+            return recordCount;
+        }
+
+        @Override
+        public Iterator<Map.Entry<Integer, T>> iterator() {
+            return new Iterator<>() {
+                private int slot = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return slot < recordCount;
+                }
+
+                @Override
+                public Map.Entry<Integer, T> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    T task = materialize(slot++);
+                    return new SimpleImmutableEntry<>(task.getId(), task);
+                }
+            };
+        }
+    }
+}
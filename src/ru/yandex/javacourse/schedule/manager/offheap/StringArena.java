@@ -0,0 +1,72 @@
+package ru.yandex.javacourse.schedule.manager.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class StringArena {
+    static final int NULL_LENGTH = -1;
+
+    private ByteBuffer buffer;
+    private long garbageBytes;
+
+    StringArena(int initialCapacity) {
+        buffer = ByteBuffer.allocateDirect(Math.max(initialCapacity, 64));
+    }
+
+    int append(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        int offset = buffer.position();
+        buffer.put(bytes);
+        return offset;
+    }
+
+    String read(int offset, int length) {
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void release(int length) {
+        if (length > 0) {
+            garbageBytes += length;
+        }
+    }
+
+    int usedBytes() {
+        return buffer.position();
+    }
+
+    long garbageBytes() {
+        return garbageBytes;
+    }
+
+    int copyTo(StringArena target, int offset, int length) {
+        if (length <= 0) {
+            return 0;
+        }
+        target.ensureCapacity(length);
+        int targetOffset = target.buffer.position();
+        target.buffer.put(buffer.slice(offset, length));
+        return targetOffset;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (buffer.remaining() >= additional) {
+            return;
+        }
+        long required = (long) buffer.position() + additional;
+        long capacity = Math.max(required, (long) buffer.capacity() * 2);
+        if (capacity > Integer.MAX_VALUE) {
+            if (required > Integer.MAX_VALUE) {
+                throw new IllegalStateException("String arena exceeds 2 GiB");
+            }
+            capacity = Integer.MAX_VALUE;
+        }
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity);
+        grown.put(buffer.flip());
+        buffer = grown;
+    }
+}
@@ -0,0 +1,230 @@
+package ru.yandex.javacourse.schedule.manager.persistent;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public final class PersistentIntMap<V> implements Iterable<Map.Entry<Integer, V>> {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final Node EMPTY_NODE = new Node(0, new Object[0]);
+    private static final PersistentIntMap<?> EMPTY = new PersistentIntMap<>(EMPTY_NODE, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentIntMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentIntMap<V> empty() {
+        return (PersistentIntMap<V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        Node node = root;
+        for (int shift = 0; ; shift += BITS_PER_LEVEL) {
+            int bit = bitFor(key, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = node.slots[node.index(bit)];
+            if (slot instanceof Leaf<?> leaf) {
+                return leaf.key == key ? (V) leaf.value : null;
+            }
+            node = (Node) slot;
+        }
+    }
+
+    public PersistentIntMap<V> plus(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Persistent map does not store null values");
+        }
+        V previous = get(key);
+        if (previous == value) {
+            return this;
+        }
+        return new PersistentIntMap<>(put(root, new Leaf<>(key, value), 0), previous == null ? size + 1 : size);
+    }
+
+    public PersistentIntMap<V> minus(int key) {
+        if (get(key) == null) {
+            return this;
+        }
+        Node newRoot = remove(root, key, 0);
+        return new PersistentIntMap<>(newRoot == null ? EMPTY_NODE : newRoot, size - 1);
+    }
+
+    @Override
+    public Iterator<Map.Entry<Integer, V>> iterator() {
+        return new EntryIterator<>(root);
+    }
+
+    private static Node put(Node node, Leaf<?> leaf, int shift) {
+        int bit = bitFor(leaf.key, shift);
+        int index = node.index(bit);
+        if ((node.bitmap & bit) == 0) {
+            Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            slots[index] = leaf;
+            System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+            return new Node(node.bitmap | bit, slots);
+        }
+        Object slot = node.slots[index];
+        Object replacement;
+        if (slot instanceof Leaf<?> existing) {
+            replacement = existing.key == leaf.key ? leaf : merge(existing, leaf, shift + BITS_PER_LEVEL);
+        } else {
+            replacement = put((Node) slot, leaf, shift + BITS_PER_LEVEL);
+        }
+        return node.withSlot(index, replacement);
+    }
+
+    private static Node merge(Leaf<?> first, Leaf<?> second, int shift) {
+        int firstBit = bitFor(first.key, shift);
+        int secondBit = bitFor(second.key, shift);
+        if (firstBit == secondBit) {
+            return new Node(firstBit, new Object[]{merge(first, second, shift + BITS_PER_LEVEL)});
+        }
+        Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[]{first, second}
+                : new Object[]{second, first};
+        return new Node(firstBit | secondBit, slots);
+    }
+
+    private static Node remove(Node node, int key, int shift) {
+        int bit = bitFor(key, shift);
+        int index = node.index(bit);
+        Object slot = node.slots[index];
+        if (slot instanceof Leaf<?>) {
+            return node.withoutSlot(bit, index);
+        }
+        Node child = remove((Node) slot, key, shift + BITS_PER_LEVEL);
+        if (child == null) {
+            return node.withoutSlot(bit, index);
+        }
+        if (child.slots.length == 1 && child.slots[0] instanceof Leaf<?>) {
+            return node.withSlot(index, child.slots[0]);
+        }
+        return node.withSlot(index, child);
+    }
+
+    private static int bitFor(int key, int shift) {
+        return 1 << ((key >>> shift) & LEVEL_MASK);
+    }
+
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] slots;
+
+        private Node(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private Node withSlot(int index, Object slot) {
+            Object[] copy = slots.clone();
+            copy[index] = slot;
+            return new Node(bitmap, copy);
+        }
+
+        private Node withoutSlot(int bit, int index) {
+            if (slots.length == 1) {
+                return null;
+            }
+            Object[] copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 1, copy, index, copy.length - index);
+            return new Node(bitmap & ~bit, copy);
+        }
+    }
+
+    private static final class Leaf<V> implements Map.Entry<Integer, V> {
+        private final int key;
+        private final V value;
+
+        private Leaf(int key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public Integer getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException("Persistent map entries are immutable");
+        }
+    }
+
+    private static final class EntryIterator<V> implements Iterator<Map.Entry<Integer, V>> {
+        private static final int MAX_DEPTH = Integer.SIZE / BITS_PER_LEVEL + 1;
+
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Leaf<V> next;
+
+        private EntryIterator(Node root) {
+            nodes[0] = root;
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                if (positions[depth] == node.slots.length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = node.slots[positions[depth]++];
+                if (slot instanceof Leaf<?> leaf) {
+                    next = (Leaf<V>) leaf;
+                    return;
+                }
+                depth++;
+                nodes[depth] = (Node) slot;
+                positions[depth] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<Integer, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Leaf<V> current = next;
+            advance();
+            return current;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ru.yandex.javacourse.schedule.manager.persistent;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+public class PersistentMapStore<V> extends AbstractMap<Integer, V> {
+    private volatile PersistentIntMap<V> current = PersistentIntMap.empty();
+
+    public PersistentIntMap<V> snapshot() {
+        return current;
+    }
+
+    @Override
+    public V get(Object key) {
+        return key instanceof Integer id ? current.get(id) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V put(Integer key, V value) {
+        PersistentIntMap<V> map = current;
+        V previous = map.get(key);
+        current = map.plus(key, value);
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!(key instanceof Integer id)) {
+            return null;
+        }
+        PersistentIntMap<V> map = current;
+        V previous = map.get(id);
+        current = map.minus(id);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        current = PersistentIntMap.empty();
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Integer, V>> iterator() {
+                return current.iterator();
+            }
+
+            @Override
+            public int size() {
+                return current.size();
+            }
+        };
+    }
+}
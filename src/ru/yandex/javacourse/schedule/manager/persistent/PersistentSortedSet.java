@@ -0,0 +1,252 @@
+package ru.yandex.javacourse.schedule.manager.persistent;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class PersistentSortedSet<T> implements Iterable<T> {
+    private final Comparator<? super T> comparator;
+    private final Node<T> root;
+    private final int size;
+
+    private PersistentSortedSet(Comparator<? super T> comparator, Node<T> root, int size) {
+        this.comparator = comparator;
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <T> PersistentSortedSet<T> empty(Comparator<? super T> comparator) {
+        return new PersistentSortedSet<>(comparator, null, 0);
+    }
+
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public PersistentSortedSet<T> plus(T value) {
+        Node<T> newRoot = insert(root, value);
+        return newRoot == root ? this : new PersistentSortedSet<>(comparator, newRoot, size + 1);
+    }
+
+    public PersistentSortedSet<T> minus(T value) {
+        Node<T> newRoot = delete(root, value);
+        return newRoot == root ? this : new PersistentSortedSet<>(comparator, newRoot, size - 1);
+    }
+
+    public boolean contains(T value) {
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(value, node.value);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    public T first() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        return leftmost(root).value;
+    }
+
+    public T last() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        Node<T> node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.value;
+    }
+
+    public T lower(T value) {
+        return nearest(value, false, false);
+    }
+
+    public T floor(T value) {
+        return nearest(value, false, true);
+    }
+
+    public T ceiling(T value) {
+        return nearest(value, true, true);
+    }
+
+    public T higher(T value) {
+        return nearest(value, true, false);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    Iterator<T> iterator(T from, boolean inclusive) {
+        InOrderIterator<T> iterator = new InOrderIterator<>(null);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(node.value, from);
+            if (comparison > 0 || (comparison == 0 && inclusive)) {
+                iterator.path[iterator.depth++] = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return iterator;
+    }
+
+    private T nearest(T value, boolean above, boolean inclusive) {
+        T candidate = null;
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(value, node.value);
+            if (comparison == 0 && inclusive) {
+                return node.value;
+            }
+            if (above ? comparison < 0 : comparison > 0) {
+                candidate = node.value;
+                node = above ? node.left : node.right;
+            } else {
+                node = above ? node.right : node.left;
+            }
+        }
+        return candidate;
+    }
+
+    private Node<T> insert(Node<T> node, T value) {
+        if (node == null) {
+            return new Node<>(value, null, null);
+        }
+        int comparison = comparator.compare(value, node.value);
+        if (comparison < 0) {
+            Node<T> left = insert(node.left, value);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        }
+        if (comparison > 0) {
+            Node<T> right = insert(node.right, value);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+        return node;
+    }
+
+    private Node<T> delete(Node<T> node, T value) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = comparator.compare(value, node.value);
+        if (comparison < 0) {
+            Node<T> left = delete(node.left, value);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        }
+        if (comparison > 0) {
+            Node<T> right = delete(node.right, value);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        return balance(leftmost(node.right).value, node.left, deleteLeftmost(node.right));
+    }
+
+    private Node<T> deleteLeftmost(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.value, deleteLeftmost(node.left), node.right);
+    }
+
+    private static <T> Node<T> leftmost(Node<T> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value,
+                    new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value,
+                    new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private static final int MAX_HEIGHT = 64;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private final Node<T>[] path = new Node[MAX_HEIGHT];
+        private int depth;
+
+        private InOrderIterator(Node<T> root) {
+            pushLeft(root);
+        }
+
+        private void pushLeft(Node<T> node) {
+            for (; node != null; node = node.left) {
+                path[depth++] = node;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public T next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path[--depth];
+            pushLeft(node.right);
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package ru.yandex.javacourse.schedule.manager.persistent;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.SortedSet;
+
+public class PersistentSortedSetStore<T> extends AbstractSet<T> implements NavigableSet<T> {
+    private volatile PersistentSortedSet<T> current;
+
+    public PersistentSortedSetStore(Comparator<? super T> comparator) {
+        this.current = PersistentSortedSet.empty(comparator);
+    }
+
+    public PersistentSortedSet<T> snapshot() {
+        return current;
+    }
+
+    @Override
+    public boolean add(T value) {
+        PersistentSortedSet<T> set = current;
+        current = set.plus(value);
+        return current != set;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object value) {
+        PersistentSortedSet<T> set = current;
+        current = set.minus((T) value);
+        return current != set;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object value) {
+        return current.contains((T) value);
+    }
+
+    @Override
+    public void clear() {
+        current = PersistentSortedSet.empty(current.comparator());
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return current.iterator();
+    }
+
+    @Override
+    public Comparator<? super T> comparator() {
+        return current.comparator();
+    }
+
+    @Override
+    public T first() {
+        return current.first();
+    }
+
+    @Override
+    public T last() {
+        return current.last();
+    }
+
+    @Override
+    public T lower(T value) {
+        return current.lower(value);
+    }
+
+    @Override
+    public T floor(T value) {
+        return current.floor(value);
+    }
+
+    @Override
+    public T ceiling(T value) {
+        return current.ceiling(value);
+    }
+
+    @Override
+    public T higher(T value) {
+        return current.higher(value);
+    }
+
+    @Override
+    public T pollFirst() {
+        if (current.isEmpty()) {
+            return null;
+        }
+        T first = current.first();
+        current = current.minus(first);
+        return first;
+    }
+
+    @Override
+    public T pollLast() {
+        if (current.isEmpty()) {
+            return null;
+        }
+        T last = current.last();
+        current = current.minus(last);
+        return last;
+    }
+
+    @Override
+    public NavigableSet<T> descendingSet() {
+        return PersistentSortedSetView.of(current, true);
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        return descendingSet().iterator();
+    }
+
+    @Override
+    public NavigableSet<T> subSet(T fromElement, boolean fromInclusive, T toElement, boolean toInclusive) {
+        return PersistentSortedSetView.of(current, false).subSet(fromElement, fromInclusive, toElement, toInclusive);
+    }
+
+    @Override
+    public NavigableSet<T> headSet(T toElement, boolean inclusive) {
+        return PersistentSortedSetView.of(current, false).headSet(toElement, inclusive);
+    }
+
+    @Override
+    public NavigableSet<T> tailSet(T fromElement, boolean inclusive) {
+        return PersistentSortedSetView.of(current, false).tailSet(fromElement, inclusive);
+    }
+
+    @Override
+    public SortedSet<T> subSet(T fromElement, T toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public SortedSet<T> headSet(T toElement) {
+        return headSet(toElement, false);
+    }
+
+    @Override
+    public SortedSet<T> tailSet(T fromElement) {
+        return tailSet(fromElement, true);
+    }
+}
@@ -0,0 +1,291 @@
+package ru.yandex.javacourse.schedule.manager.persistent;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+final class PersistentSortedSetView<T> extends AbstractSet<T> implements NavigableSet<T> {
+    private final PersistentSortedSet<T> set;
+    private final boolean hasLow;
+    private final T low;
+    private final boolean lowInclusive;
+    private final boolean hasHigh;
+    private final T high;
+    private final boolean highInclusive;
+    private final boolean descending;
+
+    private PersistentSortedSetView(PersistentSortedSet<T> set, boolean hasLow, T low, boolean lowInclusive,
+                                    boolean hasHigh, T high, boolean highInclusive, boolean descending) {
+        this.set = set;
+        this.hasLow = hasLow;
+        this.low = low;
+        this.lowInclusive = lowInclusive;
+        this.hasHigh = hasHigh;
+        this.high = high;
+        this.highInclusive = highInclusive;
+        this.descending = descending;
+    }
+
+    static <T> NavigableSet<T> of(PersistentSortedSet<T> set, boolean descending) {
+        return new PersistentSortedSetView<>(set, false, null, false, false, null, false, descending);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Iterator<T> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lowest() == null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object value) {
+        T element = (T) value;
+        return !tooLow(element) && !tooHigh(element) && set.contains(element);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return descending ? descendingSteps() : ascending();
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        return descending ? ascending() : descendingSteps();
+    }
+
+    @Override
+    public Comparator<? super T> comparator() {
+        return descending ? Collections.reverseOrder(set.comparator()) : set.comparator();
+    }
+
+    @Override
+    public T first() {
+        return orThrow(descending ? highest() : lowest());
+    }
+
+    @Override
+    public T last() {
+        return orThrow(descending ? lowest() : highest());
+    }
+
+    @Override
+    public T lower(T value) {
+        return descending ? above(value, false) : below(value, false);
+    }
+
+    @Override
+    public T floor(T value) {
+        return descending ? above(value, true) : below(value, true);
+    }
+
+    @Override
+    public T ceiling(T value) {
+        return descending ? below(value, true) : above(value, true);
+    }
+
+    @Override
+    public T higher(T value) {
+        return descending ? below(value, false) : above(value, false);
+    }
+
+    @Override
+    public T pollFirst() {
+        throw new UnsupportedOperationException("Range views are read-only");
+    }
+
+    @Override
+    public T pollLast() {
+        throw new UnsupportedOperationException("Range views are read-only");
+    }
+
+    @Override
+    public NavigableSet<T> descendingSet() {
+        return new PersistentSortedSetView<>(set, hasLow, low, lowInclusive, hasHigh, high, highInclusive, !descending);
+    }
+
+    @Override
+    public NavigableSet<T> subSet(T fromElement, boolean fromInclusive, T toElement, boolean toInclusive) {
+        if (descending) {
+            return range(toElement, toInclusive, fromElement, fromInclusive);
+        }
+        return range(fromElement, fromInclusive, toElement, toInclusive);
+    }
+
+    @Override
+    public NavigableSet<T> headSet(T toElement, boolean inclusive) {
+        return descending ? tail(toElement, inclusive) : head(toElement, inclusive);
+    }
+
+    @Override
+    public NavigableSet<T> tailSet(T fromElement, boolean inclusive) {
+        return descending ? head(fromElement, inclusive) : tail(fromElement, inclusive);
+    }
+
+    @Override
+    public SortedSet<T> subSet(T fromElement, T toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public SortedSet<T> headSet(T toElement) {
+        return headSet(toElement, false);
+    }
+
+    @Override
+    public SortedSet<T> tailSet(T fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    private NavigableSet<T> range(T from, boolean fromInclusive, T to, boolean toInclusive) {
+        if (set.comparator().compare(from, to) > 0) {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        ensureInRange(from);
+        ensureInRange(to);
+        return new PersistentSortedSetView<>(set, true, from, fromInclusive && !excludedLow(from),
+                true, to, toInclusive && !excludedHigh(to), descending);
+    }
+
+    private NavigableSet<T> head(T to, boolean inclusive) {
+        ensureInRange(to);
+        return new PersistentSortedSetView<>(set, hasLow, low, lowInclusive,
+                true, to, inclusive && !excludedHigh(to), descending);
+    }
+
+    private NavigableSet<T> tail(T from, boolean inclusive) {
+        ensureInRange(from);
+        return new PersistentSortedSetView<>(set, true, from, inclusive && !excludedLow(from),
+                hasHigh, high, highInclusive, descending);
+    }
+
+    private void ensureInRange(T value) {
+        if ((hasLow && set.comparator().compare(value, low) < 0)
+                || (hasHigh && set.comparator().compare(value, high) > 0)) {
+            throw new IllegalArgumentException("Element out of range: " + value);
+        }
+    }
+
+    private boolean excludedLow(T value) {
+        return hasLow && !lowInclusive && set.comparator().compare(value, low) == 0;
+    }
+
+    private boolean excludedHigh(T value) {
+        return hasHigh && !highInclusive && set.comparator().compare(value, high) == 0;
+    }
+
+    private boolean tooLow(T value) {
+        if (!hasLow) {
+            return false;
+        }
+        int comparison = set.comparator().compare(value, low);
+        return comparison < 0 || (comparison == 0 && !lowInclusive);
+    }
+
+    private boolean tooHigh(T value) {
+        if (!hasHigh) {
+            return false;
+        }
+        int comparison = set.comparator().compare(value, high);
+        return comparison > 0 || (comparison == 0 && !highInclusive);
+    }
+
+    private T lowest() {
+        T value;
+        if (hasLow) {
+            value = lowInclusive ? set.ceiling(low) : set.higher(low);
+        } else {
+            value = set.isEmpty() ? null : set.first();
+        }
+        return value == null || tooHigh(value) ? null : value;
+    }
+
+    private T highest() {
+        T value;
+        if (hasHigh) {
+            value = highInclusive ? set.floor(high) : set.lower(high);
+        } else {
+            value = set.isEmpty() ? null : set.last();
+        }
+        return value == null || tooLow(value) ? null : value;
+    }
+
+    private T above(T value, boolean inclusive) {
+        if (tooLow(value)) {
+            return lowest();
+        }
+        T result = inclusive ? set.ceiling(value) : set.higher(value);
+        return result == null || tooHigh(result) ? null : result;
+    }
+
+    private T below(T value, boolean inclusive) {
+        if (tooHigh(value)) {
+            return highest();
+        }
+        T result = inclusive ? set.floor(value) : set.lower(value);
+        return result == null || tooLow(result) ? null : result;
+    }
+
+    private Iterator<T> ascending() {
+        Iterator<T> tree = hasLow ? set.iterator(low, lowInclusive) : set.iterator();
+        return new Iterator<>() {
+            private T next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                T value = orThrow(next);
+                next = advance();
+                return value;
+            }
+
+            private T advance() {
+                if (!tree.hasNext()) {
+                    return null;
+                }
+                T value = tree.next();
+                return tooHigh(value) ? null : value;
+            }
+        };
+    }
+
+    private Iterator<T> descendingSteps() {
+        return new Iterator<>() {
+            private T next = highest();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                T value = orThrow(next);
+                next = below(value, false);
+                return value;
+            }
+        };
+    }
+
+    private static <T> T orThrow(T value) {
+        if (value == null) {
+            throw new NoSuchElementException();
+        }
+        return value;
+    }
+}
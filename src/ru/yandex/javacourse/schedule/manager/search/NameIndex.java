@@ -0,0 +1,183 @@
+package ru.yandex.javacourse.schedule.manager.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+
+public class NameIndex {
+    private static final int MIN_PENDING_CAPACITY = 1024;
+    private static final int PENDING_RATIO_SHIFT = 4;
+
+    private String[] keys = new String[0];
+    private int[] ids = new int[0];
+    private final BitSet removed = new BitSet();
+    private int removedCount;
+    private final NavigableSet<Entry> pending = new TreeSet<>();
+
+    private record Entry(String key, int id) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int comparison = key.compareTo(other.key);
+            return comparison != 0 ? comparison : Integer.compare(id, other.id);
+        }
+    }
+
+    public void add(int id, String name) {
+        if (name == null) {
+            return;
+        }
+        String key = normalize(name);
+        int index = find(key, id);
+        if (index >= 0) {
+            if (removed.get(index)) {
+                removed.clear(index);
+                removedCount--;
+            }
+            return;
+        }
+        pending.add(new Entry(key, id));
+        mergeIfNeeded();
+    }
+
+    public void remove(int id, String name) {
+        if (name == null) {
+            return;
+        }
+        String key = normalize(name);
+        if (pending.remove(new Entry(key, id))) {
+            return;
+        }
+        int index = find(key, id);
+        if (index >= 0 && !removed.get(index)) {
+            removed.set(index);
+            removedCount++;
+            mergeIfNeeded();
+        }
+    }
+
+    public void removeIf(IntPredicate idFilter) {
+        pending.removeIf(entry -> idFilter.test(entry.id()));
+        for (int i = 0; i < ids.length; i++) {
+            if (!removed.get(i) && idFilter.test(ids[i])) {
+                removed.set(i);
+                removedCount++;
+            }
+        }
+        merge();
+    }
+
+    public void clear() {
+        keys = new String[0];
+        ids = new int[0];
+        removed.clear();
+        removedCount = 0;
+        pending.clear();
+    }
+
+    public int size() {
+        return ids.length - removedCount + pending.size();
+    }
+
+    public int[] suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        int[] result = new int[Math.min(limit, size())];
+        int count = 0;
+        int index = -find(key, Integer.MIN_VALUE) - 1;
+        Iterator<Entry> pendingMatches = pending.tailSet(new Entry(key, Integer.MIN_VALUE), true).iterator();
+        Entry nextPending = nextMatch(pendingMatches, key);
+        while (count < result.length) {
+            while (index < keys.length && removed.get(index)) {
+                index++;
+            }
+            boolean mainMatches = index < keys.length && keys[index].startsWith(key);
+            if (!mainMatches && nextPending == null) {
+                break;
+            }
+            if (mainMatches && (nextPending == null || compare(index, nextPending) < 0)) {
+                result[count++] = ids[index++];
+            } else {
+                result[count++] = nextPending.id();
+                nextPending = nextMatch(pendingMatches, key);
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private Entry nextMatch(Iterator<Entry> entries, String key) {
+        if (!entries.hasNext()) {
+            return null;
+        }
+        Entry entry = entries.next();
+        return entry.key().startsWith(key) ? entry : null;
+    }
+
+    private int compare(int index, Entry entry) {
+        int comparison = keys[index].compareTo(entry.key());
+        return comparison != 0 ? comparison : Integer.compare(ids[index], entry.id());
+    }
+
+    private void mergeIfNeeded() {
+        int threshold = Math.max(MIN_PENDING_CAPACITY, ids.length >>> PENDING_RATIO_SHIFT);
+        if (pending.size() > threshold || removedCount > threshold) {
+            merge();
+        }
+    }
+
+    private void merge() {
+        int mergedSize = size();
+        String[] mergedKeys = new String[mergedSize];
+        int[] mergedIds = new int[mergedSize];
+        int count = 0;
+        int index = 0;
+        for (Entry entry : pending) {
+            while (index < keys.length && compare(index, entry) < 0) {
+                if (!removed.get(index)) {
+                    mergedKeys[count] = keys[index];
+                    mergedIds[count++] = ids[index];
+                }
+                index++;
+            }
+            mergedKeys[count] = entry.key();
+            mergedIds[count++] = entry.id();
+        }
+        for (; index < keys.length; index++) {
+            if (!removed.get(index)) {
+                mergedKeys[count] = keys[index];
+                mergedIds[count++] = ids[index];
+            }
+        }
+        keys = mergedKeys;
+        ids = mergedIds;
+        removed.clear();
+        removedCount = 0;
+        pending.clear();
+    }
+
+    private int find(String key, int id) {
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = keys[middle].compareTo(key);
+            if (comparison == 0) {
+                comparison = Integer.compare(ids[middle], id);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    public static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+}
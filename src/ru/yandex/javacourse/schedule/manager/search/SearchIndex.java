@@ -0,0 +1,148 @@
+package ru.yandex.javacourse.schedule.manager.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+public class SearchIndex {
+    private static final int[] NO_IDS = new int[0];
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<Integer, String[]> documentTerms = new HashMap<>();
+
+    public void index(int id, String... texts) {
+        remove(id);
+        String[] terms = Tokenizer.distinctTerms(texts);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> new PostingList()).add(id);
+        }
+        documentTerms.put(id, terms);
+    }
+
+    public void remove(int id) {
+        String[] terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+            postingList.remove(id);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        documentTerms.clear();
+    }
+
+    public int size() {
+        return documentTerms.size();
+    }
+
+    public int[] search(SearchQuery query, int limit) {
+        Map<SearchQuery.Term, int[]> termIds = new LinkedHashMap<>();
+        int[] matches = NO_IDS;
+        for (List<SearchQuery.Term> clause : query.clauses()) {
+            int[] clauseIds = null;
+            for (SearchQuery.Term term : clause) {
+                int[] ids = termIds.computeIfAbsent(term, this::idsFor);
+                clauseIds = clauseIds == null ? ids : intersect(clauseIds, ids);
+            }
+            matches = union(matches, clauseIds);
+        }
+        return topK(matches, termIds.values(), limit);
+    }
+
+    private int[] idsFor(SearchQuery.Term term) {
+        if (!term.prefix()) {
+            PostingList postingList = postings.get(term.text());
+            return postingList == null ? NO_IDS : postingList.toArray();
+        }
+        int[] ids = NO_IDS;
+        for (PostingList postingList : postings.subMap(term.text(), true, term.text() + MAX_CHAR, false).values()) {
+            ids = union(ids, postingList.toArray());
+        }
+        return ids;
+    }
+
+    private int[] topK(int[] candidates, Iterable<int[]> termIds, int limit) {
+        Comparator<int[]> worstFirst = Comparator.<int[]>comparingInt(entry -> entry[1])
+                .thenComparing(entry -> -entry[0]);
+        PriorityQueue<int[]> best = new PriorityQueue<>(worstFirst);
+        for (int id : candidates) {
+            int score = 0;
+            for (int[] ids : termIds) {
+                if (Arrays.binarySearch(ids, id) >= 0) {
+                    score++;
+                }
+            }
+            best.add(new int[]{id, score});
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        int[] result = new int[best.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = best.poll()[0];
+        }
+        return result;
+    }
+
+    static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int size = 0;
+        for (int i = 0, j = 0; i < first.length && j < second.length; ) {
+            if (first[i] == second[j]) {
+                result[size++] = first[i];
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    static int[] union(int[] first, int[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+        if (second.length == 0) {
+            return first;
+        }
+        int[] result = new int[first.length + second.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] == second[j]) {
+                result[size++] = first[i];
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                result[size++] = first[i++];
+            } else {
+                result[size++] = second[j++];
+            }
+        }
+        while (i < first.length) {
+            result[size++] = first[i++];
+        }
+        while (j < second.length) {
+            result[size++] = second[j++];
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
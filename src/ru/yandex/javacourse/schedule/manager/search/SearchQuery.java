@@ -0,0 +1,63 @@
+package ru.yandex.javacourse.schedule.manager.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public record SearchQuery(List<List<Term>> clauses) {
+    private static final String OR_OPERATOR = "OR";
+    private static final String AND_OPERATOR = "AND";
+    private static final String PREFIX_MARKER = "*";
+
+    public record Term(String text, boolean prefix) {
+    }
+
+    public static SearchQuery parse(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        List<List<Term>> clauses = new ArrayList<>();
+        List<Term> clause = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (word.equals(OR_OPERATOR)) {
+                addClause(clauses, clause);
+                clause = new ArrayList<>();
+                continue;
+            }
+            if (word.equals(AND_OPERATOR)) {
+                continue;
+            }
+            boolean prefix = word.endsWith(PREFIX_MARKER);
+            List<String> tokens = Tokenizer.tokenize(word);
+            for (int i = 0; i < tokens.size(); i++) {
+                clause.add(new Term(tokens.get(i), prefix && i == tokens.size() - 1));
+            }
+        }
+        addClause(clauses, clause);
+        if (clauses.isEmpty()) {
+            throw new IllegalArgumentException("Search query has no searchable words: " + query);
+        }
+        return new SearchQuery(clauses);
+    }
+
+    public int score(String... texts) {
+        Set<String> documentTerms = Set.of(Tokenizer.distinctTerms(texts));
+        Set<Term> queryTerms = new LinkedHashSet<>();
+        clauses.forEach(queryTerms::addAll);
+        int score = 0;
+        for (Term term : queryTerms) {
+            if (term.prefix() ? documentTerms.stream().anyMatch(text -> text.startsWith(term.text()))
+                    : documentTerms.contains(term.text())) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    private static void addClause(List<List<Term>> clauses, List<Term> clause) {
+        if (!clause.isEmpty()) {
+            clauses.add(List.copyOf(clause));
+        }
+    }
+}
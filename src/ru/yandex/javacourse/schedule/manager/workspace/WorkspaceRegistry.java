@@ -0,0 +1,171 @@
+package ru.yandex.javacourse.schedule.manager.workspace;
+
+import ru.yandex.javacourse.schedule.exceptions.ManagerSaveException;
+import ru.yandex.javacourse.schedule.manager.Managers;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public class WorkspaceRegistry {
+    public static final String DEFAULT_WORKSPACE = "default";
+    public static final long BASE_FOOTPRINT_BYTES = 128 * 1024;
+    public static final long HEAP_BYTES_PER_FILE_BYTE = 8;
+    private static final Pattern WORKSPACE_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String FILE_SUFFIX = ".csv";
+
+    private final Path directory;
+    private final long memoryBudgetBytes;
+    private final Function<Path, TaskManager> loader;
+    private final Map<String, Workspace> loaded = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong loads = new AtomicLong();
+    private long loadedBytes = 0;
+    private long evictions = 0;
+
+    private final class Workspace {
+        private final String id;
+        private final Path file;
+        private volatile TaskManager manager;
+        private int pins;
+        private long estimatedBytes;
+
+        private Workspace(String id) {
+            this.id = id;
+            this.file = directory.resolve(id + FILE_SUFFIX);
+        }
+
+        private synchronized TaskManager load() {
+            if (manager == null) {
+                manager = loader.apply(file);
+                loads.incrementAndGet();
+            }
+            return manager;
+        }
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final Workspace workspace;
+        private final TaskManager taskManager;
+        private boolean released;
+
+        private Lease(Workspace workspace, TaskManager taskManager) {
+            this.workspace = workspace;
+            this.taskManager = taskManager;
+        }
+
+        public TaskManager taskManager() {
+            return taskManager;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(workspace);
+            }
+        }
+    }
+
+    public WorkspaceRegistry(Path directory, long memoryBudgetBytes) {
+        this(directory, memoryBudgetBytes, Managers::getFileBacked);
+    }
+
+    public WorkspaceRegistry(Path directory, long memoryBudgetBytes, Function<Path, TaskManager> loader) {
+        if (memoryBudgetBytes < 0) {
+            throw new IllegalArgumentException("Memory budget must not be negative: " + memoryBudgetBytes);
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new ManagerSaveException("Error due initialization directory: " + directory.getFileName(), e);
+        }
+        this.directory = directory;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.loader = loader;
+    }
+
+    public static boolean isValidId(String workspaceId) {
+        return workspaceId != null && WORKSPACE_ID.matcher(workspaceId).matches();
+    }
+
+    public Lease acquire(String workspaceId) {
+        if (!isValidId(workspaceId)) {
+            throw new IllegalArgumentException("Invalid workspace id: " + workspaceId);
+        }
+        Workspace workspace;
+        synchronized (this) {
+            workspace = loaded.computeIfAbsent(workspaceId, Workspace::new);
+            workspace.pins++;
+        }
+        TaskManager manager;
+        try {
+            manager = workspace.load();
+        } catch (RuntimeException exception) {
+            synchronized (this) {
+                workspace.pins--;
+                if (workspace.manager == null && workspace.pins == 0) {
+                    loaded.remove(workspaceId, workspace);
+                }
+            }
+            throw exception;
+        }
+        return new Lease(workspace, manager);
+    }
+
+    public synchronized int loadedCount() {
+        return loaded.size();
+    }
+
+    public synchronized long loadedBytes() {
+        return loadedBytes;
+    }
+
+    public long loadCount() {
+        return loads.get();
+    }
+
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    public synchronized boolean isLoaded(String workspaceId) {
+        return loaded.containsKey(workspaceId);
+    }
+
+    private synchronized void release(Workspace workspace) {
+        workspace.pins--;
+        long estimate = estimateBytes(workspace.file);
+        if (loaded.get(workspace.id) == workspace) {
+            loadedBytes += estimate - workspace.estimatedBytes;
+            workspace.estimatedBytes = estimate;
+        }
+        evictOverBudget();
+    }
+
+    private void evictOverBudget() {
+        Iterator<Workspace> leastRecentlyUsed = loaded.values().iterator();
+        while (loadedBytes > memoryBudgetBytes && leastRecentlyUsed.hasNext()) {
+            Workspace candidate = leastRecentlyUsed.next();
+            if (candidate.pins == 0 && candidate.manager != null) {
+                leastRecentlyUsed.remove();
+                loadedBytes -= candidate.estimatedBytes;
+                evictions++;
+            }
+        }
+    }
+
+    private static long estimateBytes(Path file) {
+        try {
+            return BASE_FOOTPRINT_BYTES + Files.size(file) * HEAP_BYTES_PER_FILE_BYTE;
+        } catch (IOException exception) {
+            return BASE_FOOTPRINT_BYTES;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package ru.yandex.javacourse.schedule.manager.workspace;
+
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventBus;
+import ru.yandex.javacourse.schedule.metrics.MetricsRegistry;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class WorkspaceTaskManager implements TaskManager {
+    private final WorkspaceRegistry registry;
+    private final ThreadLocal<TaskManager> current = new InheritableThreadLocal<>();
+
+    public final class Scope implements AutoCloseable {
+        private final WorkspaceRegistry.Lease ownedLease;
+        private final TaskManager previous;
+
+        private Scope(TaskManager manager, WorkspaceRegistry.Lease ownedLease) {
+            this.ownedLease = ownedLease;
+            this.previous = current.get();
+            current.set(manager);
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+            if (ownedLease != null) {
+                ownedLease.close();
+            }
+        }
+    }
+
+    public WorkspaceTaskManager(WorkspaceRegistry registry) {
+        this.registry = registry;
+    }
+
+    public WorkspaceRegistry getRegistry() {
+        return registry;
+    }
+
+    public Scope open(String workspaceId) {
+        WorkspaceRegistry.Lease lease = registry.acquire(workspaceId);
+        return new Scope(lease.taskManager(), lease);
+    }
+
+    public Scope bind(WorkspaceRegistry.Lease lease) {
+        return new Scope(lease.taskManager(), null);
+    }
+
+    private TaskManager workspace() {
+        TaskManager manager = current.get();
+        if (manager == null) {
+            throw new IllegalStateException("No workspace is bound to the current thread");
+        }
+        return manager;
+    }
+
+    @Override
+    public List<Task> getTasks() {
+        return workspace().getTasks();
+    }
+
+    @Override
+    public List<Task> getPrioritizedTasks() {
+        return workspace().getPrioritizedTasks();
+    }
+
+    @Override
+    public List<Subtask> getSubtasks() {
+        return workspace().getSubtasks();
+    }
+
+    @Override
+    public List<Epic> getEpics() {
+        return workspace().getEpics();
+    }
+
+    @Override
+    public List<Subtask> getEpicSubtasks(int epicId) {
+        return workspace().getEpicSubtasks(epicId);
+    }
+
+    @Override
+    public List<Task> getTasksByStatus(TaskStatus status) {
+        return workspace().getTasksByStatus(status);
+    }
+
+    @Override
+    public List<Subtask> getSubtasksByStatus(TaskStatus status) {
+        return workspace().getSubtasksByStatus(status);
+    }
+
+    @Override
+    public List<Epic> getEpicsByStatus(TaskStatus status) {
+        return workspace().getEpicsByStatus(status);
+    }
+
+    @Override
+    public List<Subtask> getEpicSubtasksByStatus(int epicId, TaskStatus status) {
+        return workspace().getEpicSubtasksByStatus(epicId, status);
+    }
+
+    @Override
+    public List<Task> search(String query, int limit) {
+        return workspace().search(query, limit);
+    }
+
+    @Override
+    public List<Task> suggest(String prefix, int limit) {
+        return workspace().suggest(prefix, limit);
+    }
+
+    @Override
+    public Task getTask(int id) {
+        return workspace().getTask(id);
+    }
+
+    @Override
+    public Subtask getSubtask(int id) {
+        return workspace().getSubtask(id);
+    }
+
+    @Override
+    public Epic getEpic(int id) {
+        return workspace().getEpic(id);
+    }
+
+    @Override
+    public int addNewTask(Task task) {
+        return workspace().addNewTask(task);
+    }
+
+    @Override
+    public int addNewEpic(Epic epic) {
+        return workspace().addNewEpic(epic);
+    }
+
+    @Override
+    public Integer addNewSubtask(Subtask subtask) {
+        return workspace().addNewSubtask(subtask);
+    }
+
+    @Override
+    public List<Integer> addNewTasks(Collection<Task> tasks) {
+        return workspace().addNewTasks(tasks);
+    }
+
+    @Override
+    public List<Integer> addNewEpics(Collection<Epic> epics) {
+        return workspace().addNewEpics(epics);
+    }
+
+    @Override
+    public List<Integer> addNewSubtasks(Collection<Subtask> subtasks) {
+        return workspace().addNewSubtasks(subtasks);
+    }
+
+    @Override
+    public void updateTask(Task task) {
+        workspace().updateTask(task);
+    }
+
+    @Override
+    public void updateEpic(Epic epic) {
+        workspace().updateEpic(epic);
+    }
+
+    @Override
+    public void updateSubtask(Subtask subtask) {
+        workspace().updateSubtask(subtask);
+    }
+
+    @Override
+    public void deleteTask(int id) {
+        workspace().deleteTask(id);
+    }
+
+    @Override
+    public void deleteEpic(int id) {
+        workspace().deleteEpic(id);
+    }
+
+    @Override
+    public void deleteSubtask(int id) {
+        workspace().deleteSubtask(id);
+    }
+
+    @Override
+    public void deleteTasks() {
+        workspace().deleteTasks();
+    }
+
+    @Override
+    public void deleteSubtasks() {
+        workspace().deleteSubtasks();
+    }
+
+    @Override
+    public void deleteEpics() {
+        workspace().deleteEpics();
+    }
+
+    @Override
+    public List<Task> getHistory() {
+        return workspace().getHistory();
+    }
+
+    @Override
+    public <T> T executeBatch(Supplier<T> batch) {
+        return workspace().executeBatch(batch);
+    }
+
+    @Override
+    public TaskEventBus getEventBus() {
+        return workspace().getEventBus();
+    }
+
+    @Override
+    public ChangeSet getChangesSince(ChangeVersion version) {
+        return workspace().getChangesSince(version);
+    }
+
+    @Override
+    public void bindMetrics(MetricsRegistry metricsRegistry) {
+        metricsRegistry.registerGauge("kanban_workspaces_loaded", "Number of workspaces held in memory.",
+                registry::loadedCount);
+        metricsRegistry.registerGauge("kanban_workspaces_loaded_bytes", "Estimated heap held by loaded workspaces.",
+                registry::loadedBytes);
+        metricsRegistry.registerGauge("kanban_workspace_loads_total", "Workspaces loaded from storage.",
+                registry::loadCount);
+        metricsRegistry.registerGauge("kanban_workspace_evictions_total", "Workspaces unloaded by the LRU policy.",
+                registry::evictionCount);
+    }
+}
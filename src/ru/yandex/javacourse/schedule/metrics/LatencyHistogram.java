@@ -0,0 +1,94 @@
+package ru.yandex.javacourse.schedule.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 42;
+    private static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    private static final long MAX_TRACKABLE_VALUE = (1L << (MAX_MAGNITUDE + 1)) - 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    public void record(long valueNanos) {
+        long value = Math.min(Math.max(valueNanos, 0), MAX_TRACKABLE_VALUE);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = snapshot();
+        long total = 0;
+        for (long bucket : snapshot) {
+            total += bucket;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return MAX_TRACKABLE_VALUE;
+    }
+
+    public long countAtOrBelow(long valueNanos) {
+        if (valueNanos < 0) {
+            return 0;
+        }
+        int lastIndex = indexOf(Math.min(valueNanos, MAX_TRACKABLE_VALUE));
+        if (upperBoundOf(lastIndex) > valueNanos) {
+            lastIndex--;
+        }
+        long result = 0;
+        for (int i = 0; i <= lastIndex; i++) {
+            result += buckets.get(i);
+        }
+        return result;
+    }
+
+    private long[] snapshot() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+        }
+        return snapshot;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        long lowerBound = (1L << magnitude) + ((long) subBucket << shift);
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,104 @@
+package ru.yandex.javacourse.schedule.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class MetricsRegistry {
+    private static final String REQUESTS_TOTAL = "kanban_http_requests_total";
+    private static final String REQUEST_DURATION = "kanban_http_request_duration_seconds";
+    private static final int FIRST_BUCKET_MAGNITUDE = 10;
+    private static final int LAST_BUCKET_MAGNITUDE = 36;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ConcurrentMap<RouteKey, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final Map<String, NamedHistogram> histograms = new ConcurrentHashMap<>();
+
+    private record RouteKey(String context, String route) {
+    }
+
+    private record Gauge(String help, LongSupplier value) {
+    }
+
+    private record NamedHistogram(String help, LatencyHistogram histogram) {
+    }
+
+    private static final class RouteMetrics {
+        private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private void record(int status, long durationNanos) {
+            LongAdder counter = statusCounts.get(status);
+            if (counter == null) {
+                counter = statusCounts.computeIfAbsent(status, key -> new LongAdder());
+            }
+            counter.increment();
+            latency.record(durationNanos);
+        }
+    }
+
+    public void recordRequest(String context, String route, int status, long durationNanos) {
+        RouteKey key = new RouteKey(context, route);
+        RouteMetrics metrics = routes.get(key);
+        if (metrics == null) {
+            metrics = routes.computeIfAbsent(key, ignored -> new RouteMetrics());
+        }
+        metrics.record(status, durationNanos);
+    }
+
+    public void registerGauge(String name, String help, LongSupplier value) {
+        gauges.put(name, new Gauge(help, value));
+    }
+
+    public void registerHistogram(String name, String help, LatencyHistogram histogram) {
+        histograms.put(name, new NamedHistogram(help, histogram));
+    }
+
+    public String scrape() {
+        StringBuilder builder = new StringBuilder();
+        writeHeader(builder, REQUESTS_TOTAL, "Total HTTP requests by route and status.", "counter");
+        routes.forEach((key, metrics) -> metrics.statusCounts.forEach((status, counter) ->
+                builder.append(REQUESTS_TOTAL)
+                        .append("{context=\"").append(key.context())
+                        .append("\",route=\"").append(key.route())
+                        .append("\",status=\"").append(status)
+                        .append("\"} ").append(counter.sum()).append('\n')));
+        writeHeader(builder, REQUEST_DURATION, "HTTP request latency by route.", "histogram");
+        routes.forEach((key, metrics) -> writeHistogram(builder, REQUEST_DURATION,
+                "context=\"" + key.context() + "\",route=\"" + key.route() + "\"", metrics.latency));
+        histograms.forEach((name, histogram) -> {
+            writeHeader(builder, name, histogram.help(), "histogram");
+            writeHistogram(builder, name, "", histogram.histogram());
+        });
+        gauges.forEach((name, gauge) -> {
+            writeHeader(builder, name, gauge.help(), "gauge");
+            builder.append(name).append(' ').append(gauge.value().getAsLong()).append('\n');
+        });
+        return builder.toString();
+    }
+
+    private void writeHeader(StringBuilder builder, String name, String help, String type) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void writeHistogram(StringBuilder builder, String name, String labels, LatencyHistogram histogram) {
+        String separator = labels.isEmpty() ? "" : ",";
+        long count = histogram.getCount();
+        for (int magnitude = FIRST_BUCKET_MAGNITUDE; magnitude <= LAST_BUCKET_MAGNITUDE; magnitude++) {
+            long boundary = (1L << magnitude) - 1;
+            builder.append(name).append("_bucket{").append(labels).append(separator)
+                    .append("le=\"").append(boundary / NANOS_PER_SECOND).append("\"} ")
+                    .append(Math.min(histogram.countAtOrBelow(boundary), count)).append('\n');
+        }
+        builder.append(name).append("_bucket{").append(labels).append(separator)
+                .append("le=\"+Inf\"} ").append(count).append('\n');
+        String braces = labels.isEmpty() ? "" : "{" + labels + "}";
+        builder.append(name).append("_sum").append(braces).append(' ')
+                .append(histogram.getSum() / NANOS_PER_SECOND).append('\n');
+        builder.append(name).append("_count").append(braces).append(' ').append(count).append('\n');
+    }
+}
@@ -3,12 +3,13 @@ package ru.yandex.javacourse.schedule.tasks;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static ru.yandex.javacourse.schedule.tasks.TaskStatus.NEW;
 
 public class Epic extends Task {
-    protected LocalDateTime endTime;
+    protected long endMinute = TaskTime.NO_TIME;
     protected ArrayList<Integer> subtaskIds = new ArrayList<>();
 
     public Epic(int id, String name, String description) {
@@ -25,10 +26,12 @@ public class Epic extends Task {
 
     public Epic(Epic other) {
         super(other);
+        this.endMinute = other.endMinute;
         this.subtaskIds = new ArrayList<>(other.subtaskIds);
     }
 
     public void addSubtaskId(int id) {
+        ensureMutable();
         if (this.id == id) {
             return;
         }
@@ -38,14 +41,16 @@ public class Epic extends Task {
     }
 
     public List<Integer> getSubtaskIds() {
-        return subtaskIds;
+        return Collections.unmodifiableList(subtaskIds);
     }
 
     public void cleanSubtaskIds() {
+        ensureMutable();
         subtaskIds.clear();
     }
 
     public void removeSubtask(int id) {
+        ensureMutable();
         subtaskIds.remove(Integer.valueOf(id));
     }
 
@@ -55,13 +60,21 @@ public class Epic extends Task {
     }
 
     public void setEndTime(LocalDateTime endTime) {
-        this.endTime = endTime;
+        this.endMinute = TaskTime.toEpochMinute(endTime);
     }
 
+    public void setEndMinute(long endMinute) {
+        this.endMinute = endMinute;
+    }
 
     @Override
     public LocalDateTime getEndTime() {
-        return this.endTime;
+        return TaskTime.toLocalDateTime(endMinute);
+    }
+
+    @Override
+    public long getEndMinute() {
+        return endMinute;
     }
 
     @Override
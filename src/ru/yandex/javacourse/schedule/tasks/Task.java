@@ -9,8 +9,8 @@ public class Task {
     protected String name;
     protected TaskStatus status;
     protected String description;
-    protected LocalDateTime startTime;
-    protected Duration duration;
+    protected long startMinute;
+    protected long durationMinutes;
     private transient boolean managed = false;
 
     public Task(int id, String name, String description, TaskStatus status) {
@@ -22,8 +22,8 @@ public class Task {
         this.name = name;
         this.description = description;
         this.status = status;
-        this.duration = duration;
-        this.startTime = startTime;
+        this.startMinute = TaskTime.toEpochMinute(startTime);
+        this.durationMinutes = duration == null ? 0 : duration.toMinutes();
     }
 
     public Task(String name, String description, TaskStatus status) {
@@ -35,7 +35,9 @@ public class Task {
     }
 
     public Task(Task other) {
-        this(other.id, other.name, other.description, other.status, other.getStartTime(), other.duration);
+        this(other.id, other.name, other.description, other.status);
+        this.startMinute = other.startMinute;
+        this.durationMinutes = other.durationMinutes;
         this.managed = false;
     }
 
@@ -87,34 +89,54 @@ public class Task {
         this.managed = true;
     }
 
-    private void ensureMutable() {
+    protected void ensureMutable() {
         if (managed) {
             throw new IllegalStateException("Task is managed; fields are immutable outside manager");
         }
     }
 
     public LocalDateTime getStartTime() {
-        return startTime;
+        return TaskTime.toLocalDateTime(startMinute);
     }
 
     public void setStartTime(LocalDateTime startTime) {
-        this.startTime = startTime;
+        this.startMinute = TaskTime.toEpochMinute(startTime);
     }
 
     public Duration getDuration() {
-        return duration;
+        return Duration.ofMinutes(durationMinutes);
     }
 
     public void setDuration(Duration duration) {
-        this.duration = duration;
+        this.durationMinutes = duration == null ? 0 : duration.toMinutes();
     }
 
     public LocalDateTime getEndTime() {
-        if (startTime == null) {
-            return null;
-        } else {
-            return startTime.plusMinutes(duration.toMinutes());
-        }
+        return TaskTime.toLocalDateTime(getEndMinute());
+    }
+
+    public boolean hasStartTime() {
+        return startMinute != TaskTime.NO_TIME;
+    }
+
+    public long getStartMinute() {
+        return startMinute;
+    }
+
+    public void setStartMinute(long startMinute) {
+        this.startMinute = startMinute;
+    }
+
+    public long getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(long durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public long getEndMinute() {
+        return hasStartTime() ? startMinute + durationMinutes : TaskTime.NO_TIME;
     }
 
     @Override
@@ -0,0 +1,26 @@
+package ru.yandex.javacourse.schedule.tasks;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public final class TaskTime {
+    public static final long NO_TIME = Long.MAX_VALUE;
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private TaskTime() {
+    }
+
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIME;
+        }
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMinute) {
+        if (epochMinute == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
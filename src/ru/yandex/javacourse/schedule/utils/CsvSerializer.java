@@ -64,7 +64,7 @@ public class CsvSerializer {
         row[CSV_COLUMNS.get(Column.STATUS)] = task.getStatus().name();
         row[CSV_COLUMNS.get(Column.DESCRIPTION)] = task.getDescription();
         row[CSV_COLUMNS.get(Column.START_TIME)] = task.getStartTime() == null ? CSV_NULL_SYMBOL : DATE_TIME_FORMATTER.format((task.getStartTime()));
-        row[CSV_COLUMNS.get(Column.DURATION)] = String.valueOf(task.getDuration().toMinutes());
+        row[CSV_COLUMNS.get(Column.DURATION)] = String.valueOf(task.getDurationMinutes());
         row[CSV_COLUMNS.get(Column.EPIC)] = epic;
         return String.join(CSV_DELIMITER, row);
     }
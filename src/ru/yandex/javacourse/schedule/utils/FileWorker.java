@@ -3,6 +3,8 @@ package ru.yandex.javacourse.schedule.utils;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,17 +13,21 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class FileWorker {
-    public static void writeAllLines(Path path, List<String> lines) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(
+    public static WriteResult writeAllLines(Path path, List<String> lines) throws IOException {
+        try (FileChannel channel = FileChannel.open(
                 path,
-                StandardCharsets.UTF_8,
                 StandardOpenOption.CREATE,
                 StandardOpenOption.TRUNCATE_EXISTING,
                 StandardOpenOption.WRITE)) {
+            long writeStart = System.nanoTime();
+            BufferedWriter fileWriter = new BufferedWriter(
+                    Channels.newWriter(channel, StandardCharsets.UTF_8));
             for (String line : lines) {
                 fileWriter.write(line);
                 fileWriter.newLine();
             }
+            fileWriter.flush();
+            return new WriteResult(channel.position(), System.nanoTime() - writeStart);
         }
     }
 
@@ -0,0 +1,4 @@
+package ru.yandex.javacourse.schedule.utils;
+
+public record WriteResult(long bytesWritten, long writeNanos) {
+}
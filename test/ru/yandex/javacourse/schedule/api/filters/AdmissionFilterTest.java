@@ -0,0 +1,153 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServer;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.manager.InMemoryTaskManager;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionFilterTest extends HttpTaskServerTest {
+    private static final int PORT = 8090;
+
+    private final CountDownLatch writeEntered = new CountDownLatch(1);
+    private final CountDownLatch releaseWrite = new CountDownLatch(1);
+
+    private class BlockingTaskManager extends InMemoryTaskManager {
+        @Override
+        public int addNewTask(Task task) {
+            writeEntered.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.addNewTask(task);
+        }
+    }
+
+    @AfterEach
+    void releaseBlockedWrites() {
+        releaseWrite.countDown();
+    }
+
+    @Test
+    void testWriteOverBudgetIsRejectedWithRetryAfter() throws Exception {
+        restart(AdmissionPolicy.unlimited()
+                .withRouteWrites("/tasks", new AdmissionPolicy.Limit(1, 0))
+                .withRetryAfter(Duration.ofMillis(1500)));
+        CompletableFuture<HttpResponse<String>> blocked =
+                sendAsync(post("/tasks", new Task("Task 1", "Slow", TaskStatus.NEW)));
+        assertTrue(writeEntered.await(5, TimeUnit.SECONDS), "first write should be admitted");
+
+        HttpResponse<String> rejected = send(post("/tasks", new Task("Task 2", "Burst", TaskStatus.NEW)));
+
+        assertEquals(429, rejected.statusCode(), "write over budget must return 429");
+        assertEquals("2", rejected.headers().firstValue("Retry-After").orElse(null),
+                "Retry-After must be rounded up to whole seconds");
+        assertEquals(200, send(get("/tasks")).statusCode(), "reads must use a separate budget");
+        assertEquals(201, send(post("/epics", new Epic("Epic", "Other route"))).statusCode(),
+                "other routes must keep their own budget");
+
+        releaseWrite.countDown();
+        assertEquals(201, blocked.get(5, TimeUnit.SECONDS).statusCode(), "admitted write must complete");
+        assertEquals(1, taskManager.getTasks().size(), "rejected write must not be applied");
+        assertEquals(201, send(post("/tasks", new Task("Task 3", "Later", TaskStatus.NEW))).statusCode(),
+                "released budget must admit new writes");
+    }
+
+    @Test
+    void testQueuedWriteWaitsForFreeSlot() throws Exception {
+        restart(AdmissionPolicy.unlimited().withWrites(new AdmissionPolicy.Limit(1, 1)));
+        CompletableFuture<HttpResponse<String>> blocked =
+                sendAsync(post("/tasks", new Task("Task 1", "Slow", TaskStatus.NEW)));
+        assertTrue(writeEntered.await(5, TimeUnit.SECONDS), "first write should be admitted");
+
+        List<CompletableFuture<HttpResponse<String>>> burst = List.of(
+                sendAsync(post("/tasks", new Task("Task 2", "Burst", TaskStatus.NEW))),
+                sendAsync(post("/tasks", new Task("Task 3", "Burst", TaskStatus.NEW))));
+        CompletableFuture.anyOf(burst.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        releaseWrite.countDown();
+
+        assertEquals(201, blocked.get(5, TimeUnit.SECONDS).statusCode(), "admitted write must complete");
+        List<Integer> statuses = burst.stream().map(response -> response.join().statusCode()).sorted().toList();
+        assertEquals(List.of(201, 429), statuses, "queue must hold one write and reject the other");
+        assertEquals(2, taskManager.getTasks().size(), "queued write must be applied");
+    }
+
+    @Test
+    void testSequentialWritesNeverSeeReleasedPermitAsBusy() throws Exception {
+        restart(AdmissionPolicy.unlimited().withRouteWrites("/epics", new AdmissionPolicy.Limit(1, 0)));
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(201, send(post("/epics", new Epic("Epic " + i, "Sequential"))).statusCode(),
+                    "permit must be released before the response reaches the client");
+        }
+    }
+
+    @Test
+    void testOpenEventStreamHoldsReadPermit() throws Exception {
+        restart(AdmissionPolicy.unlimited().withRouteReads("/events", new AdmissionPolicy.Limit(1, 0)));
+        HttpResponse<InputStream> stream = httpClient.send(get("/events"), HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = stream.body()) {
+            assertEquals(200, stream.statusCode(), "first stream must be admitted");
+            assertEquals(':', body.read(), "first stream must start sending frames");
+
+            HttpResponse<InputStream> second = httpClient.send(get("/events"),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            second.body().close();
+            assertEquals(429, second.statusCode(), "open stream must keep its read permit");
+        }
+    }
+
+    @Test
+    void testLimitParsing() {
+        assertEquals(new AdmissionPolicy.Limit(8, 32), AdmissionPolicy.Limit.parse("8:32"), "limit with queue");
+        assertEquals(new AdmissionPolicy.Limit(4, 0), AdmissionPolicy.Limit.parse("4"), "limit without queue");
+        assertThrows(IllegalArgumentException.class, () -> AdmissionPolicy.Limit.parse("0:1"),
+                "zero concurrency must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> AdmissionPolicy.Limit.parse("many"),
+                "malformed limit must be rejected");
+    }
+
+    private void restart(AdmissionPolicy admissionPolicy) throws IOException {
+        httpTaskServer.stop();
+        taskManager = new BlockingTaskManager();
+        httpTaskServer = HttpTaskServer.builder(taskManager).port(PORT).admissionPolicy(admissionPolicy).build();
+        httpTaskServer.start();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder().uri(URI.create(BASE_URL + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, Task task) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + path))
+                .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(task)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,136 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServer;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.api.ServerExecutors;
+import ru.yandex.javacourse.schedule.manager.InMemoryTaskManager;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchFilterTest extends HttpTaskServerTest {
+    private static final int PORT = 8090;
+
+    private final CountDownLatch writeEntered = new CountDownLatch(1);
+    private final CountDownLatch releaseWrite = new CountDownLatch(1);
+    private final Set<String> writeThreads = ConcurrentHashMap.newKeySet();
+    private final Set<String> readThreads = ConcurrentHashMap.newKeySet();
+
+    private class RecordingTaskManager extends InMemoryTaskManager {
+        @Override
+        public synchronized int addNewTask(Task task) {
+            writeThreads.add(Thread.currentThread().getName());
+            writeEntered.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.addNewTask(task);
+        }
+
+        @Override
+        public Task getTask(int id) {
+            readThreads.add(Thread.currentThread().getName());
+            return super.getTask(id);
+        }
+    }
+
+    @BeforeEach
+    void startDispatchingServer() throws IOException {
+        httpTaskServer.stop();
+        taskManager = new RecordingTaskManager();
+        httpTaskServer = HttpTaskServer.builder(taskManager).port(PORT)
+                .executors(ServerExecutors.of(ServerExecutors.VIRTUAL_THREADS, 1))
+                .build();
+        httpTaskServer.start();
+    }
+
+    @AfterEach
+    void releaseBlockedWrites() {
+        releaseWrite.countDown();
+    }
+
+    @Test
+    void testReadsAreServedWhileWritesAreBlocked() throws Exception {
+        int taskId = taskManager.addNewTasks(List.of(new Task("Seed", "Existing", TaskStatus.NEW))).getFirst();
+
+        CompletableFuture<HttpResponse<String>> slowWrite =
+                sendAsync(post(new Task("Task 1", "Slow", TaskStatus.NEW)));
+        assertTrue(writeEntered.await(5, TimeUnit.SECONDS), "write should start on the write executor");
+        CompletableFuture<HttpResponse<String>> queuedWrite =
+                sendAsync(post(new Task("Task 2", "Queued", TaskStatus.NEW)));
+
+        assertEquals(200, send(get("/prioritized")).statusCode(), "GET /prioritized must not wait for writes");
+        assertEquals(200, send(get("/tasks/" + taskId)).statusCode(), "GET /tasks/{id} must not wait for writes");
+        assertFalse(queuedWrite.isDone(), "second write must wait for the single write thread");
+
+        releaseWrite.countDown();
+        assertEquals(201, slowWrite.get(5, TimeUnit.SECONDS).statusCode(), "blocked write must complete");
+        assertEquals(201, queuedWrite.get(5, TimeUnit.SECONDS).statusCode(), "queued write must complete");
+        assertEquals(Set.of("kanban-write-0"), writeThreads, "writes must run on the write executor");
+        assertTrue(readThreads.stream().allMatch(name -> name.startsWith("kanban-read-")),
+                "reads must run on the read executor");
+    }
+
+    @Test
+    void testWritesBeyondQueueCapacityAreRejected() throws Exception {
+        httpTaskServer.stop();
+        ServerExecutors executors = ServerExecutors.of(ServerExecutors.VIRTUAL_THREADS, 1, 1);
+        httpTaskServer = HttpTaskServer.builder(taskManager).port(PORT).executors(executors).build();
+        httpTaskServer.start();
+
+        CompletableFuture<HttpResponse<String>> slowWrite =
+                sendAsync(post(new Task("Task 1", "Slow", TaskStatus.NEW)));
+        assertTrue(writeEntered.await(5, TimeUnit.SECONDS), "write should start on the write executor");
+        CompletableFuture<HttpResponse<String>> queuedWrite =
+                sendAsync(post(new Task("Task 2", "Queued", TaskStatus.NEW)));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (((ThreadPoolExecutor) executors.writes()).getQueue().isEmpty() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertEquals(503, send(post(new Task("Task 3", "Rejected", TaskStatus.NEW))).statusCode(),
+                "write beyond the queue capacity must be rejected");
+
+        releaseWrite.countDown();
+        assertEquals(201, slowWrite.get(5, TimeUnit.SECONDS).statusCode(), "blocked write must complete");
+        assertEquals(201, queuedWrite.get(5, TimeUnit.SECONDS).statusCode(), "queued write must complete");
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder().uri(URI.create(BASE_URL + path)).timeout(Duration.ofSeconds(5)).GET().build();
+    }
+
+    private HttpRequest post(Task task) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + "/tasks"))
+                .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(task)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,121 @@
+package ru.yandex.javacourse.schedule.api.filters;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.javacourse.schedule.api.HttpTaskServer;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.manager.Managers;
+import ru.yandex.javacourse.schedule.manager.workspace.WorkspaceTaskManager;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkspaceFilterTest extends HttpTaskServerTest {
+    private static final int PORT = 8090;
+    private static final long BUDGET = 16L * 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private WorkspaceTaskManager workspaces;
+
+    @BeforeEach
+    void startWorkspaceServer() throws IOException {
+        httpTaskServer.stop();
+        workspaces = Managers.getWorkspaces(tempDir, BUDGET);
+        taskManager = workspaces;
+        httpTaskServer = new HttpTaskServer(workspaces, PORT);
+        httpTaskServer.start();
+    }
+
+    @Test
+    void testRequestsAreRoutedByWorkspaceHeader() throws Exception {
+        assertEquals(201, send("alpha", post("/tasks", new Task("Alpha", "Workspace", TaskStatus.NEW))).statusCode(),
+                "POST into alpha must return 201");
+        assertEquals(201, send("beta", post("/tasks", new Task("Beta", "Workspace", TaskStatus.NEW))).statusCode(),
+                "POST into beta must return 201");
+
+        Task[] alphaTasks = gson.fromJson(send("alpha", get("/tasks")).body(), Task[].class);
+        Task[] betaTasks = gson.fromJson(send("beta", get("/tasks")).body(), Task[].class);
+
+        assertEquals(1, alphaTasks.length, "alpha must see only own tasks");
+        assertEquals("Alpha", alphaTasks[0].getName(), "alpha must see own task");
+        assertEquals(1, betaTasks.length, "beta must see only own tasks");
+        assertEquals("Beta", betaTasks[0].getName(), "beta must see own task");
+    }
+
+    @Test
+    void testMissingHeaderUsesDefaultWorkspace() throws Exception {
+        send(null, post("/tasks", new Task("Default", "Workspace", TaskStatus.NEW)));
+
+        WorkspaceTaskManager.Scope scope = workspaces.open("default");
+        try {
+            assertEquals(1, workspaces.getTasks().size(), "request without header must use default workspace");
+        } finally {
+            scope.close();
+        }
+    }
+
+    @Test
+    void testEventStreamKeepsWorkspaceLoaded() throws Exception {
+        httpTaskServer.stop();
+        workspaces = Managers.getWorkspaces(tempDir, 0);
+        taskManager = workspaces;
+        httpTaskServer = new HttpTaskServer(workspaces, PORT);
+        httpTaskServer.start();
+
+        HttpRequest.Builder request = get("/events");
+        request.header(WorkspaceFilter.WORKSPACE_HEADER, "alpha");
+        HttpResponse<InputStream> stream = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(stream.body(), StandardCharsets.UTF_8))) {
+            assertEquals(": connected", reader.readLine(), "stream must start with the connected frame");
+
+            assertTrue(workspaces.getRegistry().isLoaded("alpha"),
+                    "workspace must stay leased while its event stream is open");
+        }
+    }
+
+    @Test
+    void testInvalidWorkspaceIsRejected() throws Exception {
+        HttpResponse<String> response = send("../alpha", get("/tasks"));
+
+        assertEquals(400, response.statusCode(), "invalid workspace must return 400");
+        assertEquals(0, workspaces.getRegistry().loadedCount(), "invalid workspace must not be loaded");
+    }
+
+    @Test
+    void testUnboundManagerIsRejected() {
+        assertThrows(IllegalStateException.class, workspaces::getTasks,
+                "manager without bound workspace must reject calls");
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder().uri(URI.create(BASE_URL + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Task task) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + path))
+                .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(task)));
+    }
+
+    private HttpResponse<String> send(String workspaceId, HttpRequest.Builder request) throws Exception {
+        if (workspaceId != null) {
+            request.header(WorkspaceFilter.WORKSPACE_HEADER, workspaceId);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,97 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServer;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.manager.AsyncTaskManager;
+import ru.yandex.javacourse.schedule.manager.Managers;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncWriteHandlerTest extends HttpTaskServerTest {
+    private static final int PORT = 8090;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private AsyncTaskManager asyncTaskManager;
+
+    @BeforeEach
+    void startAsyncServer() throws IOException {
+        httpTaskServer.stop();
+        asyncTaskManager = Managers.getAsync(Managers.getDefaultInMemory());
+        taskManager = asyncTaskManager.getTaskManager();
+        httpTaskServer = HttpTaskServer.builder(asyncTaskManager).port(PORT).build();
+        httpTaskServer.start();
+    }
+
+    @AfterEach
+    void closeAsyncManager() {
+        asyncTaskManager.close();
+    }
+
+    @Test
+    void testPostTaskRespondsAfterWriteIsApplied() throws Exception {
+        Task task = new Task("Task 1", "Async write", TaskStatus.NEW, START, Duration.ofMinutes(30));
+
+        HttpResponse<String> response = post("/tasks", gson.toJson(task));
+
+        assertEquals(201, response.statusCode(), "async POST /tasks must return 201");
+        assertEquals(1, taskManager.getTasks().size(), "task must be stored before the response");
+    }
+
+    @Test
+    void testAsyncWriteFailuresMapToStatusCodes() throws Exception {
+        taskManager.addNewTask(new Task("Task 1", "Async write", TaskStatus.NEW, START, Duration.ofMinutes(30)));
+        Task crossing = new Task("Task 2", "Async write", TaskStatus.NEW, START.plusMinutes(15), Duration.ofMinutes(30));
+
+        assertEquals(406, post("/tasks", gson.toJson(crossing)).statusCode(), "crossing task must return 406");
+        assertEquals(404, post("/subtasks", gson.toJson(new Subtask("Subtask", "Async write", TaskStatus.NEW, 99)))
+                .statusCode(), "subtask of missing epic must return 404");
+        HttpResponse<String> deleteResponse = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + "/epics/99"))
+                .DELETE()
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(404, deleteResponse.statusCode(), "deleting missing epic must return 404");
+        assertEquals(201, post("/epics", gson.toJson(new Epic("Epic", "Async write"))).statusCode(),
+                "async POST /epics must return 201");
+    }
+
+    @Test
+    void testAsyncWriteMetricsRecordSentStatus() throws Exception {
+        assertEquals(201, post("/tasks", gson.toJson(new Task("Task 1", "Async write", TaskStatus.NEW))).statusCode(),
+                "async POST /tasks must return 201");
+
+        String expected = "kanban_http_requests_total{context=\"/tasks\",route=\"POST_TASK\",status=\"201\"} 1";
+        String metrics = "";
+        for (int attempt = 0; attempt < 50 && !metrics.contains(expected); attempt++) {
+            metrics = httpClient.send(HttpRequest.newBuilder().uri(URI.create(BASE_URL + "/metrics")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            if (!metrics.contains(expected)) {
+                Thread.sleep(20);
+            }
+        }
+
+        assertTrue(metrics.contains(expected), "async write must be recorded with the status actually sent");
+        assertFalse(metrics.contains("status=\"-1\""), "no request may be recorded before its response");
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,103 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchHandlerTest extends HttpTaskServerTest {
+    private static final String BATCH_URI = BASE_URL + "/batch";
+
+    private JsonObject operation(String action, String type, Object task) {
+        JsonObject operation = new JsonObject();
+        operation.addProperty("action", action);
+        operation.addProperty("type", type);
+        if (task != null) {
+            operation.add("task", gson.toJsonTree(task));
+        }
+        return operation;
+    }
+
+    private HttpResponse<String> postBatch(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(BATCH_URI))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testBatchCreatesEpicWithSubtasks() throws Exception {
+        JsonArray operations = new JsonArray();
+        operations.add(operation("CREATE", "EPIC", new Epic("Epic 1", "Description 1")));
+        for (int i = 0; i < 3; i++) {
+            JsonObject createSubtask = operation("CREATE", "SUBTASK",
+                    new Subtask("Subtask " + i, "Description", TaskStatus.NEW, 0));
+            createSubtask.addProperty("epicRef", 0);
+            operations.add(createSubtask);
+        }
+
+        HttpResponse<String> response = postBatch(operations.toString());
+
+        assertEquals(200, response.statusCode(), "POST /batch must return 200");
+        JsonArray results = JsonParser.parseString(response.body()).getAsJsonArray();
+        assertEquals(4, results.size(), "each operation must have a result");
+        int epicId = results.get(0).getAsJsonObject().get("id").getAsInt();
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(201, results.get(i).getAsJsonObject().get("status").getAsInt(),
+                    "operation " + i + " must succeed");
+        }
+        assertEquals(3, taskManager.getEpicSubtasks(epicId).size(), "subtasks must be linked to created epic");
+    }
+
+    @Test
+    void testBatchReportsPerOperationResults() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        int existingId = taskManager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW,
+                start, Duration.ofMinutes(60)));
+        JsonArray operations = new JsonArray();
+        operations.add(operation("CREATE", "TASK", new Task("Task 2", "Description 2", TaskStatus.NEW,
+                start.plusMinutes(30), Duration.ofMinutes(60))));
+        JsonObject deleteMissing = operation("DELETE", "TASK", null);
+        deleteMissing.addProperty("id", 9999);
+        operations.add(deleteMissing);
+        operations.add(operation("UPDATE", "TASK", new Task(existingId, "Task 1 (updated)", "Description 1",
+                TaskStatus.DONE)));
+        operations.add(operation("MOVE", "TASK", new Task("Task 3", "Description 3", TaskStatus.NEW)));
+
+        HttpResponse<String> response = postBatch(operations.toString());
+
+        assertEquals(200, response.statusCode(), "POST /batch must return 200 even if operations fail");
+        JsonArray results = JsonParser.parseString(response.body()).getAsJsonArray();
+        assertEquals(406, results.get(0).getAsJsonObject().get("status").getAsInt(),
+                "overlapping create must report 406");
+        assertEquals(404, results.get(1).getAsJsonObject().get("status").getAsInt(),
+                "deleting missing task must report 404");
+        assertEquals(201, results.get(2).getAsJsonObject().get("status").getAsInt(),
+                "valid update must succeed");
+        assertEquals(400, results.get(3).getAsJsonObject().get("status").getAsInt(),
+                "unknown action must report 400");
+        assertEquals("Task 1 (updated)", taskManager.getTask(existingId).getName(), "update must be applied");
+        assertEquals(1, taskManager.getTasks().size(), "failed create must not add a task");
+    }
+
+    @Test
+    void testBatchInvalidBody() throws Exception {
+        HttpResponse<String> response = postBatch("{\"action\":\"CREATE\"}");
+
+        assertEquals(400, response.statusCode(), "POST /batch must return 400 when body is not an array");
+    }
+}
@@ -0,0 +1,89 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangesHandlerTest extends HttpTaskServerTest {
+    private static final String CHANGES_URI = BASE_URL + "/changes";
+
+    private HttpResponse<String> getChanges(String query) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(CHANGES_URI + query))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testGetChangesSinceVersion() throws Exception {
+        taskManager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW));
+        int deletedId = taskManager.addNewTask(new Task("Task 2", "Description 2", TaskStatus.NEW));
+        ChangeVersion version = ChangeVersion.parse(gson.fromJson(getChanges("").body(), ChangeSet.class).version());
+        int epicId = taskManager.addNewEpic(new Epic("Epic 1", "Description 1"));
+        taskManager.deleteTask(deletedId);
+
+        HttpResponse<String> response = getChanges("?since=" + version);
+
+        assertEquals(200, response.statusCode(), "GET /changes must return 200");
+        ChangeSet changes = gson.fromJson(response.body(), ChangeSet.class);
+        assertFalse(changes.resyncRequired(), "recent version must not require resync");
+        assertEquals(new ChangeVersion(version.epoch(), version.sequence() + 2), ChangeVersion.parse(changes.version()),
+                "response must carry current version");
+        assertTrue(changes.tasks().isEmpty(), "unchanged task must not be returned");
+        assertEquals(epicId, changes.epics().getFirst().getId(), "created epic must be returned");
+        assertEquals(List.of(deletedId), changes.deletedIds(), "deleted task id must be returned");
+    }
+
+    @Test
+    void testGetChangesFromFutureVersionRequiresResync() throws Exception {
+        taskManager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW));
+        ChangeVersion current = ChangeVersion.parse(gson.fromJson(getChanges("").body(), ChangeSet.class).version());
+
+        HttpResponse<String> response = getChanges("?since=" + new ChangeVersion(current.epoch(), 100));
+
+        assertEquals(200, response.statusCode(), "GET /changes must return 200");
+        ChangeSet changes = gson.fromJson(response.body(), ChangeSet.class);
+        assertTrue(changes.resyncRequired(), "unknown version must require resync");
+        assertEquals(current.toString(), changes.version(), "resync response must carry current version");
+    }
+
+    @Test
+    void testGetChangesWithoutVersionRequiresResync() throws Exception {
+        taskManager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW));
+
+        ChangeSet changes = gson.fromJson(getChanges("").body(), ChangeSet.class);
+
+        assertTrue(changes.resyncRequired(), "client without a version must load the full state");
+        assertEquals(1, ChangeVersion.parse(changes.version()).sequence(), "resync response must carry current version");
+    }
+
+    @Test
+    void testGetChangesFromAnotherLogRequiresResync() throws Exception {
+        taskManager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW));
+
+        HttpResponse<String> response = getChanges("?since=" + new ChangeVersion("0", 0));
+
+        assertEquals(200, response.statusCode(), "GET /changes must return 200");
+        assertTrue(gson.fromJson(response.body(), ChangeSet.class).resyncRequired(),
+                "version from another log instance must require resync");
+    }
+
+    @Test
+    void testGetChangesInvalidVersion() throws Exception {
+        HttpResponse<String> response = getChanges("?since=abc");
+
+        assertEquals(400, response.statusCode(), "GET /changes must return 400 for invalid version");
+    }
+}
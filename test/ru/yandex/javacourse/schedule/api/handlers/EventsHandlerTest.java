@@ -0,0 +1,61 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventsHandlerTest extends HttpTaskServerTest {
+    private static final String EVENTS_URI = BASE_URL + "/events";
+
+    @Test
+    void testEventsStreamDeliversMutations() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(EVENTS_URI))
+                .GET()
+                .build();
+
+        HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+
+        assertEquals(200, response.statusCode(), "GET /events must return 200");
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"),
+                "GET /events must return event stream");
+        int taskId = taskManager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW));
+        taskManager.deleteTask(taskId);
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> iterator = lines.iterator();
+            assertEquals("event: created", nextEventLine(iterator), "creation must be streamed first");
+            assertEquals("event: deleted", nextEventLine(iterator), "deletion must be streamed second");
+        }
+    }
+
+    @Test
+    void testEventsUnknownPath() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(EVENTS_URI + "/1"))
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(404, response.statusCode(), "unknown events path must return 404");
+    }
+
+    private String nextEventLine(Iterator<String> lines) {
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.startsWith("event:")) {
+                return line;
+            }
+        }
+        return null;
+    }
+}
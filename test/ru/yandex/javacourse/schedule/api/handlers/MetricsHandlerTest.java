@@ -0,0 +1,42 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsHandlerTest extends HttpTaskServerTest {
+    private static final String METRICS_URI = BASE_URL + "/metrics";
+
+    @Test
+    void testMetricsExposeRoutesAndGauges() throws Exception {
+        taskManager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW));
+        HttpRequest tasksRequest = HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + "/tasks"))
+                .GET()
+                .build();
+        httpClient.send(tasksRequest, HttpResponse.BodyHandlers.ofString());
+        HttpRequest metricsRequest = HttpRequest.newBuilder()
+                .uri(URI.create(METRICS_URI))
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(metricsRequest, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode(), "GET /metrics must return 200");
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"),
+                "metrics must use text exposition format");
+        String body = response.body();
+        assertTrue(body.contains("kanban_http_requests_total{context=\"/tasks\",route=\"GET_ALL_TASKS\",status=\"200\"} 1"),
+                "request counter must be recorded per route and status");
+        assertTrue(body.contains("kanban_http_request_duration_seconds_count{context=\"/tasks\",route=\"GET_ALL_TASKS\"} 1"),
+                "latency histogram must be recorded per route");
+        assertTrue(body.contains("kanban_tasks 1"), "task count gauge must be exposed");
+    }
+}
@@ -0,0 +1,57 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchHandlerTest extends HttpTaskServerTest {
+    private static final String SEARCH_URI = BASE_URL + "/search";
+
+    private HttpResponse<String> search(String query) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(SEARCH_URI + query))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testSearchReturnsTypedHits() throws Exception {
+        taskManager.addNewTask(new Task("Buy milk", "Grocery", TaskStatus.NEW));
+        int epicId = taskManager.addNewEpic(new Epic("Release", "Milk delivery"));
+        int subtaskId = taskManager.addNewSubtask(new Subtask("Milkshake", "Test", TaskStatus.NEW, epicId));
+
+        HttpResponse<String> response = search("?q=" + URLEncoder.encode("milk*", StandardCharsets.UTF_8)
+                + "&limit=2");
+
+        assertEquals(200, response.statusCode(), "GET /search must return 200");
+        JsonArray hits = JsonParser.parseString(response.body()).getAsJsonArray();
+        assertEquals(2, hits.size(), "limit must cap number of hits");
+        JsonObject secondHit = hits.get(1).getAsJsonObject();
+        assertEquals("EPIC", secondHit.get("type").getAsString(), "hit must carry task type");
+        assertEquals(epicId, secondHit.getAsJsonObject("task").get("id").getAsInt(), "hit must carry task");
+        assertNotEquals(subtaskId, secondHit.getAsJsonObject("task").get("id").getAsInt(),
+                "hits beyond limit must be dropped");
+    }
+
+    @Test
+    void testSearchRejectsInvalidParameters() throws Exception {
+        assertEquals(400, search("").statusCode(), "missing query must return 400");
+        assertEquals(400, search("?q=milk&limit=0").statusCode(), "non-positive limit must return 400");
+        assertEquals(400, search("?q=milk&limit=abc").statusCode(), "non-numeric limit must return 400");
+    }
+}
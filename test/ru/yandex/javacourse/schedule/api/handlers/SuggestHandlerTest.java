@@ -0,0 +1,51 @@
+package ru.yandex.javacourse.schedule.api.handlers;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestHandlerTest extends HttpTaskServerTest {
+    private static final String SUGGEST_URI = BASE_URL + "/suggest";
+
+    private HttpResponse<String> suggest(String query) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(SUGGEST_URI + query))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testSuggestReturnsNamesOnly() throws Exception {
+        int taskId = taskManager.addNewTask(new Task("Deploy backend", "Description", TaskStatus.NEW));
+        taskManager.addNewEpic(new Epic("Design review", "Description"));
+
+        HttpResponse<String> response = suggest("?q=dep");
+
+        assertEquals(200, response.statusCode(), "GET /suggest must return 200");
+        JsonArray suggestions = JsonParser.parseString(response.body()).getAsJsonArray();
+        assertEquals(1, suggestions.size(), "only matching names must be suggested");
+        JsonObject suggestion = suggestions.get(0).getAsJsonObject();
+        assertEquals(taskId, suggestion.get("id").getAsInt(), "suggestion must carry id");
+        assertEquals("TASK", suggestion.get("type").getAsString(), "suggestion must carry type");
+        assertEquals("Deploy backend", suggestion.get("name").getAsString(), "suggestion must carry original name");
+        assertFalse(suggestion.has("description"), "suggestion must not carry full task");
+    }
+
+    @Test
+    void testSuggestRequiresQuery() throws Exception {
+        assertEquals(400, suggest("").statusCode(), "missing prefix must return 400");
+        assertEquals(400, suggest("?q=de&limit=51").statusCode(), "limit above maximum must return 400");
+    }
+}
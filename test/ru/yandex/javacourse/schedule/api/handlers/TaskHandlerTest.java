@@ -212,4 +212,35 @@ class TaskHandlerTest extends HttpTaskServerTest {
 
         assertEquals(404, deleteMissingResponse.statusCode(), "DELETE /tasks/{id} must return 404 for missing task");
     }
+
+    @Test
+    void testGetTasksFilteredByStatus() throws Exception {
+        taskManager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW));
+        taskManager.addNewTask(new Task("Task 2", "Description 2", TaskStatus.IN_PROGRESS));
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(TASK_URI + "?status=in_progress"))
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode(), "GET /tasks?status must return 200");
+        Type listType = new TypeToken<List<Task>>() {
+        }.getType();
+        List<Task> tasks = gson.fromJson(response.body(), listType);
+        assertEquals(1, tasks.size(), "only matching tasks must be returned");
+        assertEquals("Task 2", tasks.getFirst().getName(), "task with requested status must be returned");
+    }
+
+    @Test
+    void testGetTasksWithUnknownStatus() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(TASK_URI + "?status=LATE"))
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode(), "unknown status filter must return 400");
+    }
 }
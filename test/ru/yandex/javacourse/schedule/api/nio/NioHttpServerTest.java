@@ -0,0 +1,268 @@
+package ru.yandex.javacourse.schedule.api.nio;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.api.HttpTaskServer;
+import ru.yandex.javacourse.schedule.api.HttpTaskServerTest;
+import ru.yandex.javacourse.schedule.api.ServerEngine;
+import ru.yandex.javacourse.schedule.manager.Managers;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NioHttpServerTest extends HttpTaskServerTest {
+    private static final int PORT = 8090;
+    private static final int IDLE_CONNECTIONS = 200;
+
+    private record RawResponse(int status, String headers, String body) {
+    }
+
+    @BeforeEach
+    void startNioServer() throws IOException {
+        httpTaskServer.stop();
+        taskManager = Managers.getDefaultInMemory();
+        httpTaskServer = HttpTaskServer.builder(taskManager).port(PORT).engine(ServerEngine.NIO).build();
+        httpTaskServer.start();
+    }
+
+    @Test
+    void testHandlersServeThroughNioEngine() throws Exception {
+        Task task = new Task("Task 1", "Over NIO", TaskStatus.NEW);
+
+        HttpResponse<String> created = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + "/tasks"))
+                .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(task)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> listed = get("/tasks");
+
+        assertEquals(201, created.statusCode(), "POST /tasks must return 201");
+        assertEquals(200, listed.statusCode(), "GET /tasks must return 200");
+        assertEquals("Task 1", gson.fromJson(listed.body(), Task[].class)[0].getName(), "task must be listed");
+        assertEquals(404, get("/tasks/99").statusCode(), "missing task must return 404");
+        assertEquals(404, get("/unknown").statusCode(), "path without context must return 404");
+    }
+
+    @Test
+    void testPipelinedRequestsAreAnsweredInOrder() throws Exception {
+        taskManager.addNewTask(new Task("Task 1", "Pipelined", TaskStatus.NEW));
+        try (Socket socket = new Socket("localhost", PORT)) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("GET /tasks/1 HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    + "GET /tasks/2 HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    + "GET /history HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            outputStream.flush();
+            InputStream inputStream = socket.getInputStream();
+
+            RawResponse first = readResponse(inputStream);
+            RawResponse second = readResponse(inputStream);
+            RawResponse third = readResponse(inputStream);
+
+            assertEquals(200, first.status(), "first pipelined request must be answered first");
+            assertEquals(404, second.status(), "second pipelined request must be answered second");
+            assertEquals(200, third.status(), "third pipelined request must be answered third");
+            assertEquals(1, gson.fromJson(third.body(), Task[].class).length,
+                    "later request must see effects of earlier ones");
+        }
+    }
+
+    @Test
+    void testConnectionCloseIsHonoured() throws Exception {
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.getOutputStream().write("GET /tasks HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            InputStream inputStream = socket.getInputStream();
+
+            RawResponse response = readResponse(inputStream);
+
+            assertEquals(200, response.status(), "request must be answered");
+            assertTrue(response.headers().toLowerCase(Locale.ROOT).contains("connection: close"),
+                    "response must announce closing");
+            assertEquals(-1, inputStream.read(), "server must close the connection");
+        }
+    }
+
+    @Test
+    void testMalformedRequestIsRejected() throws Exception {
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.getOutputStream().write("NONSENSE\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+
+            assertEquals(400, readResponse(socket.getInputStream()).status(), "malformed request must return 400");
+        }
+    }
+
+    @Test
+    void testOpaqueRequestTargetDoesNotStopServer() throws Exception {
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.getOutputStream().write("GET mailto:x HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+
+            assertEquals(400, readResponse(socket.getInputStream()).status(),
+                    "target outside origin form must return 400");
+        }
+
+        assertEquals(200, get("/tasks").statusCode(), "server must keep accepting connections");
+    }
+
+    @Test
+    void testShortResponseBodyClosesConnection() throws Exception {
+        httpTaskServer.stop();
+        httpTaskServer = null;
+        NioHttpServer server = NioHttpServer.create(new InetSocketAddress(PORT), 0);
+        server.createContext("/short", exchange -> {
+            exchange.sendResponseHeaders(200, 10);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(new byte[3]);
+            }
+        });
+        server.start();
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.setSoTimeout(5_000);
+            socket.getOutputStream().write("GET /short HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+
+            assertEquals(-1, socket.getInputStream().read(), "incomplete response must close the connection");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testIdleConnectionIsClosedAfterTimeout() throws Exception {
+        httpTaskServer.stop();
+        httpTaskServer = null;
+        NioHttpServer server = NioHttpServer.create(new InetSocketAddress(PORT), 0);
+        server.setIdleTimeout(Duration.ofMillis(200));
+        server.start();
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.setSoTimeout(5_000);
+            socket.getOutputStream().write("GET /tas".getBytes(StandardCharsets.ISO_8859_1));
+
+            assertEquals(-1, socket.getInputStream().read(), "idle connection must be closed by the server");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testSlowReaderIsCutOffAtPendingOutputLimit() throws Exception {
+        httpTaskServer.stop();
+        httpTaskServer = null;
+        CompletableFuture<Long> streamed = new CompletableFuture<>();
+        NioHttpServer server = NioHttpServer.create(new InetSocketAddress(PORT), 0);
+        server.setMaxPendingOutputBytes(64 * 1024);
+        server.createContext("/stream", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            byte[] chunk = new byte[8 * 1024];
+            long total = 0;
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                while (total < 512L * 1024 * 1024) {
+                    outputStream.write(chunk);
+                    outputStream.flush();
+                    total += chunk.length;
+                }
+                streamed.completeExceptionally(new AssertionError("stream was never cut off"));
+            } catch (IOException e) {
+                streamed.complete(total);
+            }
+        });
+        server.start();
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(4 * 1024);
+            socket.connect(new InetSocketAddress("localhost", PORT));
+            socket.getOutputStream().write("GET /stream HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+
+            assertTrue(streamed.get(10, TimeUnit.SECONDS) < 512L * 1024 * 1024,
+                    "writes to a peer that stopped reading must fail");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (server.connectionCount() > 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertEquals(0, server.connectionCount(), "slow connection must be closed");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testIdleConnectionsDoNotBlockRequests() throws Exception {
+        List<Socket> idle = new ArrayList<>();
+        try {
+            for (int i = 0; i < IDLE_CONNECTIONS; i++) {
+                idle.add(new Socket("localhost", PORT));
+            }
+            idle.getFirst().getOutputStream().write("GET /tas".getBytes(StandardCharsets.ISO_8859_1));
+
+            assertEquals(200, get("/prioritized").statusCode(), "idle connections must not hold threads");
+        } finally {
+            for (Socket socket : idle) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    void testEventsAreStreamedInChunks() throws Exception {
+        HttpResponse<Stream<String>> response = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + "/events"))
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofLines());
+
+        assertEquals(200, response.statusCode(), "GET /events must return 200");
+        taskManager.addNewTask(new Task("Task 1", "Streamed", TaskStatus.NEW));
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> iterator = lines.iterator();
+            String line = iterator.next();
+            while (!line.startsWith("event:")) {
+                line = iterator.next();
+            }
+            assertEquals("event: created", line, "mutation must be streamed");
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder().uri(URI.create(BASE_URL + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static RawResponse readResponse(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        while (!head.toString(StandardCharsets.ISO_8859_1).endsWith("\r\n\r\n")) {
+            int next = inputStream.read();
+            if (next < 0) {
+                throw new IOException("Connection closed before response head");
+            }
+            head.write(next);
+        }
+        String headers = head.toString(StandardCharsets.ISO_8859_1);
+        int status = Integer.parseInt(headers.substring(9, 12));
+        int contentLength = 0;
+        for (String line : headers.split("\r\n")) {
+            if (line.toLowerCase(Locale.ROOT).startsWith("content-length:")) {
+                contentLength = Integer.parseInt(line.substring(line.indexOf(':') + 1).trim());
+            }
+        }
+        byte[] body = inputStream.readNBytes(contentLength);
+        return new RawResponse(status, headers, new String(body, StandardCharsets.UTF_8));
+    }
+}
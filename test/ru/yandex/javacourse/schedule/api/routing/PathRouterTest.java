@@ -0,0 +1,73 @@
+package ru.yandex.javacourse.schedule.api.routing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathRouterTest {
+    private enum Endpoint {
+        GET_ALL,
+        GET_BY_ID,
+        GET_NESTED,
+        POST,
+        DELETE_BY_ID,
+        UNKNOWN
+    }
+
+    private final PathRouter<Endpoint> router = PathRouter.<Endpoint>builder()
+            .route("GET", "/epics", Endpoint.GET_ALL)
+            .route("GET", "/epics/{id}", Endpoint.GET_BY_ID)
+            .route("GET", "/epics/{id}/subtasks", Endpoint.GET_NESTED)
+            .route("POST", "/epics", Endpoint.POST)
+            .route("DELETE", "/epics/{id}", Endpoint.DELETE_BY_ID)
+            .build(Endpoint.UNKNOWN);
+
+    @Test
+    void testMatchRootRoute() {
+        RouteMatch<Endpoint> match = router.match("GET", "/epics");
+        assertEquals(Endpoint.GET_ALL, match.endpoint(), "root path must resolve to root route");
+        assertFalse(match.hasId(), "root route must not carry an id");
+        assertEquals(Endpoint.GET_ALL, router.match("GET", "/epics/").endpoint(),
+                "trailing slash must be ignored");
+    }
+
+    @Test
+    void testMatchRouteWithId() {
+        RouteMatch<Endpoint> byId = router.match("GET", "/epics/42");
+        assertEquals(Endpoint.GET_BY_ID, byId.endpoint(), "id path must resolve to by-id route");
+        assertEquals(42, byId.id(), "id must be parsed from path");
+        RouteMatch<Endpoint> nested = router.match("GET", "/epics/7/subtasks");
+        assertEquals(Endpoint.GET_NESTED, nested.endpoint(), "nested path must resolve to nested route");
+        assertEquals(7, nested.id(), "id must be parsed from nested path");
+    }
+
+    @Test
+    void testMatchByMethod() {
+        assertEquals(Endpoint.POST, router.match("POST", "/epics").endpoint(), "POST must resolve by method");
+        assertEquals(Endpoint.DELETE_BY_ID, router.match("delete", "/epics/1").endpoint(),
+                "method comparison must ignore case");
+        assertEquals(Endpoint.UNKNOWN, router.match("PUT", "/epics").endpoint(),
+                "unknown method must resolve to default endpoint");
+    }
+
+    @Test
+    void testUnknownPaths() {
+        assertEquals(Endpoint.UNKNOWN, router.match("GET", "/epics/abc").endpoint(), "non-numeric id must not match");
+        assertEquals(Endpoint.UNKNOWN, router.match("GET", "/epics/-1").endpoint(), "negative id must not match");
+        assertEquals(Endpoint.UNKNOWN, router.match("GET", "/epics/99999999999").endpoint(),
+                "id overflowing int must not match");
+        assertEquals(Endpoint.UNKNOWN, router.match("GET", "/epics//1").endpoint(), "empty segment must not match");
+        assertEquals(Endpoint.UNKNOWN, router.match("GET", "/epicsx").endpoint(), "segment prefix must not match");
+        assertEquals(Endpoint.UNKNOWN, router.match("GET", "/epics/1/tasks").endpoint(),
+                "unknown nested segment must not match");
+    }
+
+    @Test
+    void testDuplicateRouteThrows() {
+        PathRouter.Builder<Endpoint> builder = PathRouter.<Endpoint>builder()
+                .route("GET", "/epics", Endpoint.GET_ALL);
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.route("GET", "/epics/", Endpoint.GET_ALL),
+                "duplicate route must be rejected");
+    }
+}
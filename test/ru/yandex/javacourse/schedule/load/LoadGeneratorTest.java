@@ -0,0 +1,38 @@
+package ru.yandex.javacourse.schedule.load;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+    private static final int PORT = 8091;
+
+    @Test
+    void testRunSendsScheduledRequests() throws Exception {
+        LoadConfig config = new LoadConfig(PORT, 200, 0, 1, 0.2, 50, 5, 3);
+
+        LoadReport report = new LoadGenerator(config).run();
+
+        assertEquals(200, report.getTotalRequests(), "open-loop schedule must send rate * duration requests");
+        assertEquals(0, report.errors(), "mixed workload must not produce errors");
+        assertTrue(report.overall().getValueAtPercentile(50) <= report.overall().getValueAtPercentile(99.9),
+                "percentiles must be monotonic");
+        assertTrue(report.render().contains("p999 ms"), "report must include latency percentiles");
+    }
+
+    @Test
+    void testParseArguments() {
+        LoadConfig config = LoadConfig.parse(new String[]{"--rate=50", "--duration=5", "--write-ratio=0.5"});
+
+        assertEquals(50, config.ratePerSecond(), "rate must be parsed");
+        assertEquals(5, config.durationSeconds(), "duration must be parsed");
+        assertEquals(0.5, config.writeRatio(), "write ratio must be parsed");
+        assertEquals(LoadConfig.DEFAULT_PORT, config.port(), "unspecified values must keep defaults");
+    }
+
+    @Test
+    void testParseRejectsUnknownArgument() {
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse(new String[]{"--threads=4"}),
+                "unknown argument must be rejected");
+    }
+}
@@ -0,0 +1,87 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncTaskManagerTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private SlowFlushTaskManager delegate;
+    private AsyncTaskManager manager;
+
+    private static class SlowFlushTaskManager extends InMemoryTaskManager {
+        private final CountDownLatch flushGate = new CountDownLatch(1);
+
+        @Override
+        public <T> T executeBatch(Supplier<T> batch) {
+            T result = super.executeBatch(batch);
+            try {
+                flushGate.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        }
+    }
+
+    @BeforeEach
+    void createManager() {
+        delegate = new SlowFlushTaskManager();
+        manager = Managers.getAsync(delegate);
+    }
+
+    @AfterEach
+    void closeManager() {
+        delegate.flushGate.countDown();
+        manager.close();
+    }
+
+    @Test
+    void testAppliedCompletesBeforeDurable() throws Exception {
+        AsyncWrite<Integer> write = manager.addNewTask(new Task("Task 1", "Testing async", TaskStatus.NEW));
+
+        assertEquals(1, (int) write.applied().get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "applied future should carry id");
+        assertFalse(write.durable().isDone(), "durable future should wait for the flush");
+        assertEquals(1, manager.getTaskManager().getTasks().size(), "applied write should be visible to readers");
+
+        delegate.flushGate.countDown();
+
+        assertEquals(1, (int) write.durable().get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "durable future should carry id");
+    }
+
+    @Test
+    void testFailedWriteCompletesBothFutures() {
+        delegate.flushGate.countDown();
+        AsyncWrite<Void> write = manager.updateTask(new Task(42, "Missing", "Testing async", TaskStatus.NEW));
+
+        ExecutionException applied = assertThrows(ExecutionException.class,
+                () -> write.applied().get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "applied future should fail");
+        ExecutionException durable = assertThrows(ExecutionException.class,
+                () -> write.durable().get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "durable future should fail");
+        assertInstanceOf(NotFoundException.class, applied.getCause(), "failure should keep its cause");
+        assertInstanceOf(NotFoundException.class, durable.getCause(), "failure should keep its cause");
+    }
+
+    @Test
+    void testClosedManagerRejectsWrites() {
+        delegate.flushGate.countDown();
+        manager.close();
+
+        AsyncWrite<Integer> write = manager.addNewTask(new Task("Task 1", "Testing async", TaskStatus.NEW));
+
+        ExecutionException rejection = assertThrows(ExecutionException.class,
+                () -> write.durable().get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "closed manager should reject writes");
+        assertInstanceOf(IllegalStateException.class, rejection.getCause(), "rejection should be an illegal state");
+    }
+}
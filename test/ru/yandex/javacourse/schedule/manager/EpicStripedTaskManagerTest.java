@@ -0,0 +1,96 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EpicStripedTaskManagerTest extends TaskManagerTest<EpicStripedTaskManager> {
+    private static final int EPICS = 8;
+    private static final int SUBTASKS_PER_EPIC = 200;
+
+    @Override
+    protected EpicStripedTaskManager createManager() {
+        return Managers.getEpicStriped();
+    }
+
+    @Test
+    public void testParallelSubtaskWritesKeepEpicsConsistent() throws Exception {
+        List<Integer> epicIds = new ArrayList<>();
+        for (int i = 0; i < EPICS; i++) {
+            epicIds.add(manager.addNewEpic(new Epic("Epic " + i, "Testing stripes")));
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int epicId : epicIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < SUBTASKS_PER_EPIC; i++) {
+                        Integer id = manager.addNewSubtask(new Subtask("Subtask " + i, "Parallel", TaskStatus.NEW, epicId));
+                        manager.updateSubtask(new Subtask(id, "Subtask " + i, "Parallel", TaskStatus.DONE, epicId));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(EPICS * SUBTASKS_PER_EPIC, manager.getSubtasks().size(), "all subtasks should be stored");
+        for (int epicId : epicIds) {
+            Epic epic = manager.getEpic(epicId);
+            assertEquals(SUBTASKS_PER_EPIC, epic.getSubtaskIds().size(), "epic should link every own subtask");
+            assertEquals(TaskStatus.DONE, epic.getStatus(), "epic status should follow finished subtasks");
+        }
+        long distinctIds = manager.getSubtasks().stream().mapToInt(Task::getId).distinct().count();
+        assertEquals(EPICS * SUBTASKS_PER_EPIC, (int) distinctIds, "ids should stay unique across stripes");
+    }
+
+    @Test
+    public void testContendedOverlappingTasksAdmitExactlyOne() throws Exception {
+        LocalDateTime slot = LocalDateTime.of(2025, 3, 1, 10, 0);
+        int contenders = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < contenders; i++) {
+                int offset = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return manager.addNewTask(new Task("Task " + offset, "Contended", TaskStatus.NEW,
+                            slot.plusMinutes(offset), Duration.ofMinutes(30)));
+                }));
+            }
+            start.countDown();
+            int admitted = 0;
+            for (Future<Integer> future : futures) {
+                try {
+                    future.get();
+                    admitted++;
+                } catch (ExecutionException exception) {
+                    assertInstanceOf(TimeInteractionsException.class, exception.getCause(),
+                            "losers should be rejected as crossing");
+                }
+            }
+            assertEquals(1, admitted, "only one overlapping task should be admitted");
+        }
+        assertEquals(1, manager.getPrioritizedTasks().size(), "schedule should hold the single winner");
+    }
+}
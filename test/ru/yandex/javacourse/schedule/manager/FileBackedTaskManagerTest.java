@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.manager.events.ChangeSet;
+import ru.yandex.javacourse.schedule.manager.events.ChangeVersion;
 import ru.yandex.javacourse.schedule.tasks.Epic;
 import ru.yandex.javacourse.schedule.tasks.Subtask;
 import ru.yandex.javacourse.schedule.tasks.Task;
@@ -228,4 +230,70 @@ class FileBackedTaskManagerTest extends TaskManagerTest<FileBackedTaskManager> {
                         "regardless of paste order or Task types"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBatchSavesOnceAfterCompletion() {
+        int epicId = manager.executeBatch(() -> {
+            int createdEpicId = manager.addNewEpic(new Epic("Epic 1", "Epic description"));
+            manager.addNewSubtask(new Subtask("Subtask 1", "Subtask description", TaskStatus.NEW, createdEpicId));
+            manager.addNewTask(new Task("Task 1", "Task description", TaskStatus.NEW));
+            assertEquals(0, file.toFile().length(), "file must not be written while batch is running");
+            return createdEpicId;
+        });
+
+        TaskManager reloaded = new FileBackedTaskManager(file);
+        assertEquals(1, reloaded.getEpicSubtasks(epicId).size(), "batch content must be saved after completion");
+        assertEquals(1, reloaded.getTasks().size(), "batch content must be saved after completion");
+    }
+
+    @Test
+    void testBulkInsertPersisted() {
+        int epicId = manager.addNewEpic(new Epic("Epic 1", "Epic description"));
+        manager.addNewTasks(List.of(
+                new Task("Task 1", "Task description", TaskStatus.NEW),
+                new Task("Task 2", "Task description", TaskStatus.DONE)));
+        manager.addNewSubtasks(List.of(
+                new Subtask("Subtask 1", "Subtask description", TaskStatus.NEW, epicId),
+                new Subtask("Subtask 2", "Subtask description", TaskStatus.NEW, epicId)));
+
+        TaskManager reloaded = new FileBackedTaskManager(file);
+        assertEquals(2, reloaded.getTasks().size(), "bulk tasks must be persisted");
+        assertEquals(2, reloaded.getEpicSubtasks(epicId).size(), "bulk subtasks must be persisted");
+    }
+
+    @Test
+    void testConcurrentWritesLeaveLatestStateOnDisk() throws Exception {
+        int threads = 8;
+        int perThread = 25;
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    manager.addNewTask(new Task("Task", "Concurrent", TaskStatus.NEW));
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        TaskManager reloaded = new FileBackedTaskManager(file);
+        assertEquals(threads * perThread, reloaded.getTasks().size(),
+                "the last write must contain every task added concurrently");
+    }
+
+    @Test
+    void testLoadingFromFileIsNotLoggedAsChanges() {
+        manager.addNewTask(new Task("Task 1", "Task description", TaskStatus.NEW));
+        ChangeVersion before = ChangeVersion.parse(manager.getChangesSince(null).version());
+
+        TaskManager reloaded = new FileBackedTaskManager(file);
+        ChangeSet changes = reloaded.getChangesSince(null);
+
+        assertEquals(0, ChangeVersion.parse(changes.version()).sequence(), "loaded tasks must not be logged as changes");
+        assertTrue(reloaded.getChangesSince(before).resyncRequired(),
+                "version issued before reload must require resync");
+    }
+}
@@ -0,0 +1,36 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapTaskManagerTest extends TaskManagerTest<OffHeapTaskManager> {
+
+    @Override
+    protected OffHeapTaskManager createManager() {
+        return Managers.getOffHeap();
+    }
+
+    @Override
+    protected boolean cachesListSnapshots() {
+        return false;
+    }
+
+    @Test
+    void testHistoryKeepsViewedVersion() {
+        int id = manager.addNewTask(new Task("Task 1", "Before", TaskStatus.NEW));
+        manager.getTask(id);
+        manager.updateTask(new Task(id, "Task 1", "After", TaskStatus.DONE));
+
+        assertEquals("Before", manager.getHistory().getFirst().getDescription(),
+                "history must return the version that was viewed");
+
+        manager.getTask(id);
+        assertEquals("After", manager.getHistory().getFirst().getDescription(),
+                "viewing again must replace the remembered version");
+        manager.deleteTask(id);
+        assertTrue(manager.getHistory().isEmpty(), "deleted task must leave history");
+    }
+}
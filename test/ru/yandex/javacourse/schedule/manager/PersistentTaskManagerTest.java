@@ -0,0 +1,97 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+import ru.yandex.javacourse.schedule.utils.FileWorker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentTaskManagerTest extends TaskManagerTest<PersistentTaskManager> {
+
+    @Override
+    protected PersistentTaskManager createManager() {
+        return Managers.getPersistent();
+    }
+
+    @Test
+    void testSnapshotIsIsolatedFromLaterMutations() {
+        int taskId = manager.addNewTask(new Task("Task 1", "Testing snapshot", TaskStatus.NEW,
+                LocalDateTime.of(2025, 1, 1, 10, 0), Duration.ofMinutes(30)));
+        int epicId = manager.addNewEpic(new Epic("Epic 1", "Testing snapshot"));
+
+        ManagerSnapshot snapshot = manager.snapshot();
+        manager.deleteTask(taskId);
+        manager.addNewSubtask(new Subtask("Subtask 1", "Testing snapshot", TaskStatus.DONE, epicId));
+
+        assertEquals(1, snapshot.tasks().size(), "snapshot must keep deleted task");
+        assertNotNull(snapshot.tasks().get(taskId), "snapshot must resolve deleted task");
+        assertEquals(1, snapshot.prioritizedTasks().size(), "snapshot must keep prioritized order");
+        assertTrue(snapshot.subtasks().isEmpty(), "snapshot must not see new subtask");
+        assertEquals(TaskStatus.NEW, snapshot.epics().get(epicId).getStatus(), "snapshot must keep epic status");
+        assertEquals(TaskStatus.DONE, manager.getEpic(epicId).getStatus(), "manager must see recomputed epic");
+    }
+
+    @Test
+    void testBackupWritesSnapshotAsCsv() throws Exception {
+        manager.addNewTask(new Task("Task 1", "Testing backup", TaskStatus.NEW));
+        int epicId = manager.addNewEpic(new Epic("Epic 1", "Testing backup"));
+        manager.addNewSubtask(new Subtask("Subtask 1", "Testing backup", TaskStatus.NEW, epicId));
+        Path backup = Files.createTempFile("kanban-backup", ".csv");
+
+        try {
+            manager.backupTo(backup);
+            List<String> lines = FileWorker.readAllLines(backup);
+
+            assertEquals(4, lines.size(), "backup must contain header and every task");
+            FileBackedTaskManager restored = new FileBackedTaskManager(backup);
+            assertEquals(1, restored.getEpicSubtasks(epicId).size(), "backup must restore epic links");
+        } finally {
+            Files.deleteIfExists(backup);
+        }
+    }
+
+    @Test
+    void testReadsDoNotWaitForTheManagerLock() throws Exception {
+        int taskId = manager.addNewTask(new Task("Task 1", "Testing reads", TaskStatus.NEW,
+                LocalDateTime.of(2025, 1, 1, 10, 0), Duration.ofMinutes(30)));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            synchronized (manager) {
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        holder.start();
+        try {
+            assertTrue(locked.await(5, TimeUnit.SECONDS), "holder thread must take the manager lock");
+            CompletableFuture<List<Task>> reads = CompletableFuture.supplyAsync(() -> {
+                manager.getTask(taskId);
+                assertEquals(1, manager.getTasks().size(), "task list must be readable");
+                assertEquals(1, manager.getPrioritizedTasks().size(), "prioritized list must be readable");
+                return manager.getHistory();
+            });
+            assertEquals(List.of(taskId), reads.get(5, TimeUnit.SECONDS).stream().map(Task::getId).toList(),
+                    "reads must complete while the manager lock is held");
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PipelinedTaskManagerTest extends TaskManagerTest<PipelinedTaskManager> {
+
+    private static class CountingTaskManager extends InMemoryTaskManager {
+        private final AtomicInteger batches = new AtomicInteger();
+
+        @Override
+        public synchronized <T> T executeBatch(Supplier<T> batch) {
+            batches.incrementAndGet();
+            return super.executeBatch(batch);
+        }
+    }
+
+    @Override
+    protected PipelinedTaskManager createManager() {
+        return Managers.getPipelined(new InMemoryTaskManager());
+    }
+
+    @AfterEach
+    void closeManager() {
+        manager.close();
+    }
+
+    @Test
+    void testQueuedWritesAreAppliedAsOneBatch() throws Exception {
+        CountingTaskManager delegate = new CountingTaskManager();
+        int writes = 50;
+        try (PipelinedTaskManager pipeline = new PipelinedTaskManager(delegate, 128, 128);
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            CountDownLatch release = new CountDownLatch(1);
+            Future<?> blocker = clients.submit(() -> pipeline.executeBatch(() -> {
+                awaitQuietly(release);
+                return null;
+            }));
+            while (delegate.batches.get() == 0) {
+                Thread.onSpinWait();
+            }
+            List<Future<Integer>> ids = new ArrayList<>();
+            for (int i = 0; i < writes; i++) {
+                Task task = new Task("Task " + i, "Testing pipeline", TaskStatus.NEW);
+                ids.add(clients.submit(() -> pipeline.addNewTask(task)));
+            }
+            while (pipeline.getQueueDepth() < writes) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            blocker.get(5, TimeUnit.SECONDS);
+            for (Future<Integer> id : ids) {
+                assertTrue(id.get(5, TimeUnit.SECONDS) > 0, "every write must receive its id");
+            }
+            assertEquals(writes, delegate.getTasks().size(), "every queued write must be applied");
+            assertEquals(2, delegate.batches.get(), "queued writes must be drained as a single batch");
+        }
+    }
+
+    @Test
+    void testFailuresAreReportedToTheirCallerOnly() {
+        int taskId = manager.addNewTask(new Task("Task 1", "Testing pipeline", TaskStatus.NEW));
+
+        assertThrows(NotFoundException.class, () -> manager.deleteTask(taskId + 100),
+                "failed command must rethrow its exception");
+        assertEquals(taskId, manager.getTask(taskId).getId(), "other commands must stay applied");
+    }
+
+    @Test
+    void testNestedCallsFromBatchRunOnWriterThread() {
+        List<Integer> ids = manager.executeBatch(() -> List.of(
+                manager.addNewTask(new Task("Task 1", "Testing pipeline", TaskStatus.NEW)),
+                manager.addNewTask(new Task("Task 2", "Testing pipeline", TaskStatus.NEW))));
+
+        assertEquals(2, ids.size(), "nested writes must not wait on the writer they run on");
+        assertEquals(2, manager.getTasks().size(), "nested writes must be applied");
+    }
+
+    @Test
+    void testClosedPipelineRejectsWrites() {
+        manager.close();
+
+        assertThrows(IllegalStateException.class,
+                () -> manager.addNewTask(new Task("Task 1", "Testing pipeline", TaskStatus.NEW)),
+                "closed pipeline must reject writes");
+    }
+
+    @Test
+    void testWritesRacingCloseAlwaysComplete() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            InMemoryTaskManager delegate = new InMemoryTaskManager();
+            PipelinedTaskManager pipeline = new PipelinedTaskManager(delegate, 4, 4);
+            ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                List<Future<CompletableFuture<Integer>>> writes = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    Task task = new Task("Task " + i, "Testing pipeline", TaskStatus.NEW);
+                    writes.add(clients.submit(() -> pipeline.submitAsync(() -> delegate.addNewTask(task)).durable()));
+                }
+                pipeline.close();
+                for (Future<CompletableFuture<Integer>> write : writes) {
+                    assertDoesNotThrow(() -> write.get(5, TimeUnit.SECONDS).exceptionally(failure -> -1)
+                            .get(5, TimeUnit.SECONDS), "write racing close must be applied or rejected");
+                }
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
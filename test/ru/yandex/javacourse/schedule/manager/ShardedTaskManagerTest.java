@@ -0,0 +1,166 @@
+package ru.yandex.javacourse.schedule.manager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.javacourse.schedule.exceptions.ManagerSaveException;
+import ru.yandex.javacourse.schedule.exceptions.TimeInteractionsException;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.yandex.javacourse.schedule.manager.ShardedTaskManager.ID_BLOCK_SIZE;
+
+class ShardedTaskManagerTest extends TaskManagerTest<ShardedTaskManager> {
+    private static final int SHARDS = 4;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final Duration DURATION = Duration.ofMinutes(60);
+
+    @TempDir
+    Path tempDir;
+
+    @Override
+    protected ShardedTaskManager createManager() {
+        return Managers.getSharded(tempDir.resolve("shards"), SHARDS);
+    }
+
+    @Test
+    void testWriterThreadsAllocateFromOwnShardBlocks() throws Exception {
+        int firstId = manager.addNewTask(new Task("Task 1", "Main thread", TaskStatus.NEW));
+        int secondId;
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            secondId = executor.submit(() -> manager.addNewTask(new Task("Task 2", "Other thread", TaskStatus.NEW))).get();
+        }
+
+        assertEquals(1, firstId, "first writer should start at the first block");
+        assertEquals(ID_BLOCK_SIZE + 1, secondId, "second writer should start at its own block");
+        assertEquals(0, manager.shardOf(firstId), "first id should route to the first shard");
+        assertEquals(1, manager.shardOf(secondId), "second id should route to the second shard");
+        assertEquals(List.of(firstId, secondId), manager.getTasks().stream().map(Task::getId).toList(),
+                "merged list should be ordered by id");
+    }
+
+    @Test
+    void testGeneratorJumpsToNextOwnBlock() {
+        manager.addNewTask(new Task(ID_BLOCK_SIZE, "Task 1", "Block end", TaskStatus.NEW));
+        int nextId = manager.addNewTask(new Task("Task 2", "Next block", TaskStatus.NEW));
+
+        assertEquals(SHARDS * ID_BLOCK_SIZE + 1, nextId, "exhausted block should continue in the shard's next block");
+        assertEquals(0, manager.shardOf(nextId), "next block should belong to the same shard");
+    }
+
+    @Test
+    void testPrioritizedViewMergesShards() {
+        Task late = new Task(1, "Late", "Shard 0", TaskStatus.NEW, START.plusHours(4), DURATION);
+        Task early = new Task(ID_BLOCK_SIZE + 1, "Early", "Shard 1", TaskStatus.NEW, START, DURATION);
+        Task middle = new Task(2 * ID_BLOCK_SIZE + 1, "Middle", "Shard 2", TaskStatus.NEW, START.plusHours(2), DURATION);
+        manager.addNewTask(late);
+        manager.addNewTask(early);
+        manager.addNewTask(middle);
+
+        assertEquals(List.of(early, middle, late), manager.getPrioritizedTasks(),
+                "prioritized view should merge shards by start time");
+        assertEquals(List.of(late, early, middle), manager.getTasks(), "task list should merge shards by id");
+    }
+
+    @Test
+    void testOverlapAcrossShardsIsRejected() {
+        manager.addNewTask(new Task(1, "Existing", "Shard 0", TaskStatus.NEW, START, DURATION));
+        Task crossing = new Task(ID_BLOCK_SIZE + 1, "Crossing", "Shard 1", TaskStatus.NEW,
+                START.plusMinutes(30), DURATION);
+
+        assertThrows(TimeInteractionsException.class, () -> manager.addNewTask(crossing),
+                "overlap with another shard should be rejected");
+        assertEquals(1, manager.getTasks().size(), "rejected task should not be stored");
+    }
+
+    @Test
+    void testBulkSubtasksSpanningShards() {
+        int firstEpicId = manager.addNewEpic(new Epic(1, "Epic 1", "Shard 0"));
+        int secondEpicId = manager.addNewEpic(new Epic(ID_BLOCK_SIZE + 1, "Epic 2", "Shard 1"));
+        List<Subtask> crossing = List.of(
+                new Subtask("Subtask 1", "Shard 0", TaskStatus.NEW, START, DURATION, firstEpicId),
+                new Subtask("Subtask 2", "Shard 1", TaskStatus.NEW, START.plusMinutes(30), DURATION, secondEpicId));
+
+        assertThrows(TimeInteractionsException.class, () -> manager.addNewSubtasks(crossing),
+                "crossing subtasks in different shards should be rejected");
+        assertTrue(manager.getSubtasks().isEmpty(), "rejected batch should not add any subtask");
+
+        List<Integer> ids = manager.addNewSubtasks(List.of(
+                new Subtask("Subtask 1", "Shard 1", TaskStatus.DONE, secondEpicId),
+                new Subtask("Subtask 2", "Shard 0", TaskStatus.DONE, firstEpicId)));
+
+        assertEquals(List.of(ID_BLOCK_SIZE + 2, 2), ids, "ids should follow batch order");
+        assertEquals(TaskStatus.DONE, manager.getEpic(firstEpicId).getStatus(), "first epic should be recomputed");
+        assertEquals(TaskStatus.DONE, manager.getEpic(secondEpicId).getStatus(), "second epic should be recomputed");
+    }
+
+    @Test
+    void testHistoryMergesShardSlicesInViewOrder() {
+        int firstId = manager.addNewTask(new Task(1, "Task 1", "Shard 0", TaskStatus.NEW));
+        int secondId = manager.addNewTask(new Task(ID_BLOCK_SIZE + 1, "Task 2", "Shard 1", TaskStatus.NEW));
+
+        manager.getTask(secondId);
+        manager.getTask(firstId);
+        manager.getTask(secondId);
+
+        assertEquals(List.of(firstId, secondId), manager.getHistory().stream().map(Task::getId).toList(),
+                "history should follow the latest views across shards");
+        manager.deleteTask(secondId);
+        assertEquals(List.of(firstId), manager.getHistory().stream().map(Task::getId).toList(),
+                "deleted task should leave history");
+    }
+
+    @Test
+    void testReloadRestoresShardsAndContinuesIds() {
+        int epicId = manager.addNewEpic(new Epic(ID_BLOCK_SIZE + 1, "Epic", "Shard 1"));
+        int subtaskId = manager.addNewSubtask(new Subtask("Subtask", "Shard 1", TaskStatus.DONE, epicId));
+        manager.addNewTask(new Task("Task", "Shard 0", TaskStatus.NEW, START, DURATION));
+
+        ShardedTaskManager reloaded = Managers.getSharded(tempDir.resolve("shards"), SHARDS);
+
+        assertEquals(manager.getTasks(), reloaded.getTasks(), "tasks should be restored");
+        assertEquals(List.of(subtaskId), reloaded.getEpic(epicId).getSubtaskIds(), "epic links should be restored");
+        assertEquals(TaskStatus.DONE, reloaded.getEpic(epicId).getStatus(), "epic status should be restored");
+        assertEquals(ID_BLOCK_SIZE + 3, (int) reloaded.addNewSubtask(
+                new Subtask("Subtask 2", "Shard 1", TaskStatus.NEW, epicId)), "shard sequence should continue");
+        assertThrows(TimeInteractionsException.class,
+                () -> reloaded.addNewTask(new Task("Crossing", "", TaskStatus.NEW, START, DURATION)),
+                "restored schedule should reject overlaps");
+    }
+
+    @Test
+    void testReloadWithDifferentShardCountIsRejected() {
+        ShardedTaskManager twoShards = Managers.getSharded(tempDir.resolve("resharded"), 2);
+        twoShards.addNewTask(new Task(2 * ID_BLOCK_SIZE + 1, "Task", "Shard 0 of 2", TaskStatus.NEW));
+
+        assertThrows(ManagerSaveException.class, () -> Managers.getSharded(tempDir.resolve("resharded"), SHARDS),
+                "ids routed by another shard count should be rejected");
+        assertFalse(Files.exists(tempDir.resolve("resharded").resolve("shard-2.csv")),
+                "failed open should not leave new shard files behind");
+    }
+
+    @Test
+    void testEveryFailedShardIsReported() throws Exception {
+        Path directory = tempDir.resolve("corrupted");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("shard-0.csv"), "broken header\n");
+        Files.writeString(directory.resolve("shard-1.csv"), "broken header\n");
+
+        ManagerSaveException failure = assertThrows(ManagerSaveException.class,
+                () -> Managers.getSharded(directory, SHARDS), "corrupted shards should be rejected");
+
+        assertEquals(1, failure.getSuppressed().length, "second corrupted shard should be attached as suppressed");
+        assertFalse(Files.exists(directory.resolve("shard-2.csv")), "failed open should not leave new shard files behind");
+        assertTrue(Files.exists(directory.resolve("shard-0.csv")), "existing shard files must be kept");
+    }
+}
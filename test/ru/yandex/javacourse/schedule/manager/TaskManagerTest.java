@@ -2,6 +2,10 @@ package ru.yandex.javacourse.schedule.manager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.exceptions.NotFoundException;
+import ru.yandex.javacourse.schedule.manager.events.EventSubscription;
+import ru.yandex.javacourse.schedule.manager.events.TaskEvent;
+import ru.yandex.javacourse.schedule.manager.events.TaskEventType;
 import ru.yandex.javacourse.schedule.tasks.Epic;
 import ru.yandex.javacourse.schedule.tasks.Subtask;
 import ru.yandex.javacourse.schedule.tasks.Task;
@@ -10,6 +14,7 @@ import ru.yandex.javacourse.schedule.tasks.TaskStatus;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +25,10 @@ public abstract class TaskManagerTest<T extends TaskManager> {
 
     protected abstract T createManager();
 
+    protected boolean cachesListSnapshots() {
+        return true;
+    }
+
     @BeforeEach
     public void initManager() {
         manager = createManager();
@@ -311,4 +320,216 @@ public abstract class TaskManagerTest<T extends TaskManager> {
         assertEquals(task, prioritized.get(1), "middle start task must come second");
         assertEquals(lateTask, prioritized.get(2), "latest start task must come last");
     }
+
+    @Test
+    void testAddNewTasksInBulk() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        Duration duration = Duration.ofMinutes(30);
+        List<Task> batch = List.of(
+                new Task("Task 1", "Bulk task 1", TaskStatus.NEW, start.plusHours(2), duration),
+                new Task("Task 2", "Bulk task 2", TaskStatus.NEW),
+                new Task("Task 3", "Bulk task 3", TaskStatus.NEW, start, duration));
+
+        List<Integer> ids = manager.addNewTasks(batch);
+
+        assertEquals(List.of(1, 2, 3), ids, "ids must be assigned in batch order");
+        assertEquals(3, manager.getTasks().size(), "all tasks must be added");
+        assertEquals(2, manager.getPrioritizedTasks().size(), "timed tasks must be prioritized");
+        assertEquals(batch.get(2), manager.getPrioritizedTasks().getFirst(), "prioritized order must follow start time");
+    }
+
+    @Test
+    void testAddNewTasksInBulkRejectsOverlapsAtomically() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        Duration duration = Duration.ofMinutes(60);
+        manager.addNewTask(new Task("Existing", "Existing task", TaskStatus.NEW, start, duration));
+        List<Task> crossingExisting = List.of(
+                new Task("Task 1", "Free slot", TaskStatus.NEW, start.plusHours(3), duration),
+                new Task("Task 2", "Crosses existing", TaskStatus.NEW, start.plusMinutes(30), duration));
+        List<Task> crossingEachOther = List.of(
+                new Task("Task 3", "Batch slot", TaskStatus.NEW, start.plusHours(5), duration),
+                new Task("Task 4", "Crosses batch", TaskStatus.NEW, start.plusHours(5).plusMinutes(59), duration));
+
+        assertThrows(IllegalArgumentException.class, () -> manager.addNewTasks(crossingExisting),
+                "batch crossing an existing task must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> manager.addNewTasks(crossingEachOther),
+                "batch with crossing items must be rejected");
+        assertEquals(1, manager.getTasks().size(), "rejected batches must not add any task");
+        assertEquals(2, manager.addNewTask(new Task("Task 5", "After rejection", TaskStatus.NEW)),
+                "rejected batches must not advance id generator");
+    }
+
+    @Test
+    void testAddNewSubtasksInBulkRecomputesEpics() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        Duration duration = Duration.ofMinutes(30);
+        int firstEpicId = manager.addNewEpic(new Epic("Epic 1", "Bulk epic 1"));
+        int secondEpicId = manager.addNewEpic(new Epic("Epic 2", "Bulk epic 2"));
+
+        manager.addNewSubtasks(List.of(
+                new Subtask("Subtask 1", "Bulk subtask", TaskStatus.DONE, start, duration, firstEpicId),
+                new Subtask("Subtask 2", "Bulk subtask", TaskStatus.DONE, start.plusHours(1), duration, firstEpicId),
+                new Subtask("Subtask 3", "Bulk subtask", TaskStatus.IN_PROGRESS, secondEpicId)));
+
+        Epic firstEpic = manager.getEpic(firstEpicId);
+        assertEquals(2, firstEpic.getSubtaskIds().size(), "subtasks must be linked to their epic");
+        assertEquals(TaskStatus.DONE, firstEpic.getStatus(), "epic status must be recomputed");
+        assertEquals(start, firstEpic.getStartTime(), "epic start must be recomputed");
+        assertEquals(duration.multipliedBy(2), firstEpic.getDuration(), "epic duration must be recomputed");
+        assertEquals(TaskStatus.IN_PROGRESS, manager.getEpic(secondEpicId).getStatus(),
+                "every affected epic must be recomputed");
+    }
+
+    @Test
+    void testAddNewSubtasksInBulkWithMissingEpic() {
+        int epicId = manager.addNewEpic(new Epic("Epic 1", "Bulk epic"));
+        List<Subtask> batch = List.of(
+                new Subtask("Subtask 1", "Bulk subtask", TaskStatus.NEW, epicId),
+                new Subtask("Subtask 2", "Bulk subtask", TaskStatus.NEW, 999));
+
+        assertThrows(NotFoundException.class, () -> manager.addNewSubtasks(batch),
+                "batch with unknown epic must be rejected");
+        assertTrue(manager.getSubtasks().isEmpty(), "rejected batch must not add any subtask");
+    }
+
+    @Test
+    void testMutationsArePublished() throws InterruptedException {
+        int epicId = manager.addNewEpic(new Epic("Epic 1", "Testing events"));
+        EventSubscription subscription = manager.getEventBus().subscribe(16);
+
+        int subtaskId = manager.addNewSubtask(new Subtask("Subtask 1", "Testing events", TaskStatus.DONE, epicId));
+        manager.deleteSubtask(subtaskId);
+
+        TaskEvent created = subscription.poll(1, TimeUnit.SECONDS);
+        assertEquals(TaskEventType.CREATED, created.eventType(), "creation must be published");
+        assertEquals(subtaskId, created.id(), "created event must carry subtask id");
+        TaskEvent epicUpdated = subscription.poll(1, TimeUnit.SECONDS);
+        assertEquals(TaskEventType.UPDATED, epicUpdated.eventType(), "epic recompute must be published");
+        assertEquals(TaskStatus.DONE, epicUpdated.task().getStatus(), "event must carry recomputed epic");
+        TaskEvent deleted = subscription.poll(1, TimeUnit.SECONDS);
+        assertEquals(TaskEventType.DELETED, deleted.eventType(), "deletion must be published");
+        assertNull(deleted.task(), "deleted event must not carry task snapshot");
+        manager.getEventBus().unsubscribe(subscription);
+    }
+
+    @Test
+    void testStatusIndexesFollowUpdatesAndDeletes() {
+        int taskId = manager.addNewTask(new Task("Task 1", "Testing index", TaskStatus.NEW));
+        manager.addNewTask(new Task("Task 2", "Testing index", TaskStatus.DONE));
+        int epicId = manager.addNewEpic(new Epic("Epic 1", "Testing index"));
+        int otherEpicId = manager.addNewEpic(new Epic("Epic 2", "Testing index"));
+        int subtaskId = manager.addNewSubtask(new Subtask("Subtask 1", "Testing index", TaskStatus.IN_PROGRESS, epicId));
+        manager.addNewSubtask(new Subtask("Subtask 2", "Testing index", TaskStatus.DONE, otherEpicId));
+
+        manager.updateTask(new Task(taskId, "Task 1", "Testing index", TaskStatus.DONE));
+        manager.updateSubtask(new Subtask(subtaskId, "Subtask 1", "Testing index", TaskStatus.DONE, otherEpicId));
+
+        assertTrue(manager.getTasksByStatus(TaskStatus.NEW).isEmpty(), "updated task must leave old status");
+        assertEquals(2, manager.getTasksByStatus(TaskStatus.DONE).size(), "both tasks must be DONE");
+        assertTrue(manager.getSubtasksByStatus(TaskStatus.IN_PROGRESS).isEmpty(),
+                "updated subtask must leave old status");
+        assertTrue(manager.getEpicSubtasksByStatus(epicId, TaskStatus.DONE).isEmpty(),
+                "moved subtask must leave old epic index");
+        assertEquals(2, manager.getEpicSubtasksByStatus(otherEpicId, TaskStatus.DONE).size(),
+                "moved subtask must join new epic index");
+        assertEquals(List.of(otherEpicId), manager.getEpicsByStatus(TaskStatus.DONE).stream().map(Epic::getId).toList(),
+                "recomputed epic status must be indexed");
+        assertEquals(List.of(epicId), manager.getEpicsByStatus(TaskStatus.NEW).stream().map(Epic::getId).toList(),
+                "emptied epic must be indexed as NEW");
+
+        manager.deleteEpic(otherEpicId);
+        manager.deleteTasks();
+
+        assertTrue(manager.getSubtasksByStatus(TaskStatus.DONE).isEmpty(), "deleted subtasks must leave index");
+        assertTrue(manager.getTasksByStatus(TaskStatus.DONE).isEmpty(), "deleted tasks must leave index");
+        assertTrue(manager.getEpicsByStatus(TaskStatus.DONE).isEmpty(), "deleted epic must leave index");
+        assertThrows(NotFoundException.class, () -> manager.getEpicSubtasksByStatus(otherEpicId, TaskStatus.DONE),
+                "deleted epic must not be queryable");
+    }
+
+    @Test
+    void testSearchFollowsUpdatesAndDeletes() {
+        int taskId = manager.addNewTask(new Task("Buy milk", "Grocery store", TaskStatus.NEW));
+        int epicId = manager.addNewEpic(new Epic("Release", "Prepare store release"));
+        int subtaskId = manager.addNewSubtask(new Subtask("Write notes", "Release notes", TaskStatus.NEW, epicId));
+
+        assertEquals(List.of(taskId, epicId), manager.search("store", 10).stream().map(Task::getId).toList(),
+                "search must cover tasks and epics");
+        assertEquals(List.of(epicId, subtaskId), manager.search("release", 10).stream().map(Task::getId).toList(),
+                "search must cover subtasks");
+
+        manager.updateTask(new Task(taskId, "Buy bread", "Bakery", TaskStatus.DONE));
+        manager.deleteSubtask(subtaskId);
+
+        assertEquals(List.of(epicId), manager.search("store OR notes", 10).stream().map(Task::getId).toList(),
+                "updated and deleted tasks must leave index");
+        assertEquals(List.of(taskId), manager.search("bre*", 10).stream().map(Task::getId).toList(),
+                "updated task must be indexed with new text");
+
+        manager.deleteEpics();
+        manager.deleteTasks();
+
+        assertTrue(manager.search("bread OR release", 10).isEmpty(), "cleared storages must leave index");
+    }
+
+    @Test
+    void testSuggestFollowsRenamesAndDeletes() {
+        int taskId = manager.addNewTask(new Task("Plan sprint", "Testing suggest", TaskStatus.NEW));
+        int epicId = manager.addNewEpic(new Epic("Planning", "Testing suggest"));
+        manager.addNewSubtask(new Subtask("Plan subtask", "Testing suggest", TaskStatus.NEW, epicId));
+
+        assertEquals(List.of(taskId, epicId), manager.suggest("plan", 10).stream().map(Task::getId).toList(),
+                "suggest must cover task and epic names only");
+
+        manager.updateTask(new Task(taskId, "Review sprint", "Testing suggest", TaskStatus.NEW));
+        assertEquals(List.of(taskId), manager.suggest("rev", 10).stream().map(Task::getId).toList(),
+                "renamed task must be suggested by new name");
+
+        manager.deleteEpics();
+        assertTrue(manager.suggest("plan", 10).isEmpty(), "deleted epics must not be suggested");
+        assertThrows(IllegalArgumentException.class, () -> manager.suggest(" ", 10), "blank prefix must be rejected");
+    }
+
+    @Test
+    void testListReadsShareSnapshotUntilMutation() {
+        manager.addNewTask(new Task("Task 1", "Testing snapshot", TaskStatus.NEW,
+                LocalDateTime.of(2025, 1, 1, 10, 0), Duration.ofMinutes(30)));
+        List<Task> tasks = manager.getTasks();
+        List<Task> prioritized = manager.getPrioritizedTasks();
+
+        if (cachesListSnapshots()) {
+            assertSame(tasks, manager.getTasks(), "unchanged storage must return the same snapshot");
+            assertSame(prioritized, manager.getPrioritizedTasks(), "unchanged order must return the same snapshot");
+        } else {
+            assertNotSame(tasks, manager.getTasks(), "uncached storage must build a fresh list per read");
+        }
+        assertThrows(UnsupportedOperationException.class, () -> tasks.add(new Task("Task 2", "", TaskStatus.NEW)),
+                "snapshot must be immutable");
+
+        manager.addNewTask(new Task("Task 2", "Testing snapshot", TaskStatus.NEW));
+
+        assertEquals(1, tasks.size(), "published snapshot must not change");
+        assertEquals(2, manager.getTasks().size(), "mutation must publish new snapshot");
+        if (cachesListSnapshots()) {
+            assertSame(prioritized, manager.getPrioritizedTasks(),
+                    "untimed task must not invalidate priority snapshot");
+        }
+        manager.deleteTasks();
+        assertTrue(manager.getPrioritizedTasks().isEmpty(), "deletion must publish new priority snapshot");
+    }
+
+    @Test
+    void testPublishedEpicIsNotRelinkedInPlace() {
+        int epicId = manager.addNewEpic(new Epic("Epic 1", "Testing relink"));
+        Epic published = manager.getEpics().getFirst();
+
+        int subtaskId = manager.addNewSubtask(new Subtask("Subtask 1", "Testing relink", TaskStatus.NEW, epicId));
+
+        assertTrue(published.getSubtaskIds().isEmpty(), "published epic must keep its subtask links");
+        assertEquals(List.of(subtaskId), manager.getEpic(epicId).getSubtaskIds(), "new epic copy must link subtask");
+        manager.deleteSubtask(subtaskId);
+        assertTrue(manager.getEpic(epicId).getSubtaskIds().isEmpty(), "unlinked epic copy must drop subtask");
+        assertThrows(IllegalStateException.class, () -> manager.getEpic(epicId).addSubtaskId(42),
+                "managed epic must reject relinking");
+    }
 }
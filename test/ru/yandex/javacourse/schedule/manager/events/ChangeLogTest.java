@@ -0,0 +1,67 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeLogTest {
+
+    @Test
+    void testAppendAssignsSequences() {
+        ChangeLog changeLog = new ChangeLog(4);
+
+        assertEquals(1, changeLog.append(TaskEventType.CREATED, TaskType.TASK, 10), "first sequence must be 1");
+        assertEquals(2, changeLog.append(TaskEventType.DELETED, TaskType.TASK, 10), "sequence must grow by one");
+        assertEquals(2, changeLog.getLastSequence(), "last sequence must match last append");
+    }
+
+    @Test
+    void testForEachSinceReturnsOnlyNewerEntries() {
+        ChangeLog changeLog = new ChangeLog(4);
+        for (int id = 1; id <= 3; id++) {
+            changeLog.append(TaskEventType.CREATED, TaskType.TASK, id);
+        }
+        List<Integer> ids = new ArrayList<>();
+
+        changeLog.forEachSince(versionOf(changeLog, 1), (sequence, eventType, taskType, id) -> ids.add(id));
+
+        assertEquals(List.of(2, 3), ids, "only entries after requested sequence must be visited");
+    }
+
+    @Test
+    void testAgedOutSequenceIsUnavailable() {
+        ChangeLog changeLog = new ChangeLog(2);
+        for (int id = 1; id <= 5; id++) {
+            changeLog.append(TaskEventType.CREATED, TaskType.TASK, id);
+        }
+        List<Integer> ids = new ArrayList<>();
+
+        assertFalse(changeLog.isAvailableSince(versionOf(changeLog, 2)), "overwritten entries must not be available");
+        assertTrue(changeLog.isAvailableSince(versionOf(changeLog, 3)),
+                "sequence right before oldest entry must be available");
+        assertFalse(changeLog.isAvailableSince(versionOf(changeLog, 6)), "future sequence must not be available");
+        changeLog.forEachSince(versionOf(changeLog, 3), (sequence, eventType, taskType, id) -> ids.add(id));
+        assertEquals(List.of(4, 5), ids, "retained entries must be visited after wrap-around");
+    }
+
+    @Test
+    void testVersionFromAnotherLogIsUnavailable() {
+        ChangeLog first = new ChangeLog(4);
+        ChangeLog second = new ChangeLog(4);
+        first.append(TaskEventType.CREATED, TaskType.TASK, 1);
+        second.append(TaskEventType.CREATED, TaskType.TASK, 1);
+
+        assertNotEquals(first.getVersion().epoch(), second.getVersion().epoch(), "every log must get its own epoch");
+        assertFalse(second.isAvailableSince(first.getVersion()), "version of another log must not be available");
+        assertFalse(second.isAvailableSince(null), "missing version must not be available");
+        assertTrue(second.isAvailableSince(second.getVersion()), "own current version must be available");
+    }
+
+    private static ChangeVersion versionOf(ChangeLog changeLog, long sequence) {
+        return new ChangeVersion(changeLog.getVersion().epoch(), sequence);
+    }
+}
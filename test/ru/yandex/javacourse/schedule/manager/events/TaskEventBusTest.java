@@ -0,0 +1,55 @@
+package ru.yandex.javacourse.schedule.manager.events;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBusTest {
+
+    private TaskEvent event(int id) {
+        return new TaskEvent(id, TaskEventType.DELETED, TaskType.TASK, id, null);
+    }
+
+    @Test
+    void testSubscriberReceivesEventsInOrder() throws InterruptedException {
+        TaskEventBus bus = new TaskEventBus();
+        EventSubscription subscription = bus.subscribe(4);
+
+        bus.publish(event(1));
+        bus.publish(event(2));
+
+        assertEquals(1, subscription.poll(1, TimeUnit.SECONDS).id(), "first event must be delivered first");
+        assertEquals(2, subscription.poll(1, TimeUnit.SECONDS).id(), "second event must be delivered second");
+        assertNull(subscription.poll(10, TimeUnit.MILLISECONDS), "no more events must be pending");
+    }
+
+    @Test
+    void testSlowSubscriberIsDropped() throws InterruptedException {
+        TaskEventBus bus = new TaskEventBus();
+        EventSubscription slow = bus.subscribe(2);
+        EventSubscription fast = bus.subscribe(8);
+
+        for (int id = 1; id <= 3; id++) {
+            bus.publish(event(id));
+        }
+
+        assertTrue(slow.isClosed(), "subscriber with full buffer must be dropped");
+        assertFalse(fast.isClosed(), "subscriber with free buffer must stay subscribed");
+        assertNull(slow.poll(10, TimeUnit.MILLISECONDS), "dropped subscriber must not receive events");
+        assertEquals(1, fast.poll(1, TimeUnit.SECONDS).id(), "remaining subscriber must receive events");
+    }
+
+    @Test
+    void testUnsubscribe() {
+        TaskEventBus bus = new TaskEventBus();
+        EventSubscription subscription = bus.subscribe(1);
+
+        bus.unsubscribe(subscription);
+
+        assertFalse(bus.hasSubscribers(), "bus must have no subscribers after unsubscribe");
+        assertTrue(subscription.isClosed(), "subscription must be closed after unsubscribe");
+    }
+}
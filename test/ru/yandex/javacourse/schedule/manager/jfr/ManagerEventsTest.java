@@ -0,0 +1,73 @@
+package ru.yandex.javacourse.schedule.manager.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.javacourse.schedule.manager.Managers;
+import ru.yandex.javacourse.schedule.manager.TaskManager;
+import ru.yandex.javacourse.schedule.tasks.Epic;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManagerEventsTest {
+    @TempDir
+    Path tempDir;
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path dump = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MutationEvent.class);
+            recording.enable(OverlapCheckEvent.class);
+            recording.enable(EpicRecomputeEvent.class);
+            recording.enable(PersistenceFlushEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump);
+    }
+
+    private List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+
+    @Test
+    void testManagerOperationsEmitEvents() throws Exception {
+        TaskManager manager = Managers.getFileBacked(tempDir.resolve("tasks.csv"));
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        List<RecordedEvent> events = record(() -> {
+            manager.addNewTask(new Task("Task 1", "Description 1", TaskStatus.NEW, start, Duration.ofMinutes(30)));
+            int epicId = manager.addNewEpic(new Epic("Epic 1", "Description 1"));
+            manager.addNewSubtask(new Subtask("Subtask 1", "Description 1", TaskStatus.NEW, epicId));
+        });
+
+        List<RecordedEvent> mutations = ofType(events, "ru.yandex.javacourse.schedule.Mutation");
+        assertEquals(3, mutations.size(), "each mutation must emit an event");
+        assertEquals("addNewTask", mutations.getFirst().getString("operation"), "operation must be recorded");
+        assertEquals("TASK", mutations.getFirst().getString("taskType"), "task type must be recorded");
+        List<RecordedEvent> checks = ofType(events, "ru.yandex.javacourse.schedule.OverlapCheck");
+        assertEquals(1, checks.size(), "only timed tasks must be checked for overlap");
+        assertFalse(checks.getFirst().getBoolean("overlapFound"), "first task must not overlap");
+        assertEquals(1, checks.getFirst().getInt("taskId"), "overlap check must record the reserved id");
+        List<RecordedEvent> recomputes = ofType(events, "ru.yandex.javacourse.schedule.EpicRecompute");
+        assertEquals(1, recomputes.getFirst().getInt("subtaskCount"), "subtask count must be recorded");
+        List<RecordedEvent> flushes = ofType(events, "ru.yandex.javacourse.schedule.PersistenceFlush");
+        assertEquals(3, flushes.size(), "each save must emit a flush event");
+        assertTrue(flushes.getLast().getLong("bytesWritten") > 0, "written bytes must be recorded");
+        assertEquals(3, flushes.getLast().getInt("recordCount"), "flushed record count must be recorded");
+    }
+}
@@ -0,0 +1,81 @@
+package ru.yandex.javacourse.schedule.manager.offheap;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapScheduleTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final OffHeapTaskStore<Task> store = new OffHeapTaskStore<>(TaskType.TASK);
+    private final OffHeapSchedule schedule = new OffHeapSchedule(store::get);
+
+    @Test
+    void testOrdersByStartThenId() {
+        Task late = schedule(3, 60);
+        Task early = schedule(2, 0);
+        Task sameStart = schedule(1, 0);
+
+        assertEquals(List.of(1, 2, 3), ids(schedule), "schedule must order by start, then id");
+        assertEquals(2, schedule.higher(sameStart).getId(), "higher must follow the key order");
+        assertEquals(2, schedule.lower(late).getId(), "lower must follow the key order");
+        assertEquals(3, schedule.ceiling(new Task(9, "Probe", "", TaskStatus.NEW, START.plusMinutes(30),
+                Duration.ofMinutes(5))).getId(), "ceiling must find the next start");
+        assertEquals(List.of(3, 2, 1), ids(schedule.descendingSet()), "descending view must reverse order");
+        assertEquals(List.of(2, 3), ids(schedule.tailSet(early, true)), "tail view must start at its bound");
+
+        assertTrue(schedule.remove(early), "scheduled task must be removable");
+        assertEquals(List.of(1, 3), ids(schedule), "removed key must leave the schedule");
+    }
+
+    @Test
+    void testResolvesTasksFromStore() {
+        schedule(1, 0);
+        store.put(1, new Task(1, "Renamed", "", TaskStatus.DONE, START, Duration.ofMinutes(30)));
+
+        assertEquals("Renamed", schedule.first().getName(), "schedule must hold keys, not task views");
+        assertFalse(schedule.remove(new Task(2, "Untimed", "", TaskStatus.NEW)),
+                "untimed task must never be scheduled");
+    }
+
+    @Test
+    void testAcceptsStartsBeyondIntMinutes() {
+        LocalDateTime farFuture = LocalDateTime.of(9000, 1, 1, 0, 0);
+        LocalDateTime farPast = LocalDateTime.of(-3000, 1, 1, 0, 0);
+        Task future = new Task(1, "Future", "", TaskStatus.NEW, farFuture, Duration.ofMinutes(30));
+        Task past = new Task(2, "Past", "", TaskStatus.NEW, farPast, Duration.ofMinutes(30));
+        store.put(1, future);
+        store.put(2, past);
+
+        assertTrue(future.getStartMinute() > Integer.MAX_VALUE, "start must exceed the int minute range");
+        assertTrue(schedule.add(future), "far future start must be schedulable");
+        assertTrue(schedule.add(past), "far past start must be schedulable");
+        schedule(3, 0);
+
+        assertEquals(List.of(2, 3, 1), ids(schedule), "wide starts must keep start order");
+        assertTrue(schedule.contains(future), "far future start must be found");
+        assertTrue(schedule.remove(past), "far past start must be removable");
+    }
+
+    private Task schedule(int id, int offsetMinutes) {
+        Task task = new Task(id, "Task " + id, "", TaskStatus.NEW, START.plusMinutes(offsetMinutes),
+                Duration.ofMinutes(30));
+        store.put(id, task);
+        schedule.add(task);
+        return task;
+    }
+
+    private static List<Integer> ids(Iterable<Task> tasks) {
+        List<Integer> ids = new ArrayList<>();
+        tasks.forEach(task -> ids.add(task.getId()));
+        return ids;
+    }
+}
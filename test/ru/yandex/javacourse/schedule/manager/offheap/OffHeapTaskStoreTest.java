@@ -0,0 +1,91 @@
+package ru.yandex.javacourse.schedule.manager.offheap;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.javacourse.schedule.tasks.Subtask;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+import ru.yandex.javacourse.schedule.tasks.TaskType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapTaskStoreTest {
+
+    @Test
+    void testMaterializesStoredFields() {
+        OffHeapTaskStore<Subtask> store = new OffHeapTaskStore<>(TaskType.SUBTASK);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        store.put(5, new Subtask(5, "Имя", "Описание", TaskStatus.IN_PROGRESS, start, Duration.ofMinutes(90), 2));
+
+        Subtask view = store.get(5);
+
+        assertEquals("Имя", view.getName(), "name must survive UTF-8 round trip");
+        assertEquals("Описание", view.getDescription(), "description must survive UTF-8 round trip");
+        assertEquals(TaskStatus.IN_PROGRESS, view.getStatus(), "status must be stored");
+        assertEquals(start, view.getStartTime(), "start time must be stored");
+        assertEquals(Duration.ofMinutes(90), view.getDuration(), "duration must be stored");
+        assertEquals(2, view.getEpicId(), "epic id must be stored");
+        assertTrue(view.isManaged(), "materialized view must be immutable");
+    }
+
+    @Test
+    void testRemoveKeepsOtherRecordsReachable() {
+        OffHeapTaskStore<Task> store = new OffHeapTaskStore<>(TaskType.TASK);
+        for (int id = 1; id <= 3_000; id++) {
+            store.put(id, new Task(id, "Task " + id, "Description", TaskStatus.NEW));
+        }
+        for (int id = 1; id <= 3_000; id += 2) {
+            assertNotNull(store.remove(id), "stored task must be removed");
+        }
+
+        assertEquals(1_500, store.size(), "half of the tasks must remain");
+        for (int id = 2; id <= 3_000; id += 2) {
+            assertEquals("Task " + id, store.get(id).getName(), "remaining task must be intact: " + id);
+        }
+        assertNull(store.get(1), "removed task must be absent");
+        assertFalse(store.containsKey(2_999), "removed id must be absent");
+    }
+
+    @Test
+    void testOverwritesSurviveStringCompaction() {
+        OffHeapTaskStore<Task> store = new OffHeapTaskStore<>(TaskType.TASK);
+        String payload = "x".repeat(4_096);
+        for (int round = 0; round < 600; round++) {
+            store.put(1, new Task(1, "Round " + round, payload, TaskStatus.NEW));
+            store.put(2, new Task(2, "Stable", null, TaskStatus.DONE));
+        }
+
+        assertEquals("Round 599", store.get(1).getName(), "latest overwrite must win");
+        assertEquals(payload, store.get(1).getDescription(), "description must survive compaction");
+        assertNull(store.get(2).getDescription(), "null strings must be preserved");
+        assertEquals(2, store.size(), "overwrites must not add records");
+    }
+
+    @Test
+    void testRemovesTriggerStringCompaction() {
+        OffHeapTaskStore<Task> store = new OffHeapTaskStore<>(TaskType.TASK);
+        String payload = "x".repeat(4_096);
+        for (int id = 1; id <= 600; id++) {
+            store.put(id, new Task(id, "Task " + id, payload, TaskStatus.NEW));
+        }
+        for (int id = 2; id <= 600; id++) {
+            store.remove(id);
+        }
+
+        assertTrue(store.stringBytes() < 1_200_000, "removed strings must be compacted away");
+        assertEquals(payload, store.get(1).getDescription(), "remaining task must survive compaction");
+    }
+
+    @Test
+    void testRejectsWrongType() {
+        OffHeapTaskStore<Task> store = new OffHeapTaskStore<>(TaskType.TASK);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> store.put(3, new Subtask(3, "Subtask", "Description", TaskStatus.NEW, 1)),
+                "store must reject tasks of another type");
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapTaskStore<>(TaskType.EPIC),
+                "epics must not be stored off-heap");
+    }
+}
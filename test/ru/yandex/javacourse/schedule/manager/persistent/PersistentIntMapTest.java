@@ -0,0 +1,49 @@
+package ru.yandex.javacourse.schedule.manager.persistent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentIntMapTest {
+
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Integer, String> expected = new HashMap<>();
+        PersistentIntMap<String> map = PersistentIntMap.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(-5_000, 5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, "v" + i);
+                map = map.plus(key, "v" + i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size(), "size must match reference map");
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()), "value must match for key " + entry.getKey());
+        }
+        Map<Integer, String> iterated = new HashMap<>();
+        map.forEach(entry -> iterated.put(entry.getKey(), entry.getValue()));
+        assertEquals(expected, iterated, "iteration must visit every entry once");
+    }
+
+    @Test
+    void testOldVersionsStayUnchanged() {
+        PersistentIntMap<String> first = PersistentIntMap.<String>empty().plus(1, "a").plus(33, "b");
+        PersistentIntMap<String> second = first.plus(1, "c").minus(33).plus(65, "d");
+
+        assertEquals("a", first.get(1), "old version must keep replaced value");
+        assertEquals("b", first.get(33), "old version must keep removed key");
+        assertNull(first.get(65), "old version must not see added key");
+        assertEquals(2, second.size(), "new version must reflect changes");
+        assertSame(second, second.minus(100), "removing missing key must not copy");
+    }
+}
@@ -0,0 +1,133 @@
+package ru.yandex.javacourse.schedule.manager.persistent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentSortedSetTest {
+
+    @Test
+    void testMatchesTreeSetUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+        PersistentSortedSet<Integer> set = PersistentSortedSet.empty(Comparator.naturalOrder());
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                set = set.minus(value);
+            } else {
+                expected.add(value);
+                set = set.plus(value);
+            }
+        }
+
+        assertEquals(expected.size(), set.size(), "size must match reference set");
+        List<Integer> iterated = new ArrayList<>();
+        set.forEach(iterated::add);
+        assertEquals(new ArrayList<>(expected), iterated, "iteration must be sorted");
+        for (int probe = -1; probe <= 5_000; probe += 7) {
+            assertEquals(expected.lower(probe), set.lower(probe), "lower must match for " + probe);
+            assertEquals(expected.floor(probe), set.floor(probe), "floor must match for " + probe);
+            assertEquals(expected.ceiling(probe), set.ceiling(probe), "ceiling must match for " + probe);
+            assertEquals(expected.higher(probe), set.higher(probe), "higher must match for " + probe);
+        }
+    }
+
+    @Test
+    void testOldVersionsStayUnchanged() {
+        PersistentSortedSet<Integer> first = PersistentSortedSet.<Integer>empty(Comparator.naturalOrder())
+                .plus(2).plus(1).plus(3);
+        PersistentSortedSet<Integer> second = first.minus(2).plus(4);
+
+        assertTrue(first.contains(2), "old version must keep removed value");
+        assertFalse(first.contains(4), "old version must not see added value");
+        assertEquals(1, (int) second.first(), "new version must keep smallest value");
+        assertEquals(4, (int) second.last(), "new version must see added value");
+        assertSame(second, second.plus(4), "adding existing value must not copy");
+    }
+
+    @Test
+    void testStoreRangeViewsMatchTreeSet() {
+        TreeSet<Integer> expected = new TreeSet<>(List.of(1, 3, 5, 7, 9));
+        PersistentSortedSetStore<Integer> store = new PersistentSortedSetStore<>(Comparator.naturalOrder());
+        store.addAll(expected);
+
+        assertEquals(expected.subSet(3, 8), store.subSet(3, 8), "subSet must match reference set");
+        assertEquals(expected.subSet(3, false, 9, true), store.subSet(3, false, 9, true),
+                "inclusive subSet must match reference set");
+        assertEquals(expected.headSet(5), store.headSet(5), "headSet must match reference set");
+        assertEquals(expected.headSet(5, true), store.headSet(5, true), "inclusive headSet must match reference set");
+        assertEquals(expected.tailSet(5), store.tailSet(5), "tailSet must match reference set");
+        assertEquals(expected.tailSet(5, false), store.tailSet(5, false), "exclusive tailSet must match reference set");
+        assertEquals(new ArrayList<>(expected.descendingSet()), new ArrayList<>(store.descendingSet()),
+                "descendingSet must be reversed");
+        List<Integer> descending = new ArrayList<>();
+        store.descendingIterator().forEachRemaining(descending::add);
+        assertEquals(List.of(9, 7, 5, 3, 1), descending, "descendingIterator must walk backwards");
+        assertThrows(UnsupportedOperationException.class, () -> store.headSet(5).add(2),
+                "range views must be read-only snapshots");
+    }
+
+    @Test
+    void testNestedRangeViewsMatchTreeSet() {
+        SplittableRandom random = new SplittableRandom(7);
+        TreeSet<Integer> reference = new TreeSet<>();
+        PersistentSortedSetStore<Integer> store = new PersistentSortedSetStore<>(Comparator.naturalOrder());
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(1_000);
+            reference.add(value);
+            store.add(value);
+        }
+
+        for (int round = 0; round < 200; round++) {
+            int from = random.nextInt(400);
+            int to = 600 + random.nextInt(400);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+            NavigableSet<Integer> expected = reference.subSet(from, fromInclusive, to, toInclusive);
+            NavigableSet<Integer> actual = store.subSet(from, fromInclusive, to, toInclusive);
+            if (random.nextBoolean()) {
+                expected = expected.descendingSet();
+                actual = actual.descendingSet();
+            }
+            int inner = 400 + random.nextInt(200);
+            expected = expected.headSet(inner, true);
+            actual = actual.headSet(inner, true);
+
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(actual), "nested view must iterate like TreeSet");
+            assertEquals(new ArrayList<>(expected.descendingSet()), new ArrayList<>(actual.descendingSet()),
+                    "reversed nested view must iterate like TreeSet");
+            assertEquals(expected.size(), actual.size(), "nested view size must match");
+            for (int probe = from - 10; probe <= to + 10; probe += 13) {
+                assertEquals(expected.lower(probe), actual.lower(probe), "lower must match for " + probe);
+                assertEquals(expected.floor(probe), actual.floor(probe), "floor must match for " + probe);
+                assertEquals(expected.ceiling(probe), actual.ceiling(probe), "ceiling must match for " + probe);
+                assertEquals(expected.higher(probe), actual.higher(probe), "higher must match for " + probe);
+                assertEquals(expected.contains(probe), actual.contains(probe), "contains must match for " + probe);
+            }
+            if (!expected.isEmpty()) {
+                assertEquals(expected.first(), actual.first(), "first must match");
+                assertEquals(expected.last(), actual.last(), "last must match");
+            }
+        }
+    }
+
+    @Test
+    void testRangeViewRejectsBoundsOutsideItsRange() {
+        PersistentSortedSetStore<Integer> store = new PersistentSortedSetStore<>(Comparator.naturalOrder());
+        store.addAll(List.of(1, 3, 5, 7, 9));
+
+        assertThrows(IllegalArgumentException.class, () -> store.subSet(3, 7).headSet(8),
+                "head bound beyond the view must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> store.subSet(7, 3),
+                "inverted bounds must be rejected");
+    }
+}
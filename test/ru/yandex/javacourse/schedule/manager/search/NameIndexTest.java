@@ -0,0 +1,64 @@
+package ru.yandex.javacourse.schedule.manager.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    private NameIndex createIndex() {
+        NameIndex index = new NameIndex();
+        index.add(3, "Release notes");
+        index.add(1, "Refactor parser");
+        index.add(2, "release");
+        index.add(4, "Buy milk");
+        return index;
+    }
+
+    @Test
+    void testSuggestReturnsPrefixMatchesInNameOrder() {
+        NameIndex index = createIndex();
+
+        assertArrayEquals(new int[]{1, 2, 3}, index.suggest("RE", 10), "prefix match must ignore case");
+        assertArrayEquals(new int[]{2, 3}, index.suggest("rel", 10), "shorter names must come first");
+        assertArrayEquals(new int[]{2}, index.suggest("rel", 1), "limit must cap suggestions");
+        assertArrayEquals(new int[0], index.suggest("zzz", 10), "prefix past the end must match nothing");
+    }
+
+    @Test
+    void testRemoveKeepsOtherEntries() {
+        NameIndex index = createIndex();
+
+        index.remove(2, "release");
+        index.removeIf(id -> id == 1);
+
+        assertArrayEquals(new int[]{3}, index.suggest("re", 10), "removed names must not be suggested");
+        assertEquals(2, index.size(), "index must shrink after removal");
+    }
+
+    @Test
+    void testDuplicateNamesKeptPerId() {
+        NameIndex index = new NameIndex();
+        index.add(7, "Standup");
+        index.add(5, "Standup");
+        index.add(5, "Standup");
+
+        assertArrayEquals(new int[]{5, 7}, index.suggest("stand", 10), "equal names must be ordered by id");
+    }
+
+    @Test
+    void testSuggestMergesPendingAndCompactedEntries() {
+        NameIndex index = new NameIndex();
+        for (int id = 1; id <= 5_000; id++) {
+            index.add(id, "Task " + id);
+        }
+        for (int id = 1; id <= 5_000; id += 2) {
+            index.remove(id, "Task " + id);
+        }
+        index.add(1, "Task 1");
+
+        assertEquals(2_501, index.size(), "size must count live entries only");
+        assertArrayEquals(new int[]{1, 10, 100, 1000, 1002}, index.suggest("task 1", 5),
+                "suggestions must merge compacted and pending entries in name order");
+    }
+}
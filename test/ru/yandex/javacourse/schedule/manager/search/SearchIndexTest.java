@@ -0,0 +1,73 @@
+package ru.yandex.javacourse.schedule.manager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+
+    private SearchIndex createIndex() {
+        SearchIndex index = new SearchIndex();
+        index.index(1, "Buy milk", "Go to the store");
+        index.index(2, "Buy bread", "Bakery on the corner");
+        index.index(3, "Write report", "Quarterly store report");
+        return index;
+    }
+
+    @Test
+    void testTokenizerSplitsAndLowercases() {
+        assertEquals(List.of("fix", "bug", "42", "срочно"), Tokenizer.tokenize("Fix bug-42, СРОЧНО!"),
+                "tokenizer must split on non-word characters and lowercase");
+    }
+
+    @Test
+    void testAndQueryIntersectsPostings() {
+        SearchIndex index = createIndex();
+
+        assertArrayEquals(new int[]{1}, index.search(SearchQuery.parse("buy store"), 10),
+                "AND query must return documents containing every term");
+    }
+
+    @Test
+    void testOrQueryRanksByMatchedTerms() {
+        SearchIndex index = createIndex();
+
+        assertArrayEquals(new int[]{3, 1, 2}, index.search(SearchQuery.parse("report OR store OR bread"), 10),
+                "documents matching more terms must rank first, ties by id");
+        assertArrayEquals(new int[]{3, 1}, index.search(SearchQuery.parse("report OR store OR bread"), 2),
+                "limit must keep only top results");
+    }
+
+    @Test
+    void testPrefixQueryMatchesTermRange() {
+        SearchIndex index = createIndex();
+
+        assertArrayEquals(new int[]{1, 2}, index.search(SearchQuery.parse("bu*"), 10),
+                "prefix query must match every term starting with prefix");
+        assertArrayEquals(new int[0], index.search(SearchQuery.parse("bu"), 10),
+                "exact query must not match longer terms");
+    }
+
+    @Test
+    void testReindexAndRemoveUpdatePostings() {
+        SearchIndex index = createIndex();
+
+        index.index(1, "Sell milk", "Market");
+        index.remove(2);
+
+        assertArrayEquals(new int[0], index.search(SearchQuery.parse("buy"), 10),
+                "stale terms must be removed from postings");
+        assertArrayEquals(new int[]{1}, index.search(SearchQuery.parse("sell"), 10), "new terms must be indexed");
+        assertEquals(2, index.size(), "removed document must leave index");
+    }
+
+    @Test
+    void testEmptyQueryRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SearchQuery.parse("  "),
+                "blank query must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> SearchQuery.parse("OR !!"),
+                "query without words must be rejected");
+    }
+}
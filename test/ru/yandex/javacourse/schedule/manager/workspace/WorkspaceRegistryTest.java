@@ -0,0 +1,126 @@
+package ru.yandex.javacourse.schedule.manager.workspace;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.javacourse.schedule.manager.Managers;
+import ru.yandex.javacourse.schedule.tasks.Task;
+import ru.yandex.javacourse.schedule.tasks.TaskStatus;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.yandex.javacourse.schedule.manager.workspace.WorkspaceRegistry.BASE_FOOTPRINT_BYTES;
+
+class WorkspaceRegistryTest {
+    private static final long TWO_WORKSPACES = 2 * BASE_FOOTPRINT_BYTES + 10_000;
+
+    @TempDir
+    Path tempDir;
+
+    private WorkspaceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new WorkspaceRegistry(tempDir, TWO_WORKSPACES);
+    }
+
+    @Test
+    void testWorkspaceIsLoadedOnFirstAcquire() {
+        assertFalse(registry.isLoaded("alpha"), "workspace should not be loaded before use");
+
+        try (WorkspaceRegistry.Lease lease = registry.acquire("alpha")) {
+            lease.taskManager().addNewTask(new Task("Task", "Alpha", TaskStatus.NEW));
+        }
+        try (WorkspaceRegistry.Lease lease = registry.acquire("alpha")) {
+            assertEquals(1, lease.taskManager().getTasks().size(), "loaded workspace should be reused");
+        }
+
+        assertTrue(registry.isLoaded("alpha"), "workspace should stay loaded within budget");
+        assertEquals(1, registry.loadCount(), "workspace should be loaded once");
+    }
+
+    @Test
+    void testWorkspacesAreIsolated() {
+        addTask("alpha", "Alpha task");
+        addTask("beta", "Beta task");
+
+        try (WorkspaceRegistry.Lease alpha = registry.acquire("alpha");
+             WorkspaceRegistry.Lease beta = registry.acquire("beta")) {
+            assertNotSame(alpha.taskManager(), beta.taskManager(), "workspaces should have own managers");
+            assertEquals("Alpha task", alpha.taskManager().getTasks().getFirst().getName(), "alpha should keep own task");
+            assertEquals("Beta task", beta.taskManager().getTasks().getFirst().getName(), "beta should keep own task");
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedWorkspaceIsUnloadedOverBudget() {
+        addTask("alpha", "Alpha task");
+        addTask("beta", "Beta task");
+        registry.acquire("alpha").close();
+        addTask("gamma", "Gamma task");
+
+        assertFalse(registry.isLoaded("beta"), "least recently used workspace should be unloaded");
+        assertTrue(registry.isLoaded("alpha"), "recently used workspace should stay loaded");
+        assertTrue(registry.isLoaded("gamma"), "new workspace should stay loaded");
+        assertEquals(1, registry.evictionCount(), "one workspace should be evicted");
+        assertTrue(registry.loadedBytes() <= TWO_WORKSPACES, "loaded estimate should fit the budget");
+    }
+
+    @Test
+    void testPinnedWorkspaceIsNotUnloaded() {
+        addTask("alpha", "Alpha task");
+        WorkspaceRegistry.Lease pinned = registry.acquire("alpha");
+        try {
+            addTask("beta", "Beta task");
+            addTask("gamma", "Gamma task");
+
+            assertTrue(registry.isLoaded("alpha"), "pinned workspace should stay loaded");
+            assertFalse(registry.isLoaded("beta"), "unpinned workspace should be unloaded instead");
+        } finally {
+            pinned.close();
+        }
+    }
+
+    @Test
+    void testUnloadedWorkspaceIsReloadedFromStorage() {
+        addTask("alpha", "Alpha task");
+        addTask("beta", "Beta task");
+        addTask("gamma", "Gamma task");
+        assertFalse(registry.isLoaded("alpha"), "alpha should be unloaded");
+
+        try (WorkspaceRegistry.Lease lease = registry.acquire("alpha")) {
+            assertEquals("Alpha task", lease.taskManager().getTasks().getFirst().getName(),
+                    "reloaded workspace should keep stored tasks");
+        }
+        assertEquals(4, registry.loadCount(), "unloaded workspace should be loaded again");
+    }
+
+    @Test
+    void testZeroBudgetKeepsNothingLoaded() {
+        WorkspaceRegistry unbuffered = new WorkspaceRegistry(tempDir, 0, Managers::getFileBacked);
+        WorkspaceRegistry.Lease lease = unbuffered.acquire("alpha");
+        try {
+            assertTrue(unbuffered.isLoaded("alpha"), "leased workspace should be loaded");
+        } finally {
+            lease.close();
+        }
+
+        assertEquals(0, unbuffered.loadedCount(), "released workspace should be unloaded");
+        assertEquals(0, unbuffered.loadedBytes(), "estimate should drop with unloaded workspace");
+    }
+
+    @Test
+    void testInvalidWorkspaceIdIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> registry.acquire("../alpha"),
+                "path-like id should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> registry.acquire(""), "empty id should be rejected");
+        assertEquals(0, registry.loadedCount(), "rejected id should not be registered");
+    }
+
+    private void addTask(String workspaceId, String name) {
+        try (WorkspaceRegistry.Lease lease = registry.acquire(workspaceId)) {
+            lease.taskManager().addNewTask(new Task(name, "Workspace " + workspaceId, TaskStatus.NEW));
+        }
+    }
+}
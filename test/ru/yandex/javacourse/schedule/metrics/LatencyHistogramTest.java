@@ -0,0 +1,47 @@
+package ru.yandex.javacourse.schedule.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketBoundsContainRecordedValue() {
+        long[] values = {0, 7, 8, 15, 16, 1_000, 123_456, 987_654_321L};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.upperBoundOf(index) >= value, "bucket upper bound must cover " + value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.upperBoundOf(index - 1) < value,
+                        "previous bucket must end before " + value);
+            }
+        }
+    }
+
+    @Test
+    void testPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(10_000, histogram.getCount(), "every value must be counted");
+        long median = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(Math.abs(median - 5_000_000) <= 5_000_000 / 8, "median must be within bucket precision");
+        assertTrue(Math.abs(p99 - 9_900_000) <= 9_900_000 / 8, "p99 must be within bucket precision");
+    }
+
+    @Test
+    void testCountAtOrBelow() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        histogram.record(1_023);
+        histogram.record(5_000);
+
+        assertEquals(2, histogram.countAtOrBelow(1_023), "values up to power-of-two boundary must be counted");
+        assertEquals(3, histogram.countAtOrBelow(Long.MAX_VALUE), "all values must be counted below max");
+        assertEquals(6_523, histogram.getSum(), "sum must accumulate recorded values");
+    }
+}
@@ -2,7 +2,13 @@ package ru.yandex.javacourse.schedule.tasks;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TaskTest {
 
@@ -13,4 +19,24 @@ public class TaskTest {
         assertEquals(t0, t1, "task entities should be compared by id");
     }
 
+    @Test
+    public void testTimeStoredAsEpochMinutes() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 30);
+        Task task = new Task(1, "Test 1", "Testing task 1", TaskStatus.NEW, start, Duration.ofMinutes(45));
+
+        assertTrue(task.hasStartTime(), "timed task should report start time");
+        assertEquals(task.getStartMinute() + 45, task.getEndMinute(), "end minute should be start plus duration");
+        assertEquals(start, task.getStartTime(), "start time should round-trip through epoch minutes");
+        assertEquals(start.plusMinutes(45), task.getEndTime(), "end time should be derived from epoch minutes");
+    }
+
+    @Test
+    public void testTaskWithoutStartTime() {
+        Task task = new Task(1, "Test 1", "Testing task 1", TaskStatus.NEW);
+
+        assertFalse(task.hasStartTime(), "untimed task should not report start time");
+        assertNull(task.getStartTime(), "untimed task should have no start time");
+        assertNull(task.getEndTime(), "untimed task should have no end time");
+        assertEquals(Duration.ZERO, task.getDuration(), "untimed task should have zero duration");
+    }
 }